@@ -15,7 +15,16 @@
  */
 package org.contextmapper.dsl.ide.tests;
 
+import java.io.File;
+
+import org.contextmapper.dsl.ide.server.CMLProjectManager;
+import org.contextmapper.dsl.ide.server.CMLServerModule;
 import org.eclipse.xtext.testing.AbstractLanguageServerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.inject.Module;
 
 /**
  * AbstractLanguageServerTest for the Context Mapper DSL (CML) language.
@@ -29,4 +38,20 @@ public abstract class AbstractCMLLanguageServerTest extends AbstractLanguageServ
 		super("cml");
 	}
 
+	@BeforeEach
+	public void useTemporaryIndexDirectory(@TempDir File indexDirectory) {
+		// every test starts without a stored index
+		System.setProperty(CMLProjectManager.INDEX_DIRECTORY_PROPERTY, indexDirectory.getAbsolutePath());
+	}
+
+	@AfterEach
+	public void resetIndexDirectory() {
+		System.clearProperty(CMLProjectManager.INDEX_DIRECTORY_PROPERTY);
+	}
+
+	@Override
+	protected Module getServerModule() {
+		return CMLServerModule.create();
+	}
+
 }
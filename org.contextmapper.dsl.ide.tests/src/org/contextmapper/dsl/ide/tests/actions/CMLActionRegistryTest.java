@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.actions;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.ide.actions.CMLActionRegistry;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.lsp4j.Command;
+import org.junit.jupiter.api.Test;
+
+public class CMLActionRegistryTest {
+
+	private static final String MERGE_BOUNDED_CONTEXTS = "Merge Bounded Contexts";
+
+	@Test
+	public void canReuseCommandsForSameDocumentVersion() {
+		// given
+		CMLActionRegistry registry = new CMLActionRegistry();
+		ContextMappingModel model = createModel("FirstContext", "SecondContext");
+		CMLResource resource = createResource(model);
+		assertTrue(hasCommand(registry.getApplicableActionCommands(resource, 1, Arrays.asList(model.getBoundedContexts().get(0)))));
+
+		// when
+		model.getBoundedContexts().remove(1);
+
+		// then
+		assertTrue(hasCommand(registry.getApplicableActionCommands(resource, 1, Arrays.asList(model.getBoundedContexts().get(0)))));
+	}
+
+	@Test
+	public void canRecomputeCommandsForNewResourceSet() {
+		// given
+		CMLActionRegistry registry = new CMLActionRegistry();
+		ContextMappingModel model = createModel("FirstContext", "SecondContext");
+		assertTrue(hasCommand(registry.getApplicableActionCommands(createResource(model), 1, Arrays.asList(model.getBoundedContexts().get(0)))));
+
+		// when
+		ContextMappingModel reloadedModel = createModel("FirstContext");
+		List<? extends Command> commands = registry.getApplicableActionCommands(createResource(reloadedModel), 1, Arrays.asList(reloadedModel.getBoundedContexts().get(0)));
+
+		// then
+		assertFalse(hasCommand(commands));
+	}
+
+	@Test
+	public void canRemoveCachedCommandsOfClosedDocument() {
+		// given
+		CMLActionRegistry registry = new CMLActionRegistry();
+		ContextMappingModel model = createModel("FirstContext", "SecondContext");
+		CMLResource resource = createResource(model);
+		assertTrue(hasCommand(registry.getApplicableActionCommands(resource, 1, Arrays.asList(model.getBoundedContexts().get(0)))));
+		model.getBoundedContexts().remove(1);
+
+		// when
+		registry.removeCachedActionCommands(resource.getURI().toString());
+
+		// then
+		assertFalse(hasCommand(registry.getApplicableActionCommands(resource, 1, Arrays.asList(model.getBoundedContexts().get(0)))));
+	}
+
+	private boolean hasCommand(List<? extends Command> commands) {
+		return commands.stream().anyMatch(command -> MERGE_BOUNDED_CONTEXTS.equals(command.getTitle()));
+	}
+
+	private ContextMappingModel createModel(String... boundedContextNames) {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		for (String name : boundedContextNames) {
+			BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+			boundedContext.setName(name);
+			model.getBoundedContexts().add(boundedContext);
+		}
+		return model;
+	}
+
+	private CMLResource createResource(ContextMappingModel model) {
+		ResourceImpl resource = new ResourceImpl(URI.createURI("action-registry-test.cml"));
+		resource.getContents().add(model);
+		new ResourceSetImpl().getResources().add(resource);
+		return new CMLResource(resource);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.junit.jupiter.api.Test;
+
+public class CMLSelectionContextTest {
+
+	@Test
+	public void canProvideSelectedObjectsByType() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext boundedContext = createBoundedContext(model, "TestContext");
+		Aggregate aggregate = createAggregate(boundedContext, "TestAggregate");
+
+		// when
+		CMLSelectionContext selectionContext = new CMLSelectionContext(createResource(model), Arrays.asList(boundedContext, aggregate, aggregate));
+
+		// then
+		Set<BoundedContext> selectedContexts = selectionContext.getSelectedObjects(BoundedContext.class);
+		assertEquals(1, selectedContexts.size());
+		assertSame(boundedContext, selectedContexts.iterator().next());
+		assertEquals(1, selectionContext.getSelectedObjects(Aggregate.class).size());
+		assertSame(selectedContexts, selectionContext.getSelectedObjects(BoundedContext.class));
+		assertTrue(selectionContext.hasSelectedObjects(Aggregate.class));
+		assertFalse(selectionContext.hasSelectedObjects(Partnership.class));
+	}
+
+	@Test
+	public void canResolveParentAndAggregatesOfSelectedAggregate() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		BoundedContext boundedContext = createBoundedContext(model, "TestContext");
+		Aggregate aggregate = createAggregate(boundedContext, "TestAggregate");
+		SculptorModule module = ContextMappingDSLFactory.eINSTANCE.createSculptorModule();
+		module.setName("TestModule");
+		boundedContext.getModules().add(module);
+		Aggregate aggregateInModule = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregateInModule.setName("AggregateInModule");
+		module.getAggregates().add(aggregateInModule);
+
+		// when
+		CMLSelectionContext selectionContext = new CMLSelectionContext(createResource(model), Arrays.asList(aggregateInModule));
+
+		// then
+		assertSame(boundedContext, selectionContext.getParentBoundedContext(aggregateInModule));
+		List<Aggregate> aggregates = selectionContext.getAllAggregates(boundedContext);
+		assertEquals(2, aggregates.size());
+		assertTrue(aggregates.contains(aggregate));
+		assertTrue(aggregates.contains(aggregateInModule));
+	}
+
+	private CMLResource createResource(ContextMappingModel model) {
+		ResourceImpl resource = new ResourceImpl(URI.createURI("selection-context-test.cml"));
+		resource.getContents().add(model);
+		return new CMLResource(resource);
+	}
+
+	private BoundedContext createBoundedContext(ContextMappingModel model, String name) {
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName(name);
+		model.getBoundedContexts().add(boundedContext);
+		return boundedContext;
+	}
+
+	private Aggregate createAggregate(BoundedContext boundedContext, String name) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName(name);
+		boundedContext.getAggregates().add(aggregate);
+		return aggregate;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.ide.ContextMappingDSLIdeSetup;
+import org.contextmapper.dsl.ide.actions.SelectionContextResolver;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.resource.EObjectAtOffsetHelper;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Injector;
+
+public class SelectionContextResolverTest {
+
+	private static final String MODEL = String.join("\n", //
+			"ContextMap {", //
+			"	contains CustomerContext, PolicyContext", //
+			"	CustomerContext [U]->[D] PolicyContext // customers", //
+			"}", //
+			"BoundedContext CustomerContext {", //
+			"	Aggregate Customers {", //
+			"		Entity Customer {", //
+			"			aggregateRoot", //
+			"			String name", //
+			"			- Address address", //
+			"		}", //
+			"		ValueObject Address", //
+			"	}", //
+			"}", //
+			"BoundedContext PolicyContext", //
+			"");
+
+	private SelectionContextResolver resolver;
+	private EObjectAtOffsetHelper offsetHelper;
+	private CMLResource resource;
+
+	@BeforeEach
+	public void prepare() throws IOException {
+		Injector injector = new ContextMappingDSLIdeSetup().createInjectorAndDoEMFRegistration();
+		resolver = injector.getInstance(SelectionContextResolver.class);
+		offsetHelper = injector.getInstance(EObjectAtOffsetHelper.class);
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource xtextResource = (XtextResource) resourceSet.createResource(URI.createURI("dummy:/selection-test.cml"));
+		xtextResource.load(new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		resource = new CMLResource(xtextResource);
+	}
+
+	@Test
+	public void canResolveSameObjectsAsOffsetHelper() {
+		for (int start = 0; start < MODEL.length(); start++) {
+			for (int end = start; end < Math.min(start + 40, MODEL.length()); end++) {
+				// when
+				List<EObject> selectedObjects = resolver.resolveAllSelectedEObjects(resource, start, end);
+
+				// then
+				List<EObject> expectedObjects = resolveEveryOffset(start, end);
+				assertEquals(expectedObjects.size(), selectedObjects.size(), "selection " + start + "-" + end);
+				assertTrue(identitySet(selectedObjects).containsAll(expectedObjects), "selection " + start + "-" + end);
+				assertTrue(selectedObjects.get(0) == expectedObjects.get(0), "selection " + start + "-" + end);
+			}
+		}
+	}
+
+	@Test
+	public void canResolveReferencedAndContainedObjects() {
+		// given
+		int start = MODEL.indexOf("BoundedContext CustomerContext");
+		int end = MODEL.indexOf("ValueObject Address");
+
+		// when
+		List<EObject> selectedObjects = resolver.resolveAllSelectedEObjects(resource, start, end);
+
+		// then
+		BoundedContext customerContext = resource.getContextMappingModel().getBoundedContexts().get(0);
+		Aggregate customers = customerContext.getAggregates().get(0);
+		assertTrue(selectedObjects.get(0) == customerContext);
+		assertTrue(selectedObjects.contains(customers));
+		assertTrue(selectedObjects.contains(customers.getDomainObjects().get(1)));
+	}
+
+	private List<EObject> resolveEveryOffset(int start, int end) {
+		List<EObject> objects = Lists.newArrayList();
+		Set<EObject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = start; i <= end; i++) {
+			EObject object = offsetHelper.resolveElementAt((XtextResource) resource.getXtextResource(), i);
+			if (object != null && visited.add(object))
+				objects.add(object);
+		}
+		return objects;
+	}
+
+	private Set<EObject> identitySet(List<EObject> objects) {
+		Set<EObject> set = Collections.newSetFromMap(new IdentityHashMap<>());
+		set.addAll(objects);
+		return set;
+	}
+
+}
@@ -20,6 +20,12 @@ import java.io.File
 import org.contextmapper.dsl.ide.commands.CMLCommandService
 import org.contextmapper.dsl.ide.tests.commands.AbstractCMLCommandTest
 import org.eclipse.lsp4j.ExecuteCommandParams
+import org.eclipse.lsp4j.ProgressParams
+import org.eclipse.lsp4j.WorkDoneProgressBegin
+import org.eclipse.lsp4j.WorkDoneProgressEnd
+import org.eclipse.lsp4j.WorkDoneProgressReport
+import org.eclipse.lsp4j.jsonrpc.messages.Either
+import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
 
 import static extension org.junit.jupiter.api.Assertions.assertTrue
@@ -54,4 +60,34 @@ class PlantUMLGeneratorCommandTest extends AbstractCMLCommandTest {
 		new File(srcGenFolder, "test_ContextMap.puml").exists.assertTrue
 	}
 
+	@Test
+	def void canReportProgressPerGeneratedFile() {
+		// given
+		initializeCommandsDynamically()
+		val model = '''
+			ContextMap {
+				contains context1, context2
+				
+				context1 -> context2
+			}
+			BoundedContext context1
+			BoundedContext context2
+		'''
+		val fileURI = 'test.cml'.writeFile(model)
+
+		// when
+		val params = new ExecuteCommandParams("cml.generate.puml", #[new JsonPrimitive(fileURI)])
+		params.workDoneToken = Either.forLeft("generation-progress")
+		val resultVal = languageServer.executeCommand(params).get as String
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(resultVal)
+		val progress = notifications.filter[key == "$/progress"].map[value as ProgressParams].filter [
+			token.getLeft() == "generation-progress"
+		].map[value.getLeft()].toList
+		assertTrue(progress.head instanceof WorkDoneProgressBegin)
+		Assertions.assertEquals(3, progress.filter(WorkDoneProgressReport).size)
+		assertTrue(progress.last instanceof WorkDoneProgressEnd)
+	}
+
 }
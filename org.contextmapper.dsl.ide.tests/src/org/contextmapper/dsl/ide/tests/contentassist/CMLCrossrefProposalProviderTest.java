@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.contentassist;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CMLCrossrefProposalProviderTest extends AbstractCMLLanguageServerTest {
+
+	@Test
+	public void canProposeImportedBoundedContextsWithPrefix() throws Exception {
+		// given
+		writeFile("imported.cml", "BoundedContext CustomerManagement\nBoundedContext CustomerSupport\nBoundedContext Billing");
+		writeFile("other.cml", "BoundedContext CustomerCare");
+		String model = "import \"./imported.cml\"\nContextMap {\n\tcontains Cust\n}\nBoundedContext CustomerFrontend";
+		String fileURI = writeFile("test.cml", model);
+		initialize();
+		open(fileURI, model);
+
+		// when
+		CompletionList completionList = complete(fileURI, 2, 14);
+
+		// then
+		List<String> labels = getLabels(completionList);
+		assertTrue(labels.contains("CustomerManagement"));
+		assertTrue(labels.contains("CustomerSupport"));
+		assertTrue(labels.contains("CustomerFrontend"));
+		assertFalse(labels.contains("Billing"));
+		assertFalse(labels.contains("CustomerCare"));
+	}
+
+	@Test
+	public void canProposeAggregatesIgnoringCase() throws Exception {
+		// given
+		String model = "ContextMap {\n\tcontains CustomerContext, ContractContext\n\tCustomerContext -> ContractContext {\n\t\texposedAggregates cust\n\t}\n}\n"
+				+ "BoundedContext CustomerContext {\n\tAggregate Customers\n\tAggregate Contracts\n}\nBoundedContext ContractContext";
+		String fileURI = writeFile("test.cml", model);
+		initialize();
+		open(fileURI, model);
+
+		// when
+		CompletionList completionList = complete(fileURI, 3, 24);
+
+		// then
+		List<String> labels = getLabels(completionList);
+		assertTrue(labels.contains("Customers"));
+		assertFalse(labels.contains("Contracts"));
+	}
+
+	@Test
+	public void canLimitProposalsToFirstNamesInAlphabeticalOrder() throws Exception {
+		// given
+		StringBuilder contexts = new StringBuilder();
+		for (int i = 149; i >= 0; i--) {
+			contexts.append(String.format("BoundedContext Context%03d\n", i));
+		}
+		writeFile("contexts.cml", contexts.toString());
+		String model = "import \"./contexts.cml\"\nContextMap {\n\tcontains Con\n}";
+		String fileURI = writeFile("test.cml", model);
+		initialize();
+		open(fileURI, model);
+
+		// when
+		CompletionList completionList = complete(fileURI, 2, 13);
+
+		// then
+		List<String> labels = getLabels(completionList);
+		assertTrue(completionList.isIncomplete());
+		Assertions.assertEquals(100, labels.size());
+		assertTrue(labels.contains("Context000"));
+		assertTrue(labels.contains("Context099"));
+		assertFalse(labels.contains("Context100"));
+	}
+
+	@Test
+	public void canProposeBoundedContextsOfEditedFileFirst() throws Exception {
+		// given
+		writeFile("imported.cml", "BoundedContext CustomerAccounting\nBoundedContext CustomerBilling");
+		String model = "import \"./imported.cml\"\nContextMap {\n\tcontains Cust\n}\nBoundedContext CustomerSupport";
+		String fileURI = writeFile("test.cml", model);
+		initialize();
+		open(fileURI, model);
+
+		// when
+		CompletionList completionList = complete(fileURI, 2, 14);
+
+		// then (the names are followed by the keyword proposals)
+		Assertions.assertEquals(Arrays.asList("CustomerSupport", "CustomerAccounting", "CustomerBilling"), getLabels(completionList).subList(0, 3));
+	}
+
+	@Test
+	public void canProposeNamesOfChangedImportedFile() throws Exception {
+		// given
+		String importedModel = "BoundedContext CustomerManagement";
+		String importedFileURI = writeFile("imported.cml", importedModel);
+		String model = "import \"./imported.cml\"\nContextMap {\n\tcontains Cust\n}";
+		String fileURI = writeFile("test.cml", model);
+		initialize();
+		open(importedFileURI, importedModel);
+		open(fileURI, model);
+		complete(fileURI, 2, 14);
+
+		// when
+		languageServer.didChange(new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(importedFileURI, 2),
+				Arrays.asList(new TextDocumentContentChangeEvent("BoundedContext CustomerSupport"))));
+		CompletionList completionList = complete(fileURI, 2, 14);
+
+		// then
+		List<String> labels = getLabels(completionList);
+		assertTrue(labels.contains("CustomerSupport"));
+		assertFalse(labels.contains("CustomerManagement"));
+	}
+
+	private CompletionList complete(String fileURI, int line, int character) throws Exception {
+		return languageServer.completion(new CompletionParams(new TextDocumentIdentifier(fileURI), new Position(line, character))).get().getRight();
+	}
+
+	private List<String> getLabels(CompletionList completionList) {
+		return completionList.getItems().stream().map(CompletionItem::getLabel).collect(Collectors.toList());
+	}
+
+}
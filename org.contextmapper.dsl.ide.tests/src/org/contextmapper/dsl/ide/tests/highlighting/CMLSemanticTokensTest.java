@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.highlighting;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.contextmapper.dsl.ide.highlighting.CMLSemanticHighlightingCalculator;
+import org.contextmapper.dsl.ide.server.CMLSemanticTokensService;
+import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Inject;
+
+public class CMLSemanticTokensTest extends AbstractCMLLanguageServerTest {
+
+	private static final String MODEL = "ContextMap {\n\tcontains A, B\n\tBigBallOfMud Mud contexts(A, B);\n}\nBoundedContext A\nBoundedContext B\n";
+
+	@Inject
+	private CMLSemanticTokensService semanticTokensService;
+
+	@Test
+	public void canClassifyBoundedContextsAndStrategicAddonElements() throws Exception {
+		// given
+		initialize();
+		String fileURI = writeFile("test.cml", MODEL);
+		open(fileURI, MODEL);
+
+		// when
+		SemanticTokens tokens = languageServer.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(fileURI))).get();
+
+		// then
+		assertTrue(containsToken(tokens.getData(), 1, 10, 1, CMLSemanticHighlightingCalculator.CLASS));
+		assertTrue(containsToken(tokens.getData(), 2, 14, 3, CMLSemanticHighlightingCalculator.TYPE, CMLSemanticHighlightingCalculator.DECLARATION,
+				CMLSemanticHighlightingCalculator.STRATEGIC_ADDON));
+		assertTrue(containsToken(tokens.getData(), 2, 27, 1, CMLSemanticHighlightingCalculator.CLASS));
+		assertTrue(containsToken(tokens.getData(), 4, 15, 1, CMLSemanticHighlightingCalculator.CLASS, CMLSemanticHighlightingCalculator.DECLARATION));
+	}
+
+	@Test
+	public void canReturnOnlyChangedTokensAsDelta() throws Exception {
+		// given
+		initialize();
+		String fileURI = writeFile("test.cml", MODEL);
+		open(fileURI, MODEL);
+		SemanticTokens tokens = languageServer.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(fileURI))).get();
+
+		// when
+		change(fileURI, 2, MODEL.replace("BoundedContext B", "BoundedContext Bee"));
+		Either<SemanticTokens, SemanticTokensDelta> delta = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(fileURI), tokens.getResultId())).get();
+
+		// then
+		assertTrue(delta.isRight());
+		Assertions.assertEquals(1, delta.getRight().getEdits().size());
+		Assertions.assertEquals(tokens.getData().size() - 5, delta.getRight().getEdits().get(0).getStart());
+		Assertions.assertEquals(5, delta.getRight().getEdits().get(0).getDeleteCount());
+		Assertions.assertEquals(3, delta.getRight().getEdits().get(0).getData().get(2));
+	}
+
+	@Test
+	public void canReturnEmptyDeltaForUnchangedDocument() throws Exception {
+		// given
+		initialize();
+		String fileURI = writeFile("test.cml", MODEL);
+		open(fileURI, MODEL);
+		SemanticTokens tokens = languageServer.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(fileURI))).get();
+
+		// when
+		Either<SemanticTokens, SemanticTokensDelta> delta = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(fileURI), tokens.getResultId())).get();
+
+		// then
+		assertTrue(delta.isRight());
+		assertTrue(delta.getRight().getEdits().isEmpty());
+		Assertions.assertEquals(tokens.getResultId(), delta.getRight().getResultId());
+	}
+
+	@Test
+	public void canReturnFullTokensForUnknownPreviousResult() throws Exception {
+		// given
+		initialize();
+		String fileURI = writeFile("test.cml", MODEL);
+		open(fileURI, MODEL);
+
+		// when
+		Either<SemanticTokens, SemanticTokensDelta> delta = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(fileURI), "unknown")).get();
+
+		// then
+		assertTrue(delta.isLeft());
+		assertTrue(containsToken(delta.getLeft().getData(), 4, 15, 1, CMLSemanticHighlightingCalculator.CLASS, CMLSemanticHighlightingCalculator.DECLARATION));
+	}
+
+	private boolean containsToken(List<Integer> data, int line, int character, int length, String tokenType, String... tokenModifiers) {
+		int expectedType = semanticTokensService.getTokenTypes().indexOf(tokenType);
+		int expectedModifiers = 0;
+		for (String tokenModifier : tokenModifiers) {
+			expectedModifiers |= 1 << semanticTokensService.getTokenModifiers().indexOf(tokenModifier);
+		}
+		int currentLine = 0;
+		int currentCharacter = 0;
+		for (int i = 0; i < data.size(); i += 5) {
+			currentCharacter = data.get(i) == 0 ? currentCharacter + data.get(i + 1) : data.get(i + 1);
+			currentLine += data.get(i);
+			if (currentLine == line && currentCharacter == character)
+				return data.get(i + 2) == length && data.get(i + 3) == expectedType && data.get(i + 4) == expectedModifiers;
+		}
+		return false;
+	}
+
+	private void change(String fileURI, int version, String content) throws Exception {
+		languageServer.didChange(new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(fileURI, version),
+				Arrays.asList(new TextDocumentContentChangeEvent(content))));
+		languageServer.getRequestManager().runRead(cancelIndicator -> null).get();
+	}
+
+}
@@ -16,8 +16,14 @@
 package org.contextmapper.dsl.ide.tests.quickfixes
 
 import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest
+import org.eclipse.lsp4j.ClientCapabilities
+import org.eclipse.lsp4j.CodeActionCapabilities
+import org.eclipse.lsp4j.CodeActionResolveSupportCapabilities
+import org.eclipse.lsp4j.TextDocumentClientCapabilities
 import org.junit.jupiter.api.Test
 
+import static org.junit.jupiter.api.Assertions.assertNull
+
 class ExtractIDValueObjectQuickFixTest extends AbstractCMLLanguageServerTest {
 
 	@Test
@@ -61,4 +67,102 @@ class ExtractIDValueObjectQuickFixTest extends AbstractCMLLanguageServerTest {
 		]
 	}
 
+	@Test
+	def void canResolveEditLazily() {
+		testCodeAction [
+			initializer = [
+				capabilities = new ClientCapabilities => [
+					textDocument = new TextDocumentClientCapabilities => [
+						codeAction = new CodeActionCapabilities => [
+							resolveSupport = new CodeActionResolveSupportCapabilities(#["edit"])
+						]
+					]
+				]
+			]
+			model = '''
+				BoundedContext TestContext {
+					Aggregate TestAggregate {
+						Entity Customer { 
+							String customerId
+							String firstname
+							String lastname
+						}
+					}
+				}
+			'''
+			assertCodeActions = [
+				val quickFix = filter[isRight].map[getRight].head
+				assertNull(quickFix.edit)
+
+				val resolvedQuickFix = languageServer.resolveCodeAction(quickFix).get
+				assertEquals('''
+					changes :
+					    MyModel.cml : 
+					        Aggregate TestAggregate {
+					            Entity Customer {
+					                String firstname
+					                String lastname
+					                - CustomerId customerId
+					            }
+					            ValueObject CustomerId {
+					                String id
+					            }
+					        }
+					     [[0, 28] .. [8, 0]]
+					documentChanges : 
+				'''.toString, toExpectation(resolvedQuickFix.edit))
+			]
+		]
+	}
+
+	@Test
+	def void canResolveEditRepeatedlyForSameDocumentVersion() {
+		testCodeAction [
+			initializer = [
+				capabilities = new ClientCapabilities => [
+					textDocument = new TextDocumentClientCapabilities => [
+						codeAction = new CodeActionCapabilities => [
+							resolveSupport = new CodeActionResolveSupportCapabilities(#["edit"])
+						]
+					]
+				]
+			]
+			model = '''
+				BoundedContext TestContext {
+					Aggregate TestAggregate {
+						Entity Customer { 
+							String customerId
+							String firstname
+							String lastname
+						}
+					}
+				}
+			'''
+			assertCodeActions = [
+				val quickFix = filter[isRight].map[getRight].head
+
+				// the second edit is recorded on the (reverted) copy of the first one
+				val firstEdit = toExpectation(languageServer.resolveCodeAction(quickFix).get.edit)
+				val secondEdit = toExpectation(languageServer.resolveCodeAction(quickFix).get.edit)
+				assertEquals(firstEdit, secondEdit)
+				assertEquals('''
+					changes :
+					    MyModel.cml : 
+					        Aggregate TestAggregate {
+					            Entity Customer {
+					                String firstname
+					                String lastname
+					                - CustomerId customerId
+					            }
+					            ValueObject CustomerId {
+					                String id
+					            }
+					        }
+					     [[0, 28] .. [8, 0]]
+					documentChanges : 
+				'''.toString, secondEdit)
+			]
+		]
+	}
+
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.ide.server.CMLProjectManager;
+import org.contextmapper.dsl.ide.server.CMLServerModule;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.resource.IExternalContentSupport.IExternalContentProvider;
+import org.eclipse.xtext.resource.impl.ProjectDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.UriExtensions;
+import org.eclipse.xtext.workspace.FileProjectConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.Maps;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class CMLProjectManagerTest {
+
+	@TempDir
+	File tempDirectory;
+
+	private File projectDirectory;
+	private File indexDirectory;
+	private Injector injector;
+
+	@BeforeEach
+	public void prepare() {
+		projectDirectory = new File(tempDirectory, "project");
+		projectDirectory.mkdir();
+		indexDirectory = new File(tempDirectory, "index");
+		System.setProperty(CMLProjectManager.INDEX_DIRECTORY_PROPERTY, indexDirectory.getAbsolutePath());
+		injector = Guice.createInjector(CMLServerModule.create());
+	}
+
+	@AfterEach
+	public void resetIndexDirectory() {
+		System.clearProperty(CMLProjectManager.INDEX_DIRECTORY_PROPERTY);
+	}
+
+	@Test
+	public void canRestoreIndexAndBuildChangedFilesOnly() throws IOException {
+		// given
+		URI contextA = writeFile("a.cml", "BoundedContext A");
+		URI contextB = writeFile("b.cml", "import \"./a.cml\"\nContextMap {\n\tcontains A, B\n}\nBoundedContext B");
+		CMLProjectManager firstSession = createProjectManager();
+		firstSession.doInitialBuild(CancelIndicator.NullImpl);
+		assertEquals(1, indexDirectory.listFiles().length);
+
+		// when
+		writeFile("b.cml", "import \"./a.cml\"\nContextMap {\n\tcontains A, B\n}\nBoundedContext B\nBoundedContext C");
+		CMLProjectManager secondSession = createProjectManager();
+		IncrementalBuilder.Result result = secondSession.doInitialBuild(CancelIndicator.NullImpl);
+
+		// then
+		assertEquals(Set.of(contextB), getAffectedURIs(result));
+		assertNotNull(secondSession.getIndexState().getResourceDescriptions().getResourceDescription(contextA));
+	}
+
+	@Test
+	public void canRebuildDependentFilesOfChangedFile() throws IOException {
+		// given
+		URI contextA = writeFile("a.cml", "BoundedContext A");
+		URI contextB = writeFile("b.cml", "import \"./a.cml\"\nContextMap {\n\tcontains A, B\n}\nBoundedContext B");
+		writeFile("c.cml", "BoundedContext C");
+		createProjectManager().doInitialBuild(CancelIndicator.NullImpl);
+
+		// when
+		writeFile("a.cml", "BoundedContext RenamedA");
+		IncrementalBuilder.Result result = createProjectManager().doInitialBuild(CancelIndicator.NullImpl);
+
+		// then
+		Set<URI> affectedURIs = getAffectedURIs(result);
+		assertTrue(affectedURIs.contains(contextA));
+		assertTrue(affectedURIs.contains(contextB));
+		assertEquals(2, affectedURIs.size());
+	}
+
+	@Test
+	public void canRemoveDeletedFilesFromRestoredIndex() throws IOException {
+		// given
+		writeFile("a.cml", "BoundedContext A");
+		URI contextB = writeFile("b.cml", "BoundedContext B");
+		createProjectManager().doInitialBuild(CancelIndicator.NullImpl);
+
+		// when
+		new File(projectDirectory, "b.cml").delete();
+		CMLProjectManager projectManager = createProjectManager();
+		projectManager.doInitialBuild(CancelIndicator.NullImpl);
+
+		// then
+		assertNull(projectManager.getIndexState().getResourceDescriptions().getResourceDescription(contextB));
+	}
+
+	private CMLProjectManager createProjectManager() {
+		ProjectManager projectManager = injector.getInstance(ProjectManager.class);
+		FileProjectConfig projectConfig = new FileProjectConfig(projectDirectory, "test");
+		projectConfig.addSourceFolder(".");
+		ProjectDescription projectDescription = new ProjectDescription();
+		projectDescription.setName("test");
+		Map<String, ResourceDescriptionsData> indexByProject = Maps.newHashMap();
+		projectManager.initialize(projectDescription, projectConfig, (uri, issues) -> {
+		}, new NoOpenedDocuments(), () -> indexByProject, CancelIndicator.NullImpl);
+		return (CMLProjectManager) projectManager;
+	}
+
+	private URI writeFile(String fileName, String content) throws IOException {
+		File file = new File(projectDirectory, fileName);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return new UriExtensions().withEmptyAuthority(URI.createFileURI(file.getAbsolutePath()));
+	}
+
+	private Set<URI> getAffectedURIs(IncrementalBuilder.Result result) {
+		return result.getAffectedResources().stream().map(delta -> delta.getUri()).collect(Collectors.toSet());
+	}
+
+	private static class NoOpenedDocuments implements IExternalContentProvider {
+
+		@Override
+		public String getContent(URI uri) {
+			return null;
+		}
+
+		@Override
+		public boolean hasContent(URI uri) {
+			return false;
+		}
+
+		@Override
+		public IExternalContentProvider getActualContentProvider() {
+			return this;
+		}
+
+	}
+
+}
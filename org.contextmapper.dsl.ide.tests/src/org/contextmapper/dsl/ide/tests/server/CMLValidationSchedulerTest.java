@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.server;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.contextmapper.dsl.ide.server.CMLValidationScheduler;
+import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.xtext.xbase.lib.Pair;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+
+public class CMLValidationSchedulerTest extends AbstractCMLLanguageServerTest {
+
+	private static final long TIMEOUT_MILLIS = 20000;
+
+	// long enough for all changes of a test to be made before it expires
+	private static final long VALIDATION_DELAY_MILLIS = 2000;
+
+	@Inject
+	private CMLValidationScheduler validationScheduler;
+
+	@BeforeAll
+	public static void useLongerValidationDelay() {
+		System.setProperty(CMLValidationScheduler.VALIDATION_DELAY_PROPERTY, String.valueOf(VALIDATION_DELAY_MILLIS));
+	}
+
+	@AfterAll
+	public static void resetValidationDelay() {
+		System.clearProperty(CMLValidationScheduler.VALIDATION_DELAY_PROPERTY);
+	}
+
+	@Test
+	public void canValidateOnlyLatestVersionOfChangedDocument() throws Exception {
+		// given
+		initialize();
+		String fileURI = writeFile("test.cml", "BoundedContext TestContext");
+		open(fileURI, "BoundedContext TestContext");
+		int previouslyPublishedDiagnostics = getPublishedDiagnostics(fileURI).size();
+
+		// when
+		change(fileURI, 2, "BoundedContext TestContext implements");
+		change(fileURI, 3, "BoundedContext TestContext implements Missing");
+		change(fileURI, 4, "ContextMap {\n\tcontains MissingContext\n}");
+		waitFor(() -> validationScheduler.getMetrics().getValidatedDocuments() >= 1 && validationScheduler.getMetrics().getQueueDepth() == 0
+				&& validationScheduler.getMetrics().getRunningValidations() == 0);
+
+		// then
+		CMLValidationScheduler.ValidationMetrics metrics = validationScheduler.getMetrics();
+		Assertions.assertEquals(1, metrics.getValidatedDocuments());
+		assertTrue(metrics.getSupersededValidations() >= 1);
+		assertTrue(metrics.getMaxDocumentLatencyMillis() >= VALIDATION_DELAY_MILLIS);
+		List<PublishDiagnosticsParams> publishedDiagnostics = getPublishedDiagnostics(fileURI);
+		Assertions.assertEquals(previouslyPublishedDiagnostics + 1, publishedDiagnostics.size());
+		Assertions.assertEquals(1, publishedDiagnostics.get(publishedDiagnostics.size() - 1).getDiagnostics().size());
+		assertTrue(publishedDiagnostics.get(publishedDiagnostics.size() - 1).getDiagnostics().get(0).getMessage().contains("MissingContext"));
+	}
+
+	@Test
+	public void canValidateDependentDocumentsAfterChangedDocument() throws Exception {
+		// given
+		initialize();
+		String importedFileURI = writeFile("imported.cml", "BoundedContext ImportedContext");
+		String importingFileURI = writeFile("importing.cml", "import \"./imported.cml\"\nContextMap {\n\tcontains ImportedContext\n}");
+		open(importedFileURI, "BoundedContext ImportedContext");
+		open(importingFileURI, "import \"./imported.cml\"\nContextMap {\n\tcontains ImportedContext\n}");
+		assertTrue(getDiagnostics().get(importingFileURI).isEmpty());
+
+		// when
+		change(importedFileURI, 2, "BoundedContext RenamedContext");
+		waitFor(() -> validationScheduler.getMetrics().getValidatedDependents() >= 1 && validationScheduler.getMetrics().getQueueDepth() == 0
+				&& validationScheduler.getMetrics().getRunningValidations() == 0);
+
+		// then
+		Assertions.assertEquals(1, validationScheduler.getMetrics().getValidatedDocuments());
+		assertFalse(getDiagnostics().get(importingFileURI).isEmpty());
+		List<String> publishedURIs = Lists.newArrayList();
+		for (Pair<String, Object> notification : Lists.newArrayList(notifications)) {
+			if (notification.getValue() instanceof PublishDiagnosticsParams)
+				publishedURIs.add(((PublishDiagnosticsParams) notification.getValue()).getUri());
+		}
+		assertTrue(publishedURIs.lastIndexOf(importedFileURI) < publishedURIs.lastIndexOf(importingFileURI));
+	}
+
+	private void change(String fileURI, int version, String content) throws Exception {
+		languageServer.didChange(new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(fileURI, version),
+				Arrays.asList(new TextDocumentContentChangeEvent(content))));
+		// wait for the build of the change (the next request waits for it)
+		languageServer.getRequestManager().runRead(cancelIndicator -> null).get();
+	}
+
+	private List<PublishDiagnosticsParams> getPublishedDiagnostics(String fileURI) {
+		List<PublishDiagnosticsParams> publishedDiagnostics = Lists.newArrayList();
+		for (Pair<String, Object> notification : Lists.newArrayList(notifications)) {
+			if (notification.getValue() instanceof PublishDiagnosticsParams && ((PublishDiagnosticsParams) notification.getValue()).getUri().equals(fileURI))
+				publishedDiagnostics.add((PublishDiagnosticsParams) notification.getValue());
+		}
+		return publishedDiagnostics;
+	}
+
+	private void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (!condition.getAsBoolean() && System.currentTimeMillis() - start < TIMEOUT_MILLIS) {
+			Thread.sleep(50);
+		}
+		assertTrue(condition.getAsBoolean(), "Timed out waiting for validation: " + validationScheduler.getMetrics());
+	}
+
+}
@@ -17,10 +17,18 @@ package org.contextmapper.dsl.ide
 
 import org.contextmapper.dsl.ide.actions.CMLActionService
 import org.contextmapper.dsl.ide.commands.CMLCommandService
+import org.contextmapper.dsl.ide.contentassist.CMLCrossrefProposalProvider
+import org.contextmapper.dsl.ide.contentassist.CMLReferenceNameIndex
+import org.contextmapper.dsl.ide.highlighting.CMLSemanticHighlightingCalculator
 import org.contextmapper.dsl.ide.hover.CMLHoverService
+import org.contextmapper.dsl.ide.symbol.CMLDocumentSymbolService
+import org.eclipse.xtext.ide.editor.contentassist.IdeCrossrefProposalProvider
+import org.eclipse.xtext.ide.editor.syntaxcoloring.ISemanticHighlightingCalculator
+import org.eclipse.xtext.ide.server.ILanguageServerExtension
 import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2
 import org.eclipse.xtext.ide.server.commands.IExecutableCommandService
 import org.eclipse.xtext.ide.server.hover.HoverService
+import org.eclipse.xtext.ide.server.symbol.HierarchicalDocumentSymbolService
 
 /**
  * Use this class to register ide components.
@@ -39,4 +47,20 @@ class ContextMappingDSLIdeModule extends AbstractContextMappingDSLIdeModule {
 		return CMLHoverService
 	}
 
+	def Class<? extends ISemanticHighlightingCalculator> bindISemanticHighlightingCalculator() {
+		return CMLSemanticHighlightingCalculator
+	}
+
+	def Class<? extends HierarchicalDocumentSymbolService> bindHierarchicalDocumentSymbolService() {
+		return CMLDocumentSymbolService
+	}
+
+	def Class<? extends IdeCrossrefProposalProvider> bindIdeCrossrefProposalProvider() {
+		return CMLCrossrefProposalProvider
+	}
+
+	def Class<? extends ILanguageServerExtension> bindILanguageServerExtension() {
+		return CMLReferenceNameIndex
+	}
+
 }
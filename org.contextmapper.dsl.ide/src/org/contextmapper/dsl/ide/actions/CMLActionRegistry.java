@@ -16,13 +16,23 @@
 package org.contextmapper.dsl.ide.actions;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.SharedKernel;
+import org.contextmapper.dsl.contextMappingDSL.Stakeholder;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.contextmapper.dsl.contextMappingDSL.UserStory;
+import org.contextmapper.dsl.contextMappingDSL.Value;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.ide.actions.impl.AddEthicalValueAssessmentAction;
 import org.contextmapper.dsl.ide.actions.impl.CreateStakeholderForUserStoryRoleAction;
@@ -60,17 +70,26 @@ import org.contextmapper.dsl.validation.DomainObjectValidator;
 import org.contextmapper.dsl.validation.UserRequirementsValidator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionCapabilities;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.InitializeResult;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.JsonObject;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 
 /**
  * Class to register all code actions (refactoring and transformation commands)
@@ -80,51 +99,60 @@ import com.google.inject.Inject;
  * @author Stefan Kapferer
  *
  */
+@Singleton
 public class CMLActionRegistry {
 
 	@Inject
 	private WorkspaceEditRecorder editRecorder;
 	@Inject
 	private SelectionContextResolver selectionResolver;
+	private List<ActionRegistration> actionRegistry;
 	private Map<String, List<CMLQuickFix<? extends EObject>>> quickFixActionRegistry;
 	private Map<String, List<QuickfixCommandMapper>> quickFixCommandRegistry;
 
 	private static final String XTEXT_DIAGNOSTICS_PREFIX = "org.eclipse.xtext.diagnostics";
+	private static final int MAX_CACHED_SELECTIONS = 64;
+
+	private Map<String, ActionCommandsCache> actionCommandsCache = Maps.newHashMap();
+
+	/**
+	 * Key of the document URI in the data of quick fixes that are resolved
+	 * lazily.
+	 */
+	public static final String CODE_ACTION_DATA_URI = "uri";
 
 	public CMLActionRegistry() {
+		this.actionRegistry = Lists.newArrayList();
 		this.quickFixActionRegistry = Maps.newHashMap();
 		this.quickFixCommandRegistry = Maps.newHashMap();
+		this.registerAllActions();
 		this.registerAllQuickFixes();
 	}
 
-	private List<CMLCodeAction> getAllActions(CMLResource resource, List<EObject> selectedObjects) {
-		List<CMLCodeAction> codeActions = Lists.newLinkedList();
-
-		// add new AR here:
-		codeActions.add(new SplitBoundedContextByOwnerAction(resource, selectedObjects));
-		codeActions.add(new SplitBoundedContextByFeaturesAction(resource, selectedObjects));
-		codeActions.add(new SplitAggregateByEntitiesAction(resource, selectedObjects));
-		codeActions.add(new DeriveSubdomainFromUserRequirementsAction(resource, selectedObjects));
-		codeActions.add(new DeriveBoundedContextFromSubdomainsAction(resource, selectedObjects));
-		codeActions.add(new DeriveFrontendAndBackendFromFeatureBCAction(resource, selectedObjects));
-		codeActions.add(new SplitSystemIntoSubsystemsAction(resource, selectedObjects));
-		codeActions.add(new ExtractAggregatesByVolatilityAction(resource, selectedObjects));
-		codeActions.add(new ExtractAggregatesByCohesionAction(resource, selectedObjects));
-		codeActions.add(new MergeAggregatesAction(resource, selectedObjects));
-		codeActions.add(new MergeBoundedContextsAction(resource, selectedObjects));
-		codeActions.add(new ExtractSharedKernelAction(resource, selectedObjects));
-		codeActions.add(new SuspendPartnershipAction(resource, selectedObjects));
-		codeActions.add(new SwitchFromPartnershipToSharedKernelAction(resource, selectedObjects));
-		codeActions.add(new SwitchFromSharedKernelToPartnershipAction(resource, selectedObjects));
+	private void registerAllActions() {
+		// add new AR here (the selection type is the type of object that must be selected):
+		registerAction(BoundedContext.class, SplitBoundedContextByOwnerAction::new);
+		registerAction(BoundedContext.class, SplitBoundedContextByFeaturesAction::new);
+		registerAction(Aggregate.class, SplitAggregateByEntitiesAction::new);
+		registerAction(UserRequirement.class, DeriveSubdomainFromUserRequirementsAction::new);
+		registerAction(Subdomain.class, DeriveBoundedContextFromSubdomainsAction::new);
+		registerAction(BoundedContext.class, DeriveFrontendAndBackendFromFeatureBCAction::new);
+		registerAction(BoundedContext.class, SplitSystemIntoSubsystemsAction::new);
+		registerAction(BoundedContext.class, ExtractAggregatesByVolatilityAction::new);
+		registerAction(BoundedContext.class, ExtractAggregatesByCohesionAction::new);
+		registerAction(Aggregate.class, MergeAggregatesAction::new);
+		registerAction(BoundedContext.class, MergeBoundedContextsAction::new);
+		registerAction(SharedKernel.class, ExtractSharedKernelAction::new);
+		registerAction(Partnership.class, SuspendPartnershipAction::new);
+		registerAction(Partnership.class, SwitchFromPartnershipToSharedKernelAction::new);
+		registerAction(SharedKernel.class, SwitchFromSharedKernelToPartnershipAction::new);
 		// Transformation making problems in VS Code
-		// codeActions.add(new MoveStakeholderToGroupAction(resource, selectedObjects));
-		codeActions.add(new CreateValue4StakeholderAction(resource, selectedObjects));
-		codeActions.add(new AddEthicalValueAssessmentAction(resource, selectedObjects));
-		codeActions.add(new WrapValueInClusterAction(resource, selectedObjects));
-		codeActions.add(new CreateStakeholderForUserStoryRoleAction(resource, selectedObjects));
-		codeActions.add(new CreateValueRegisterForBoundedContextAction(resource, selectedObjects));
-
-		return Lists.newLinkedList(codeActions);
+		// registerAction(Stakeholder.class, MoveStakeholderToGroupAction::new);
+		registerAction(Stakeholder.class, CreateValue4StakeholderAction::new);
+		registerAction(UserStory.class, AddEthicalValueAssessmentAction::new);
+		registerAction(Value.class, WrapValueInClusterAction::new);
+		registerAction(UserStory.class, CreateStakeholderForUserStoryRoleAction::new);
+		registerAction(BoundedContext.class, CreateValueRegisterForBoundedContextAction::new);
 	}
 
 	private void registerAllQuickFixes() {
@@ -135,9 +163,54 @@ public class CMLActionRegistry {
 		registerCommandQuickFix(ApplicationCoordinationSemanticsValidator.SKETCH_MINER_INFO_ID, new OpenCoordinationInSketchMinerCommandMapper());
 	}
 
-	public List<? extends Command> getApplicableActionCommands(CMLResource resource, List<EObject> selectedObjects) {
-		List<? extends Command> result = getAllActions(resource, selectedObjects).stream().filter(a -> a.isApplicable()).map(a -> a.getCommand()).collect(Collectors.toList());
-		return result;
+	/**
+	 * Returns the commands of all actions that can be applied to the selected
+	 * objects. The result is cached per document version, resource set and
+	 * selection: the language server loads the resources into a new resource set
+	 * after every build, so a change of an imported file invalidates the cached
+	 * commands as well.
+	 */
+	public List<? extends Command> getApplicableActionCommands(CMLResource resource, int documentVersion, List<EObject> selectedObjects) {
+		String uri = resource.getURI().toString();
+		ResourceSet resourceSet = resource.getResourceSet();
+		synchronized (actionCommandsCache) {
+			ActionCommandsCache cache = actionCommandsCache.get(uri);
+			if (cache != null && cache.isValidFor(documentVersion, resourceSet) && cache.commandsBySelection.containsKey(selectedObjects))
+				return Lists.newLinkedList(cache.commandsBySelection.get(selectedObjects));
+		}
+
+		List<Command> commands = getApplicableActionCommands(new CMLSelectionContext(resource, selectedObjects));
+		synchronized (actionCommandsCache) {
+			ActionCommandsCache cache = actionCommandsCache.get(uri);
+			if (cache == null || !cache.isValidFor(documentVersion, resourceSet)) {
+				cache = new ActionCommandsCache(documentVersion, resourceSet);
+				actionCommandsCache.put(uri, cache);
+			}
+			cache.commandsBySelection.put(Lists.newArrayList(selectedObjects), commands);
+		}
+		return Lists.newLinkedList(commands);
+	}
+
+	/**
+	 * Removes the cached commands of a document (when it is closed).
+	 */
+	public void removeCachedActionCommands(String uri) {
+		synchronized (actionCommandsCache) {
+			actionCommandsCache.remove(uri);
+		}
+	}
+
+	private List<Command> getApplicableActionCommands(CMLSelectionContext selectionContext) {
+		List<Command> commands = Lists.newLinkedList();
+		for (ActionRegistration registration : actionRegistry) {
+			// only create the actions for which an object of the needed type is selected
+			if (!selectionContext.hasSelectedObjects(registration.selectionType))
+				continue;
+			CMLCodeAction action = registration.actionFactory.apply(selectionContext.getResource(), selectionContext);
+			if (action.isApplicable())
+				commands.add(action.getCommand());
+		}
+		return commands;
 	}
 
 	public List<Either<Command, CodeAction>> getApplicableQuickfixes(Diagnostic diagnostic, ICodeActionService2.Options options) {
@@ -186,11 +259,51 @@ public class CMLActionRegistry {
 		return codeActions;
 	}
 
+	/**
+	 * Computes the workspace edit of a quick fix that has been returned without
+	 * edit (see {@link #getApplicableQuickfixes(Diagnostic, ICodeActionService2.Options)})
+	 * because the client resolves the edit lazily (LSP codeAction/resolve).
+	 */
+	public CodeAction resolveQuickfix(CodeAction codeAction, ICodeActionService2.Options options) {
+		if (codeAction.getDiagnostics() == null || codeAction.getDiagnostics().isEmpty())
+			return codeAction;
+
+		Diagnostic diagnostic = codeAction.getDiagnostics().get(0);
+		if (diagnostic.getCode() == null || diagnostic.getCode().get() == null || !(diagnostic.getCode().get() instanceof String))
+			return codeAction;
+
+		String key = (String) diagnostic.getCode().get();
+		CMLQuickFix<? extends EObject> xtextDiagnosticQuickFix = key.startsWith(XTEXT_DIAGNOSTICS_PREFIX) ? createQuickFix4XtextDiagnostic(diagnostic) : null;
+		if (xtextDiagnosticQuickFix != null && xtextDiagnosticQuickFix.getName().equals(codeAction.getTitle())) {
+			codeAction.setEdit(recordQuickFixEdit(xtextDiagnosticQuickFix, diagnostic, options, true));
+			return codeAction;
+		}
+		for (CMLQuickFix<? extends EObject> quickFix : quickFixActionRegistry.getOrDefault(key, Lists.newLinkedList())) {
+			if (quickFix.getName().equals(codeAction.getTitle())) {
+				codeAction.setEdit(recordQuickFixEdit(quickFix, diagnostic, options, false));
+				return codeAction;
+			}
+		}
+		return codeAction;
+	}
+
 	private CodeAction createQuickFixCodeAction(CMLQuickFix<? extends EObject> quickFix, Diagnostic diagnostic, ICodeActionService2.Options options, boolean useRootContext) {
 		CodeAction action = new CodeAction(quickFix.getName());
 		action.setDiagnostics(Arrays.asList(new Diagnostic[] { diagnostic }));
 		action.setKind(CodeActionKind.QuickFix);
-		action.setEdit(editRecorder.recordWorkspaceEdit(options.getLanguageServerAccess(), options.getResource().getURI(), options.getDocument(), (Resource resource) -> {
+		if (isEditResolvedLazily(options)) {
+			// the edit is computed in resolveQuickfix, once the user chooses the fix
+			JsonObject data = new JsonObject();
+			data.addProperty(CODE_ACTION_DATA_URI, options.getURI());
+			action.setData(data);
+		} else {
+			action.setEdit(recordQuickFixEdit(quickFix, diagnostic, options, useRootContext));
+		}
+		return action;
+	}
+
+	private WorkspaceEdit recordQuickFixEdit(CMLQuickFix<? extends EObject> quickFix, Diagnostic diagnostic, ICodeActionService2.Options options, boolean useRootContext) {
+		return editRecorder.recordWorkspaceEdit(options.getLanguageServerAccess(), options.getResource().getURI(), options.getDocument(), (Resource resource) -> {
 			CMLResource cmlResource = new CMLResource(resource);
 			if (useRootContext) {
 				quickFix.applyQuickfix2EObject(cmlResource.getContextMappingModel());
@@ -203,22 +316,49 @@ public class CMLActionRegistry {
 				// we can assume that there is only one object per validation message
 				quickFix.applyQuickfix2EObject(EcoreUtil.resolve(objects.get(0), resource));
 			}
-		}));
-		return action;
+		});
+	}
+
+	/*
+	 * The edit can only be resolved lazily if the client supports resolving it
+	 * and the server announced codeAction/resolve support (CMLLanguageServer).
+	 */
+	private boolean isEditResolvedLazily(ICodeActionService2.Options options) {
+		ILanguageServerAccess access = options.getLanguageServerAccess();
+		InitializeParams initializeParams = access.getInitializeParams();
+		InitializeResult initializeResult = access.getInitializeResult();
+		if (initializeParams == null || initializeParams.getCapabilities() == null || initializeParams.getCapabilities().getTextDocument() == null || initializeResult == null)
+			return false;
+
+		CodeActionCapabilities clientCapabilities = initializeParams.getCapabilities().getTextDocument().getCodeAction();
+		boolean clientResolvesEdits = clientCapabilities != null && clientCapabilities.getResolveSupport() != null
+				&& clientCapabilities.getResolveSupport().getProperties().contains("edit");
+		Either<Boolean, CodeActionOptions> serverCapabilities = initializeResult.getCapabilities().getCodeActionProvider();
+		boolean serverResolvesEdits = serverCapabilities != null && serverCapabilities.isRight() && Boolean.TRUE.equals(serverCapabilities.getRight().getResolveProvider());
+		return clientResolvesEdits && serverResolvesEdits;
 	}
 
 	private List<Either<Command, CodeAction>> createQuickFixes4XtextDiagnostics(Diagnostic diagnostic, ICodeActionService2.Options options) {
 		List<Either<Command, CodeAction>> quickFixCodeActions = Lists.newLinkedList();
+		CMLQuickFix<? extends EObject> quickFix = createQuickFix4XtextDiagnostic(diagnostic);
+		if (quickFix != null)
+			quickFixCodeActions.add(Either.forRight(createQuickFixCodeAction(quickFix, diagnostic, options, true)));
+		return quickFixCodeActions;
+	}
+
+	private CMLQuickFix<? extends EObject> createQuickFix4XtextDiagnostic(Diagnostic diagnostic) {
 		if (diagnostic.getCode().get().equals(org.eclipse.xtext.diagnostics.Diagnostic.LINKING_DIAGNOSTIC)
 				&& diagnostic.getMessage().matches(String.format(CreateMissingBoundedContextQuickFix.LINK_DIAGNOSTIC_MESSAGE_PATTERN, "BoundedContext"))) {
 			Pattern pattern = Pattern.compile(String.format(CreateMissingBoundedContextQuickFix.LINK_DIAGNOSTIC_MESSAGE_PATTERN, "BoundedContext"));
 			Matcher matcher = pattern.matcher(diagnostic.getMessage());
-			if (matcher.find()) {
-				CreateMissingBoundedContextQuickFix quickFix = new CreateMissingBoundedContextQuickFix(matcher.group(1));
-				quickFixCodeActions.add(Either.forRight(createQuickFixCodeAction(quickFix, diagnostic, options, true)));
-			}
+			if (matcher.find())
+				return new CreateMissingBoundedContextQuickFix(matcher.group(1));
 		}
-		return quickFixCodeActions;
+		return null;
+	}
+
+	private void registerAction(Class<? extends EObject> selectionType, BiFunction<CMLResource, CMLSelectionContext, CMLCodeAction> actionFactory) {
+		actionRegistry.add(new ActionRegistration(selectionType, actionFactory));
 	}
 
 	private void registerActionQuickFix(String validationId, CMLQuickFix<? extends EObject> quickFix) {
@@ -233,4 +373,41 @@ public class CMLActionRegistry {
 		quickFixCommandRegistry.get(validationId).add(actionMapper);
 	}
 
+	private static class ActionRegistration {
+		private Class<? extends EObject> selectionType;
+		private BiFunction<CMLResource, CMLSelectionContext, CMLCodeAction> actionFactory;
+
+		ActionRegistration(Class<? extends EObject> selectionType, BiFunction<CMLResource, CMLSelectionContext, CMLCodeAction> actionFactory) {
+			this.selectionType = selectionType;
+			this.actionFactory = actionFactory;
+		}
+	}
+
+	/*
+	 * Applicable action commands of one document version, by selected objects.
+	 * The selected EObjects are compared by identity, so the entries are only
+	 * hit as long as the resource has not been parsed again.
+	 */
+	private static class ActionCommandsCache {
+		private int documentVersion;
+		private ResourceSet resourceSet;
+		private Map<List<EObject>, List<Command>> commandsBySelection = new LinkedHashMap<List<EObject>, List<Command>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<EObject>, List<Command>> eldest) {
+				return size() > MAX_CACHED_SELECTIONS;
+			}
+		};
+
+		ActionCommandsCache(int documentVersion, ResourceSet resourceSet) {
+			this.documentVersion = documentVersion;
+			this.resourceSet = resourceSet;
+		}
+
+		boolean isValidFor(int documentVersion, ResourceSet resourceSet) {
+			return this.documentVersion == documentVersion && this.resourceSet == resourceSet;
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import org.eclipse.lsp4j.Command
 import org.eclipse.lsp4j.jsonrpc.messages.Either
 import org.eclipse.xtext.ide.server.ILanguageServerAccess
 import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2
+import org.eclipse.xtext.util.CancelIndicator
 
 class CMLActionService implements ICodeActionService2 {
 
@@ -38,6 +39,28 @@ class CMLActionService implements ICodeActionService2 {
 		]);
 	}
 
+	/**
+	 * Resolves the edit of a quick fix that has been returned without edit
+	 * (LSP codeAction/resolve).
+	 */
+	def CodeAction resolveCodeAction(CodeAction codeAction, String uri, ILanguageServerAccess access, CancelIndicator cancelIndicator) {
+		return access.doSyncRead(uri, [ ILanguageServerAccess.Context context |
+			val options = new Options
+			options.languageServerAccess = access
+			options.cancelIndicator = cancelIndicator
+			options.document = context.document
+			options.resource = context.resource
+			return actionRegistry.resolveQuickfix(codeAction, options);
+		]);
+	}
+
+	/**
+	 * Drops the cached code actions of a document that has been closed.
+	 */
+	def void documentClosed(String uri) {
+		actionRegistry.removeCachedActionCommands(uri);
+	}
+
 	private def List<Either<Command, CodeAction>> getActions(Options options) {
 		val params = options.codeActionParams;
 		val currentSelectionRange = params.range;
@@ -50,7 +73,7 @@ class CMLActionService implements ICodeActionService2 {
 		val List<Either<Command, CodeAction>> allActions = Lists.newLinkedList
 
 		// general actions that can be applied (such as refactorings)
-		allActions.addAll(actionRegistry.getApplicableActionCommands(resource, selectedObjects).map [
+		allActions.addAll(actionRegistry.getApplicableActionCommands(resource, options.document.version, selectedObjects).map [
 			Either.forLeft(it)
 		]);
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.actions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * The objects selected in the editor, analyzed once per code action request
+ * and shared by all code actions: the selected objects by type (Bounded
+ * Contexts, Aggregates, relationships, user stories, etc.), the parents of
+ * selected Aggregates and the Aggregates of their Bounded Contexts.
+ *
+ */
+public class CMLSelectionContext {
+
+	private CMLResource cmlResource;
+	private List<EObject> selectedObjects;
+	private CMLModelObjectsResolvingHelper resolvingHelper;
+
+	private Map<Class<?>, Set<? extends EObject>> selectedObjectsByType = Maps.newHashMap();
+	private Map<Aggregate, BoundedContext> parentBoundedContexts = Maps.newHashMap();
+	private Map<BoundedContext, List<Aggregate>> aggregatesByBoundedContext = Maps.newHashMap();
+
+	public CMLSelectionContext(CMLResource cmlResource, List<EObject> selectedObjects) {
+		this.cmlResource = cmlResource;
+		this.selectedObjects = Collections.unmodifiableList(selectedObjects);
+	}
+
+	public CMLResource getResource() {
+		return cmlResource;
+	}
+
+	public List<EObject> getSelectedObjects() {
+		return selectedObjects;
+	}
+
+	/**
+	 * All selected objects of the given type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends EObject> Set<T> getSelectedObjects(Class<T> type) {
+		return (Set<T>) selectedObjectsByType.computeIfAbsent(type, t -> {
+			Set<T> objects = Sets.newLinkedHashSet();
+			for (EObject object : selectedObjects) {
+				if (type.isInstance(object))
+					objects.add(type.cast(object));
+			}
+			return Collections.unmodifiableSet(objects);
+		});
+	}
+
+	public boolean hasSelectedObjects(Class<? extends EObject> type) {
+		return !getSelectedObjects(type).isEmpty();
+	}
+
+	/**
+	 * The Bounded Context that contains the given (selected) Aggregate.
+	 */
+	public BoundedContext getParentBoundedContext(Aggregate aggregate) {
+		return parentBoundedContexts.computeIfAbsent(aggregate, agg -> getResolvingHelper().resolveBoundedContext(agg));
+	}
+
+	/**
+	 * All Aggregates of the given Bounded Context (including the ones in modules).
+	 */
+	public List<Aggregate> getAllAggregates(BoundedContext boundedContext) {
+		return aggregatesByBoundedContext.computeIfAbsent(boundedContext, bc -> Collections.unmodifiableList(EcoreUtil2.eAllOfType(bc, Aggregate.class)));
+	}
+
+	private CMLModelObjectsResolvingHelper getResolvingHelper() {
+		if (resolvingHelper == null)
+			resolvingHelper = new CMLModelObjectsResolvingHelper(cmlResource.getContextMappingModel());
+		return resolvingHelper;
+	}
+
+}
@@ -15,10 +15,22 @@
  */
 package org.contextmapper.dsl.ide.actions;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.AbstractRule;
+import org.eclipse.xtext.CrossReference;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.GrammarUtil;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.EObjectAtOffsetHelper;
 import org.eclipse.xtext.resource.XtextResource;
 
@@ -28,6 +40,12 @@ import com.google.inject.Inject;
 /**
  * Helper method to find all selected EObject (currently selected in editor).
  * 
+ * The selection is resolved with one traversal of the node model: only the
+ * nodes overlapping the selected range are visited, and every leaf
+ * contributes its semantic object (or the referenced object, if the leaf is
+ * part of a cross reference). The result is the same as resolving every
+ * single offset of the selection with the {@link EObjectAtOffsetHelper}.
+ * 
  * @author Stefan Kapferer
  *
  */
@@ -37,16 +55,87 @@ public class SelectionContextResolver {
 	private EObjectAtOffsetHelper offsetHelper;
 
 	public List<EObject> resolveAllSelectedEObjects(CMLResource resource, int startOffset, int endOffset) {
-		List<EObject> objectList = Lists.newLinkedList();
+		List<EObject> objectList = Lists.newArrayList();
+		XtextResource cmlResource = (XtextResource) resource.getXtextResource();
+		IParseResult parseResult = cmlResource.getParseResult();
+		if (parseResult == null)
+			return objectList;
+
+		Set<EObject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		// the start offset may resolve to the element in front of it (cursor
+		// at the end of a name), so we keep the offset helper semantics there
+		addObject(offsetHelper.resolveElementAt(cmlResource, startOffset), objectList, visited);
 
-		for (int i = startOffset; i <= endOffset; i++) {
-			XtextResource cmlResource = (XtextResource) resource.getXtextResource();
-			EObject object = offsetHelper.resolveElementAt(cmlResource, i);
-			if (!objectList.contains(object))
-				objectList.add(object);
+		ILeafNode previousLeaf = null;
+		boolean previousLeafIsCrossReference = false;
+		BidiTreeIterator<INode> iterator = parseResult.getRootNode().getAsTreeIterable().iterator();
+		while (iterator.hasNext()) {
+			INode node = iterator.next();
+			if (node.getTotalOffset() > endOffset)
+				break;
+			if (node.getTotalEndOffset() <= startOffset) {
+				// subtree completely in front of the selection
+				iterator.prune();
+				continue;
+			}
+			if (!(node instanceof ILeafNode) || node.getTotalLength() == 0)
+				continue;
+			ILeafNode leaf = (ILeafNode) node;
+			INode crossReferenceNode = findCrossReferenceNode(leaf);
+
+			// offsets of this leaf within the selection (start offset resolved above)
+			int firstOffset = Math.max(leaf.getTotalOffset(), startOffset + 1);
+			int lastOffset = Math.min(leaf.getTotalEndOffset() - 1, endOffset);
+			if (firstOffset <= lastOffset) {
+				if (crossReferenceNode != null) {
+					addObject(offsetHelper.getCrossReferencedElement(crossReferenceNode), objectList, visited);
+				} else {
+					if (firstOffset < lastOffset || firstOffset > leaf.getTotalOffset())
+						addObject(NodeModelUtils.findActualSemanticObjectFor(leaf), objectList, visited);
+					if (firstOffset == leaf.getTotalOffset())
+						addObject(resolveLeafBeginning(leaf, previousLeaf, previousLeafIsCrossReference), objectList, visited);
+				}
+			}
+			previousLeaf = leaf;
+			previousLeafIsCrossReference = crossReferenceNode != null;
 		}
 
 		return objectList;
 	}
 
+	/*
+	 * The first offset of a leaf resolves to the object referenced by the
+	 * previous leaf (if that one is a cross reference) and to the object of the
+	 * previous leaf if the leaf itself is hidden (whitespace or comment).
+	 */
+	private EObject resolveLeafBeginning(ILeafNode leaf, ILeafNode previousLeaf, boolean previousLeafIsCrossReference) {
+		if (previousLeafIsCrossReference)
+			return null; // already added with the previous leaf
+		if (leaf.isHidden() && previousLeaf != null)
+			return NodeModelUtils.findActualSemanticObjectFor(previousLeaf);
+		return NodeModelUtils.findActualSemanticObjectFor(leaf);
+	}
+
+	/*
+	 * Same lookup as in EObjectAtOffsetHelper (where it is not visible):
+	 * datatype rule calls are walked up until the cross reference is reached.
+	 */
+	private INode findCrossReferenceNode(INode node) {
+		INode current = node;
+		while (current != null && current.getGrammarElement() != null) {
+			if (current.getGrammarElement() instanceof CrossReference)
+				return current;
+			if (!GrammarUtil.isDatatypeRule(EcoreUtil2.getContainerOfType(current.getGrammarElement(), AbstractRule.class)))
+				return null;
+			current = current.getParent();
+		}
+		return null;
+	}
+
+	private void addObject(EObject object, List<EObject> objectList, Set<EObject> visited) {
+		if (object != null && visited.add(object))
+			objectList.add(object);
+	}
+
 }
@@ -17,12 +17,11 @@ package org.contextmapper.dsl.ide.actions.impl;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.UserStory;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -36,11 +35,11 @@ import com.google.common.collect.Lists;
 public class AddEthicalValueAssessmentAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public AddEthicalValueAssessmentAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public AddEthicalValueAssessmentAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -63,8 +62,7 @@ public class AddEthicalValueAssessmentAction implements CMLCodeAction {
 	}
 
 	private Set<UserStory> getSelectedUserStories() {
-		return editorSelection.stream().filter(o -> o instanceof UserStory).map(o -> (UserStory) o)
-				.collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(UserStory.class);
 	}
 
 }
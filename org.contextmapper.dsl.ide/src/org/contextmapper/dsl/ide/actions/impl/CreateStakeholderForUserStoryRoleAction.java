@@ -17,13 +17,12 @@ package org.contextmapper.dsl.ide.actions.impl;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.UserStory;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.contextmapper.dsl.refactoring.stakeholders.CreateStakeholderForUserStoryRole;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -37,11 +36,11 @@ import com.google.common.collect.Lists;
 public class CreateStakeholderForUserStoryRoleAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public CreateStakeholderForUserStoryRoleAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public CreateStakeholderForUserStoryRoleAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -70,8 +69,7 @@ public class CreateStakeholderForUserStoryRoleAction implements CMLCodeAction {
 	}
 
 	private Set<UserStory> getSelectedUserStories() {
-		return editorSelection.stream().filter(o -> o instanceof UserStory).map(o -> (UserStory) o)
-				.collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(UserStory.class);
 	}
 
 }
@@ -17,14 +17,13 @@ package org.contextmapper.dsl.ide.actions.impl;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -39,11 +38,11 @@ import com.google.common.collect.Lists;
 public class CreateValueRegisterForBoundedContextAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public CreateValueRegisterForBoundedContextAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public CreateValueRegisterForBoundedContextAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -71,8 +70,7 @@ public class CreateValueRegisterForBoundedContextAction implements CMLCodeAction
 	}
 
 	private Set<BoundedContext> getSelectedBoundedContexts() {
-		return editorSelection.stream().filter(o -> o instanceof BoundedContext).map(o -> (BoundedContext) o)
-				.collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(BoundedContext.class);
 	}
 
 }
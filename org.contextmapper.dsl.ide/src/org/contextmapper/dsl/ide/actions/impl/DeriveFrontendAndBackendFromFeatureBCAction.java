@@ -23,7 +23,7 @@ import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -38,11 +38,11 @@ import com.google.common.collect.Lists;
 public class DeriveFrontendAndBackendFromFeatureBCAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public DeriveFrontendAndBackendFromFeatureBCAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public DeriveFrontendAndBackendFromFeatureBCAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -63,7 +63,7 @@ public class DeriveFrontendAndBackendFromFeatureBCAction implements CMLCodeActio
 	}
 
 	private Set<BoundedContext> getSelectedFeatureBoundedContexts() {
-		return editorSelection.stream().filter(o -> o instanceof BoundedContext).map(o -> (BoundedContext) o)
+		return selectionContext.getSelectedObjects(BoundedContext.class).stream()
 				.filter(bc -> bc.getType() == BoundedContextType.FEATURE || bc.getType() == BoundedContextType.APPLICATION).collect(Collectors.toSet());
 	}
 
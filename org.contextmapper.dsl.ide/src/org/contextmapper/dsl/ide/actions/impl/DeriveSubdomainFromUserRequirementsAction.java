@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -36,11 +36,11 @@ import com.google.common.collect.Lists;
 public class DeriveSubdomainFromUserRequirementsAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public DeriveSubdomainFromUserRequirementsAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public DeriveSubdomainFromUserRequirementsAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -57,7 +57,7 @@ public class DeriveSubdomainFromUserRequirementsAction implements CMLCodeAction
 	}
 
 	private Set<UserRequirement> getSelectedUserRequirements() {
-		return editorSelection.stream().filter(o -> o instanceof UserRequirement).map(o -> (UserRequirement) o).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(UserRequirement.class);
 	}
 
 }
@@ -19,14 +19,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
-import org.eclipse.xtext.EcoreUtil2;
 
 import com.google.common.collect.Lists;
 
@@ -39,11 +37,11 @@ import com.google.common.collect.Lists;
 public class MergeAggregatesAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public MergeAggregatesAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public MergeAggregatesAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -52,18 +50,18 @@ public class MergeAggregatesAction implements CMLCodeAction {
 		if (aggregates.isEmpty() || aggregates.size() > 1)
 			return false;
 
-		BoundedContext parentContext = new CMLModelObjectsResolvingHelper(cmlResource.getContextMappingModel()).resolveBoundedContext(aggregates.iterator().next());
-		return EcoreUtil2.eAllOfType(parentContext, Aggregate.class).size() > 1;
+		BoundedContext parentContext = selectionContext.getParentBoundedContext(aggregates.iterator().next());
+		return selectionContext.getAllAggregates(parentContext).size() > 1;
 	}
 
 	@Override
 	public Command getCommand() {
 		Aggregate aggregate = getSelectedAggregate();
-		BoundedContext parentContext = new CMLModelObjectsResolvingHelper(cmlResource.getContextMappingModel()).resolveBoundedContext(aggregate);
+		BoundedContext parentContext = selectionContext.getParentBoundedContext(aggregate);
 		List<Object> commandArguments = Lists.newLinkedList();
 		commandArguments.add(cmlResource.getURI().toString());
 		commandArguments.add(aggregate.getName());
-		commandArguments.addAll(EcoreUtil2.eAllOfType(parentContext, Aggregate.class).stream().map(agg -> agg.getName()).filter(name -> !name.equals(aggregate.getName())).collect(Collectors.toSet()));
+		commandArguments.addAll(selectionContext.getAllAggregates(parentContext).stream().map(agg -> agg.getName()).filter(name -> !name.equals(aggregate.getName())).collect(Collectors.toSet()));
 
 		return new Command("Merge Aggregates", "cml.ar.mergeAggregates.proxy", commandArguments);
 	}
@@ -73,7 +71,7 @@ public class MergeAggregatesAction implements CMLCodeAction {
 	}
 
 	private Set<Aggregate> getSelectedAggregates() {
-		return editorSelection.stream().filter(o -> o instanceof Aggregate).map(o -> (Aggregate) o).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(Aggregate.class);
 	}
 
 }
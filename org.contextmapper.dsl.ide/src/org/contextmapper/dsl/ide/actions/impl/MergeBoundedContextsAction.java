@@ -23,6 +23,7 @@ import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.xtext.EcoreUtil2;
@@ -38,11 +39,11 @@ import com.google.common.collect.Lists;
 public class MergeBoundedContextsAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public MergeBoundedContextsAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public MergeBoundedContextsAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -76,7 +77,7 @@ public class MergeBoundedContextsAction implements CMLCodeAction {
 	}
 
 	private Set<BoundedContext> getSelectedBoundedContexts() {
-		return editorSelection.stream().filter(o -> o instanceof BoundedContext).map(o -> (BoundedContext) o).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(BoundedContext.class);
 	}
 
 }
@@ -22,9 +22,9 @@ import java.util.stream.Collectors;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.contextmapper.tactic.dsl.tacticdsl.Entity;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -38,11 +38,11 @@ import com.google.common.collect.Lists;
 public class SplitAggregateByEntitiesAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public SplitAggregateByEntitiesAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public SplitAggregateByEntitiesAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -71,7 +71,7 @@ public class SplitAggregateByEntitiesAction implements CMLCodeAction {
 	}
 
 	private Set<Aggregate> getSelectedAggregates() {
-		return editorSelection.stream().filter(o -> o instanceof Aggregate).map(o -> (Aggregate) o).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(Aggregate.class);
 	}
 
 }
@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -37,11 +37,11 @@ import com.google.common.collect.Lists;
 public class SplitBoundedContextByFeaturesAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public SplitBoundedContextByFeaturesAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public SplitBoundedContextByFeaturesAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -71,7 +71,7 @@ public class SplitBoundedContextByFeaturesAction implements CMLCodeAction {
 	}
 
 	private Set<BoundedContext> getSelectedBoundedContexts() {
-		return editorSelection.stream().filter(o -> o instanceof BoundedContext).map(o -> (BoundedContext) o).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(BoundedContext.class);
 	}
 
 }
@@ -23,7 +23,7 @@ import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
 import org.contextmapper.dsl.ide.actions.CMLCodeAction;
-import org.eclipse.emf.ecore.EObject;
+import org.contextmapper.dsl.ide.actions.CMLSelectionContext;
 import org.eclipse.lsp4j.Command;
 
 import com.google.common.collect.Lists;
@@ -37,11 +37,11 @@ import com.google.common.collect.Lists;
 public class SplitSystemIntoSubsystemsAction implements CMLCodeAction {
 
 	private CMLResource cmlResource;
-	private List<EObject> editorSelection;
+	private CMLSelectionContext selectionContext;
 
-	public SplitSystemIntoSubsystemsAction(CMLResource cmlResource, List<EObject> editorSelection) {
+	public SplitSystemIntoSubsystemsAction(CMLResource cmlResource, CMLSelectionContext selectionContext) {
 		this.cmlResource = cmlResource;
-		this.editorSelection = editorSelection;
+		this.selectionContext = selectionContext;
 	}
 
 	@Override
@@ -62,7 +62,7 @@ public class SplitSystemIntoSubsystemsAction implements CMLCodeAction {
 	}
 
 	private Set<BoundedContext> getSelectedSystemBoundedContexts() {
-		return editorSelection.stream().filter(o -> o instanceof BoundedContext).map(o -> (BoundedContext) o).filter(bc -> bc.getType() == BoundedContextType.SYSTEM).collect(Collectors.toSet());
+		return selectionContext.getSelectedObjects(BoundedContext.class).stream().filter(bc -> bc.getType() == BoundedContextType.SYSTEM).collect(Collectors.toSet());
 	}
 
 }
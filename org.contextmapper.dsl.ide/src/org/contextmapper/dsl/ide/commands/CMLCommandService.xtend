@@ -24,7 +24,13 @@ import org.eclipse.xtext.ide.server.ILanguageServerAccess
 import org.eclipse.xtext.ide.server.commands.IExecutableCommandService
 import org.eclipse.xtext.util.CancelIndicator
 import org.contextmapper.dsl.cml.CMLResource
+import org.contextmapper.dsl.ide.commands.impl.generation.AbstractGenerationCommand
 
+/**
+ * Executes the CML commands. Generation commands are executed in the
+ * background (see {@link CMLGenerationExecutor}); their result is a future
+ * which is completed once the files are generated.
+ */
 class CMLCommandService implements IExecutableCommandService {
 
 	static final Logger LOG = Logger.getLogger(CMLCommandService);
@@ -51,6 +57,9 @@ class CMLCommandService implements IExecutableCommandService {
 					"CML LSP command has been called: " + params.getCommand() + " (" + params.getArguments().get(0) +
 						")");
 				try {
+					if (command instanceof AbstractGenerationCommand)
+						return command.executeCommandInBackground(new CMLResource(resource), access, params,
+							CMLGenerationExecutor.getDefault())
 					command.executeCommand(new CMLResource(resource), document, access, params);
 				} catch (Exception e) {
 					LOG.error("The command '" + command + "' resulted in an error", e);
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.commands;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressCreateParams;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+
+/**
+ * Runs generators in the background, on a small and bounded pool of threads.
+ * The language server does not have to hold the read lock on the workspace
+ * while the files are generated, so that the user can continue editing.
+ * 
+ * Every generated file is reported to the client with a work done progress
+ * notification ($/progress), if the client supports them. A generation can be
+ * cancelled (by cancelling the command request or the progress); the generator
+ * is then stopped before it writes its next file.
+ */
+public class CMLGenerationExecutor {
+
+	private static final Logger LOG = Logger.getLogger(CMLGenerationExecutor.class);
+
+	private static final int MAX_CONCURRENT_GENERATIONS = 2;
+	private static final int MAX_QUEUED_GENERATIONS = 16;
+	private static final long PROGRESS_CREATION_TIMEOUT_SECONDS = 5;
+
+	private static final CMLGenerationExecutor DEFAULT_EXECUTOR = new CMLGenerationExecutor(MAX_CONCURRENT_GENERATIONS, MAX_QUEUED_GENERATIONS);
+
+	private final ThreadPoolExecutor executor;
+	private final Map<String, CompletableFuture<Object>> generationsByProgressToken = new ConcurrentHashMap<>();
+
+	public CMLGenerationExecutor(int maxConcurrentGenerations, int maxQueuedGenerations) {
+		AtomicInteger threadCounter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(maxConcurrentGenerations, maxConcurrentGenerations, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxQueuedGenerations),
+				runnable -> {
+					Thread thread = new Thread(runnable, "CML Generator " + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * The executor shared by all generation commands of the language server.
+	 */
+	public static CMLGenerationExecutor getDefault() {
+		return DEFAULT_EXECUTOR;
+	}
+
+	/**
+	 * Runs the given generator in the background.
+	 * 
+	 * @param title          the title of the progress shown to the user
+	 * @param generator      the generator (must not be shared with other
+	 *                       generations)
+	 * @param resource       the resource to generate from; must not be changed
+	 *                       while the generator is running (use a fork of the
+	 *                       model in the workspace)
+	 * @param fsa            the file system access the files are written to
+	 * @param access         the language server access
+	 * @param workDoneToken  the progress token provided by the client; may be
+	 *                       null
+	 * @return the result of the command (see {@link CMLCommandService}); cancel
+	 *         the future to cancel the generation
+	 */
+	public CompletableFuture<Object> generate(String title, IGenerator2 generator, CMLResource resource, IFileSystemAccess2 fsa, ILanguageServerAccess access,
+			Either<String, Integer> workDoneToken) {
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> runGeneration(title, generator, resource, fsa, access, workDoneToken, result));
+		} catch (RejectedExecutionException e) {
+			result.complete(CMLCommandService.COMMAND_EXECUTION_ERROR_PREFIX + " Too many generators are running at the moment. Please try again later.");
+		}
+		return result;
+	}
+
+	/**
+	 * Cancels the generation reporting its progress with the given token (if it
+	 * is still running).
+	 */
+	public void cancel(Either<String, Integer> progressToken) {
+		CompletableFuture<Object> generation = generationsByProgressToken.get(getTokenKey(progressToken));
+		if (generation != null)
+			generation.cancel(true);
+	}
+
+	private void runGeneration(String title, IGenerator2 generator, CMLResource resource, IFileSystemAccess2 fsa, ILanguageServerAccess access,
+			Either<String, Integer> workDoneToken, CompletableFuture<Object> result) {
+		if (result.isDone())
+			return;
+
+		Progress progress = createProgress(access, workDoneToken);
+		if (progress != null) {
+			generationsByProgressToken.put(getTokenKey(progress.token), result);
+			progress.begin(title);
+		}
+		Object resultValue = null;
+		try {
+			generator.doGenerate(resource, new ProgressReportingFileSystemAccess(fsa, result::isCancelled, fileName -> {
+				if (progress != null)
+					progress.report("Generated " + fileName);
+			}), new GeneratorContext());
+			resultValue = CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE;
+		} catch (Exception e) {
+			// generators may wrap the cancellation of the file system access
+			if (!isCancellation(e)) {
+				LOG.error("The generation '" + title + "' resulted in an error", e);
+				resultValue = CMLCommandService.COMMAND_EXECUTION_ERROR_PREFIX + " " + e.getMessage();
+			}
+		} finally {
+			// end the progress before the response is sent
+			if (progress != null) {
+				generationsByProgressToken.remove(getTokenKey(progress.token));
+				progress.end(result.isCancelled() ? "Generation cancelled." : "Generation finished.");
+			}
+		}
+		result.complete(resultValue);
+	}
+
+	private boolean isCancellation(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof CancellationException)
+				return true;
+		}
+		return false;
+	}
+
+	private Progress createProgress(ILanguageServerAccess access, Either<String, Integer> workDoneToken) {
+		LanguageClient client = access.getLanguageClient();
+		if (client == null)
+			return null;
+		if (workDoneToken != null)
+			return new Progress(client, workDoneToken);
+		if (!clientSupportsWorkDoneProgress(access))
+			return null;
+
+		Either<String, Integer> token = Either.forLeft(UUID.randomUUID().toString());
+		try {
+			client.createProgress(new WorkDoneProgressCreateParams(token)).get(PROGRESS_CREATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			return new Progress(client, token);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (Exception e) {
+			LOG.warn("Could not create work done progress; the generation progress is not reported.", e);
+			return null;
+		}
+	}
+
+	private boolean clientSupportsWorkDoneProgress(ILanguageServerAccess access) {
+		if (access.getInitializeParams() == null)
+			return false;
+		ClientCapabilities capabilities = access.getInitializeParams().getCapabilities();
+		return capabilities != null && capabilities.getWindow() != null && Boolean.TRUE.equals(capabilities.getWindow().getWorkDoneProgress());
+	}
+
+	private String getTokenKey(Either<String, Integer> token) {
+		return String.valueOf(token.get());
+	}
+
+	private static class Progress {
+
+		private final LanguageClient client;
+		private final Either<String, Integer> token;
+
+		Progress(LanguageClient client, Either<String, Integer> token) {
+			this.client = client;
+			this.token = token;
+		}
+
+		void begin(String title) {
+			WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+			begin.setTitle(title);
+			begin.setCancellable(true);
+			notify(begin);
+		}
+
+		void report(String message) {
+			WorkDoneProgressReport report = new WorkDoneProgressReport();
+			report.setMessage(message);
+			report.setCancellable(true);
+			notify(report);
+		}
+
+		void end(String message) {
+			WorkDoneProgressEnd end = new WorkDoneProgressEnd();
+			end.setMessage(message);
+			notify(end);
+		}
+
+		private void notify(WorkDoneProgressNotification notification) {
+			client.notifyProgress(new ProgressParams(token, Either.forLeft(notification)));
+		}
+
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.commands;
+
+import java.io.InputStream;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+/**
+ * File system access used by background generations: delegates to the actual
+ * file system access, reports every generated file and stops the generation
+ * (with a {@link CancellationException}) as soon as it has been cancelled.
+ */
+public class ProgressReportingFileSystemAccess implements IFileSystemAccess2 {
+
+	private final IFileSystemAccess2 delegate;
+	private final BooleanSupplier cancelled;
+	private final Consumer<String> fileGenerated;
+
+	public ProgressReportingFileSystemAccess(IFileSystemAccess2 delegate, BooleanSupplier cancelled, Consumer<String> fileGenerated) {
+		this.delegate = delegate;
+		this.cancelled = cancelled;
+		this.fileGenerated = fileGenerated;
+	}
+
+	@Override
+	public void generateFile(String fileName, CharSequence contents) {
+		checkCancelled();
+		delegate.generateFile(fileName, contents);
+		fileGenerated.accept(fileName);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputConfigurationName, CharSequence contents) {
+		checkCancelled();
+		delegate.generateFile(fileName, outputConfigurationName, contents);
+		fileGenerated.accept(fileName);
+	}
+
+	@Override
+	public void generateFile(String fileName, InputStream content) throws RuntimeIOException {
+		checkCancelled();
+		delegate.generateFile(fileName, content);
+		fileGenerated.accept(fileName);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputCfgName, InputStream content) throws RuntimeIOException {
+		checkCancelled();
+		delegate.generateFile(fileName, outputCfgName, content);
+		fileGenerated.accept(fileName);
+	}
+
+	@Override
+	public void deleteFile(String fileName) {
+		checkCancelled();
+		delegate.deleteFile(fileName);
+	}
+
+	@Override
+	public void deleteFile(String fileName, String outputConfigurationName) {
+		checkCancelled();
+		delegate.deleteFile(fileName, outputConfigurationName);
+	}
+
+	@Override
+	public URI getURI(String path, String outputConfiguration) {
+		return delegate.getURI(path, outputConfiguration);
+	}
+
+	@Override
+	public URI getURI(String path) {
+		return delegate.getURI(path);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName);
+	}
+
+	@Override
+	public boolean isFile(String path, String outputConfigurationName) throws RuntimeIOException {
+		return delegate.isFile(path, outputConfigurationName);
+	}
+
+	@Override
+	public boolean isFile(String path) throws RuntimeIOException {
+		return delegate.isFile(path);
+	}
+
+	private void checkCancelled() {
+		if (cancelled.getAsBoolean())
+			throw new CancellationException();
+	}
+
+}
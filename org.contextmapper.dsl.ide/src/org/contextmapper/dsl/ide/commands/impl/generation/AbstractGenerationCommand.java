@@ -16,8 +16,11 @@
 package org.contextmapper.dsl.ide.commands.impl.generation;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
 
+import org.contextmapper.dsl.cml.CMLModelForker;
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.ide.commands.CMLGenerationExecutor;
 import org.contextmapper.dsl.ide.commands.CMLResourceCommand;
 import org.contextmapper.dsl.standalone.FileSystemHelper;
 import org.eclipse.emf.common.util.URI;
@@ -37,13 +40,30 @@ import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 public abstract class AbstractGenerationCommand implements CMLResourceCommand {
 
 	/**
-	 * Override this method to define which generator shall be called.
+	 * Override this method to define which generator shall be called. Create a
+	 * new generator for every call (configured with the command parameters), so
+	 * that the command can be executed concurrently.
 	 */
-	abstract IGenerator2 getGenerator();
+	abstract IGenerator2 getGenerator(ExecuteCommandParams params);
 
 	@Override
 	public void executeCommand(CMLResource cmlResource, Document document, ILanguageServerAccess access, ExecuteCommandParams params) {
-		getGenerator().doGenerate(cmlResource, getFileSystemAccess(cmlResource, access), new GeneratorContext());
+		getGenerator(params).doGenerate(cmlResource, getFileSystemAccess(cmlResource, access), new GeneratorContext());
+	}
+
+	/**
+	 * Executes the command in the background: the generator is configured and
+	 * the model is forked right away (while the resource is read), but the files
+	 * are generated by the given executor.
+	 * 
+	 * @return the result of the command; cancel it to cancel the generation
+	 */
+	public CompletableFuture<Object> executeCommandInBackground(CMLResource cmlResource, ILanguageServerAccess access, ExecuteCommandParams params,
+			CMLGenerationExecutor executor) {
+		IGenerator2 generator = getGenerator(params);
+		CMLResource snapshot = new CMLModelForker(cmlResource).fork();
+		return executor.generate("Generating from " + cmlResource.getURI().lastSegment(), generator, snapshot, getFileSystemAccess(cmlResource, access), access,
+				params.getWorkDoneToken());
 	}
 
 	protected JavaIoFileSystemAccess getFileSystemAccess(CMLResource cmlResource, ILanguageServerAccess access) {
@@ -17,14 +17,11 @@ package org.contextmapper.dsl.ide.commands.impl.generation;
 
 import java.util.Set;
 
-import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.xtext.generator.IGenerator2;
-import org.eclipse.xtext.ide.server.Document;
-import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
@@ -39,15 +36,8 @@ import com.google.gson.JsonObject;
  */
 public class ContextMapGenerationCommand extends AbstractGenerationCommand {
 
-	private ContextMapGenerator generator = new ContextMapGenerator();
-
-	@Override
-	IGenerator2 getGenerator() {
-		return generator;
-	}
-
 	@Override
-	public void executeCommand(CMLResource cmlResource, Document document, ILanguageServerAccess access, ExecuteCommandParams params) {
+	IGenerator2 getGenerator(ExecuteCommandParams params) {
 		if (params.getArguments().size() != 2 || params.getArguments().get(1).getClass() != JsonArray.class)
 			throw new ContextMapperApplicationException("This command expects a JSON array with the generator parameters as a second parameter.");
 
@@ -60,6 +50,7 @@ public class ContextMapGenerationCommand extends AbstractGenerationCommand {
 		int labelSpacingFactor = paramObject.get("labelSpacingFactor").getAsInt();
 		boolean clusterTeams = paramObject.get("clusterTeams").getAsBoolean();
 
+		ContextMapGenerator generator = new ContextMapGenerator();
 		generator.setContextMapFormats(formats);
 		generator.setLabelSpacingFactor(labelSpacingFactor);
 		generator.printAdditionalLabels(generateLabels);
@@ -68,7 +59,7 @@ public class ContextMapGenerationCommand extends AbstractGenerationCommand {
 			generator.setWidth(paramObject.get("width").getAsInt());
 		else if (fixHeight)
 			generator.setHeight(paramObject.get("height").getAsInt());
-		super.executeCommand(cmlResource, document, access, params);
+		return generator;
 	}
 
 	private ContextMapFormat[] getFormatsFromInputArray(JsonArray formatsArray) {
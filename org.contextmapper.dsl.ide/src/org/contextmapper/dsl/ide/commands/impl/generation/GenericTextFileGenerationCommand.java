@@ -19,14 +19,11 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 
-import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.GenericContentGenerator;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.xtext.generator.IGenerator2;
-import org.eclipse.xtext.ide.server.Document;
-import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -40,21 +37,15 @@ import com.google.gson.JsonObject;
  */
 public class GenericTextFileGenerationCommand extends AbstractGenerationCommand {
 
-	private GenericContentGenerator generator = new GenericContentGenerator();
-
-	@Override
-	IGenerator2 getGenerator() {
-		return generator;
-	}
-
 	@Override
-	public void executeCommand(CMLResource cmlResource, Document document, ILanguageServerAccess access, ExecuteCommandParams params) {
+	IGenerator2 getGenerator(ExecuteCommandParams params) {
 		if (params.getArguments().size() != 2 || params.getArguments().get(1).getClass() != JsonArray.class)
 			throw new ContextMapperApplicationException(
 					"This command expects a JSON array with the following values as second parameter: URI to Freemarker template, filename string for output file");
 
 		JsonArray paramArray = (JsonArray) params.getArguments().get(1);
 		JsonObject paramObject = paramArray.get(0).getAsJsonObject();
+		GenericContentGenerator generator = new GenericContentGenerator();
 		try {
 			URI templateURI = new URI(paramObject.get("templateUri").getAsString());
 			if (!templateURI.toString().startsWith("file:"))
@@ -64,7 +55,7 @@ public class GenericTextFileGenerationCommand extends AbstractGenerationCommand
 		} catch (URISyntaxException e) {
 			throw new ContextMapperApplicationException("The passed template URI is not a valid URI.", e);
 		}
-		super.executeCommand(cmlResource, document, access, params);
+		return generator;
 	}
 
 }
@@ -16,6 +16,7 @@
 package org.contextmapper.dsl.ide.commands.impl.generation;
 
 import org.contextmapper.dsl.generator.SketchMinerGenerator;
+import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.xtext.generator.IGenerator2;
 
 /**
@@ -28,7 +29,7 @@ import org.eclipse.xtext.generator.IGenerator2;
 public class SketchMinerGenerationCommand extends AbstractGenerationCommand {
 
 	@Override
-	IGenerator2 getGenerator() {
+	IGenerator2 getGenerator(ExecuteCommandParams params) {
 		return new SketchMinerGenerator();
 	}
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.contentassist;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.CrossReference;
+import org.eclipse.xtext.ide.editor.contentassist.ContentAssistContext;
+import org.eclipse.xtext.ide.editor.contentassist.ContentAssistEntry;
+import org.eclipse.xtext.ide.editor.contentassist.IIdeContentProposalAcceptor;
+import org.eclipse.xtext.ide.editor.contentassist.IdeContentProposalPriorities;
+import org.eclipse.xtext.ide.editor.contentassist.IdeCrossrefProposalProvider;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.IResourceDescriptionsProvider;
+import org.eclipse.xtext.scoping.IScope;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+
+/**
+ * Proposes references to Bounded Contexts, Aggregates and domains from the
+ * {@link CMLReferenceNameIndex}: only the names starting with the typed prefix
+ * are looked up in the scope, most relevant first, until the acceptor does not
+ * take any more proposals. The scope itself decides which of these elements
+ * are visible (imported) from the edited resource. Elements of the edited
+ * resource are ranked before imported ones.
+ */
+public class CMLCrossrefProposalProvider extends IdeCrossrefProposalProvider {
+
+	private static final int NAMES_PER_LOOKUP = 100;
+	private static final int EDITED_RESOURCE_PRIORITY_BONUS = 10;
+
+	@Inject
+	private CMLReferenceNameIndex nameIndex;
+
+	@Inject
+	private IResourceDescriptionsProvider resourceDescriptionsProvider;
+
+	@Inject
+	private IdeContentProposalPriorities proposalPriorities;
+
+	@Override
+	public void lookupCrossReference(IScope scope, CrossReference crossReference, ContentAssistContext context, IIdeContentProposalAcceptor acceptor,
+			Predicate<IEObjectDescription> filter) {
+		if (!isIndexed(crossReference, context)) {
+			super.lookupCrossReference(scope, crossReference, context, acceptor, filter);
+			return;
+		}
+
+		URI resourceURI = context.getResource().getURI();
+		for (IEObjectDescription candidate : queryScope(scope, crossReference, context)) {
+			if (!acceptor.canAcceptMoreProposals())
+				return;
+			if (!filter.apply(candidate))
+				continue;
+			ContentAssistEntry entry = createProposal(candidate, crossReference, context);
+			if (entry == null)
+				continue;
+			int priority = proposalPriorities.getCrossRefPriority(candidate, entry);
+			if (resourceURI.equals(candidate.getEObjectURI().trimFragment()))
+				priority += EDITED_RESOURCE_PRIORITY_BONUS;
+			acceptor.accept(entry, priority);
+		}
+	}
+
+	@Override
+	protected Iterable<IEObjectDescription> queryScope(IScope scope, CrossReference crossReference, ContentAssistContext context) {
+		if (!isIndexed(crossReference, context))
+			return super.queryScope(scope, crossReference, context);
+
+		EClass referenceType = (EClass) crossReference.getType().getClassifier();
+		URI resourceURI = context.getResource().getURI();
+		IResourceDescriptions resourceDescriptions = resourceDescriptionsProvider.getResourceDescriptions(context.getResource().getResourceSet());
+		return () -> new AbstractIterator<IEObjectDescription>() {
+
+			private Iterator<String> names = Collections.emptyIterator();
+			private Set<String> lookedUpNames = Sets.newHashSet();
+			private int maxNames = NAMES_PER_LOOKUP;
+			private boolean allNamesLookedUp;
+
+			@Override
+			protected IEObjectDescription computeNext() {
+				while (true) {
+					while (names.hasNext()) {
+						String name = names.next();
+						if (!lookedUpNames.add(name))
+							continue;
+						IEObjectDescription element = scope.getSingleElement(getQualifiedNameConverter().toQualifiedName(name));
+						if (element != null)
+							return element;
+					}
+					if (allNamesLookedUp)
+						return endOfData();
+					// the ranking is not alphabetical, so the next lookup takes twice as many
+					// names and skips the ones already looked up
+					List<String> nextNames = nameIndex.getNames(resourceDescriptions, referenceType, context.getPrefix(), resourceURI, maxNames);
+					allNamesLookedUp = nextNames.size() < maxNames;
+					names = nextNames.iterator();
+					maxNames *= 2;
+				}
+			}
+		};
+	}
+
+	private boolean isIndexed(CrossReference crossReference, ContentAssistContext context) {
+		EClass referenceType = (EClass) crossReference.getType().getClassifier();
+		return nameIndex.isIndexed(referenceType) && context.getResource() != null && context.getResource().getResourceSet() != null;
+	}
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.contentassist;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+import org.eclipse.xtext.ide.server.ILanguageServerExtension;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
+import com.google.common.collect.TreeMultiset;
+import com.google.inject.Singleton;
+
+/**
+ * Index of the names of the Bounded Contexts, Aggregates and domains exported
+ * by the resource descriptions, sorted per type, so that the names starting
+ * with a prefix are found in O(log n + k) without walking all exported
+ * objects.
+ *
+ * The index is filled from the resource descriptions once (on the first
+ * lookup after the language server has been initialized) and then updated with
+ * the deltas of every build: only the resources which changed are indexed
+ * again.
+ */
+@Singleton
+public class CMLReferenceNameIndex implements ILanguageServerExtension, ILanguageServerAccess.IBuildListener {
+
+	private static final List<EClass> INDEXED_TYPES = Arrays.asList(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, ContextMappingDSLPackage.Literals.AGGREGATE,
+			ContextMappingDSLPackage.Literals.DOMAIN_PART);
+
+	private final Map<URI, IResourceDescription> indexedResources = Maps.newHashMap();
+
+	private final Map<EClass, SortedNames> namesByType = Maps.newHashMap();
+	private final Map<URI, Map<EClass, SortedNames>> namesByResource = Maps.newHashMap();
+
+	private boolean observingBuilds = false;
+	private boolean filled = false;
+
+	@Override
+	public synchronized void initialize(ILanguageServerAccess access) {
+		// a new workspace; the index is filled again on the next lookup
+		clear();
+		access.addBuildListener(this);
+		observingBuilds = true;
+	}
+
+	@Override
+	public synchronized void afterBuild(List<IResourceDescription.Delta> deltas) {
+		for (IResourceDescription.Delta delta : deltas) {
+			if (delta.getNew() != null)
+				index(delta.getNew());
+			else
+				remove(delta.getUri());
+		}
+	}
+
+	/**
+	 * Whether references of the given type can be looked up in this index.
+	 */
+	public boolean isIndexed(EClass referenceType) {
+		for (EClass indexedType : INDEXED_TYPES) {
+			if (indexedType.isSuperTypeOf(referenceType))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the names of the objects of the given type starting with the given
+	 * prefix (ignoring case), ranked by relevance: the names exported by the
+	 * edited resource come first, followed by the names exported by all other
+	 * resources; both in alphabetical order.
+	 *
+	 * @param resourceDescriptions the exported objects; only walked to fill the
+	 *                             index on the first lookup (or on every lookup,
+	 *                             if the index does not receive the deltas of
+	 *                             the builds)
+	 * @param type                 the type of the objects
+	 * @param prefix               the prefix of the names
+	 * @param resourceURI          the URI of the edited resource
+	 * @param maxNames             the number of names to be returned (names
+	 *                             differing in case only are always returned
+	 *                             together)
+	 */
+	public synchronized List<String> getNames(IResourceDescriptions resourceDescriptions, EClass type, String prefix, URI resourceURI, int maxNames) {
+		if (!filled || !observingBuilds)
+			fill(resourceDescriptions);
+
+		String lowerPrefix = prefix.toLowerCase();
+		Set<String> names = Sets.newLinkedHashSet();
+		int count = collectNames(namesByResource.getOrDefault(resourceURI, Collections.emptyMap()), type, lowerPrefix, maxNames, names);
+		collectNames(namesByType, type, lowerPrefix, maxNames - count, names);
+		return Lists.newArrayList(names);
+	}
+
+	/*
+	 * Adds the names starting with the prefix in alphabetical order (up to
+	 * maxNames names which have not been added yet) and returns the number of
+	 * added names.
+	 */
+	private int collectNames(Map<EClass, SortedNames> sortedNamesByType, EClass type, String lowerPrefix, int maxNames, Set<String> names) {
+		if (maxNames <= 0)
+			return 0;
+		NavigableMap<String, SortedSet<String>> matchingNames = new TreeMap<>();
+		for (Map.Entry<EClass, SortedNames> typeEntry : sortedNamesByType.entrySet()) {
+			if (!type.isSuperTypeOf(typeEntry.getKey()))
+				continue;
+			Iterator<Map.Entry<String, TreeMultiset<String>>> namesWithPrefix = typeEntry.getValue().getNamesWithPrefix(lowerPrefix).entrySet().iterator();
+			int found = 0;
+			while (found < maxNames && namesWithPrefix.hasNext()) {
+				Map.Entry<String, TreeMultiset<String>> name = namesWithPrefix.next();
+				if (names.containsAll(name.getValue().elementSet()))
+					continue;
+				matchingNames.computeIfAbsent(name.getKey(), key -> Sets.newTreeSet()).addAll(name.getValue().elementSet());
+				found++;
+			}
+		}
+
+		int count = 0;
+		Iterator<SortedSet<String>> namesIterator = matchingNames.values().iterator();
+		for (; count < maxNames && namesIterator.hasNext(); count++) {
+			names.addAll(namesIterator.next());
+		}
+		return count;
+	}
+
+	/*
+	 * Indexes the resource descriptions which are not indexed yet or changed
+	 * since they have been indexed, and removes the resources which do not exist
+	 * anymore.
+	 */
+	private void fill(IResourceDescriptions resourceDescriptions) {
+		Set<URI> currentResources = Sets.newHashSet();
+		for (IResourceDescription resourceDescription : resourceDescriptions.getAllResourceDescriptions()) {
+			currentResources.add(resourceDescription.getURI());
+			if (indexedResources.get(resourceDescription.getURI()) != resourceDescription)
+				index(resourceDescription);
+		}
+		for (URI indexedResource : Lists.newArrayList(indexedResources.keySet())) {
+			if (!currentResources.contains(indexedResource))
+				remove(indexedResource);
+		}
+		filled = true;
+	}
+
+	private void index(IResourceDescription resourceDescription) {
+		remove(resourceDescription.getURI());
+		Map<EClass, SortedNames> resourceNames = Maps.newHashMap();
+		for (IEObjectDescription exportedObject : resourceDescription.getExportedObjects()) {
+			if (!isIndexed(exportedObject.getEClass()))
+				continue;
+			String name = exportedObject.getName().toString();
+			namesByType.computeIfAbsent(exportedObject.getEClass(), type -> new SortedNames()).add(name);
+			resourceNames.computeIfAbsent(exportedObject.getEClass(), type -> new SortedNames()).add(name);
+		}
+		indexedResources.put(resourceDescription.getURI(), resourceDescription);
+		if (!resourceNames.isEmpty())
+			namesByResource.put(resourceDescription.getURI(), resourceNames);
+	}
+
+	private void remove(URI resourceURI) {
+		indexedResources.remove(resourceURI);
+		Map<EClass, SortedNames> resourceNames = namesByResource.remove(resourceURI);
+		if (resourceNames == null)
+			return;
+		for (Map.Entry<EClass, SortedNames> typeEntry : resourceNames.entrySet()) {
+			SortedNames names = namesByType.get(typeEntry.getKey());
+			for (TreeMultiset<String> namesWithKey : typeEntry.getValue().names.values()) {
+				for (Multiset.Entry<String> name : namesWithKey.entrySet())
+					names.remove(name.getElement(), name.getCount());
+			}
+		}
+	}
+
+	private void clear() {
+		indexedResources.clear();
+		namesByType.clear();
+		namesByResource.clear();
+		filled = false;
+	}
+
+	/**
+	 * Names of one type, sorted by their lower case form.
+	 */
+	private static class SortedNames {
+
+		// lower case name -> names (with the number of exporting objects)
+		private final NavigableMap<String, TreeMultiset<String>> names = new TreeMap<>();
+
+		void add(String name) {
+			names.computeIfAbsent(name.toLowerCase(), key -> TreeMultiset.create()).add(name);
+		}
+
+		void remove(String name, int occurrences) {
+			TreeMultiset<String> namesWithKey = names.get(name.toLowerCase());
+			if (namesWithKey == null)
+				return;
+			namesWithKey.remove(name, occurrences);
+			if (namesWithKey.isEmpty())
+				names.remove(name.toLowerCase());
+		}
+
+		NavigableMap<String, TreeMultiset<String>> getNamesWithPrefix(String lowerPrefix) {
+			return names.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, false);
+		}
+	}
+
+}
@@ -16,14 +16,19 @@
 package org.contextmapper.dsl.ide.edit;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.contextmapper.dsl.exception.RefactoringSerializationException;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.WorkspaceEdit;
@@ -33,6 +38,7 @@ import org.eclipse.xtext.ide.serializer.IEmfResourceChange;
 import org.eclipse.xtext.ide.serializer.ITextDocumentChange;
 import org.eclipse.xtext.ide.server.Document;
 import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.util.CollectionBasedAcceptor;
 import org.eclipse.xtext.xbase.lib.ListExtensions;
 
@@ -40,34 +46,56 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.Singleton;
 
 /**
  * Records a WorkspaceEdit for a semantic CML model change (IModification) by
  * using IChangeSerializer.
  * 
+ * The modification is applied to a copy of the resource, loaded into a live
+ * scope resource set. The copy is reused for all edits recorded for the same
+ * document version (for example all quick fixes offered for one diagnostic
+ * request): the changes of a modification are reverted once its edit is
+ * recorded. Proxies (such as references to imported files) are only resolved
+ * when they are needed, and stay resolved for the following edits. The copies
+ * are dropped whenever the workspace is built.
+ * 
  * @author Stefan Kapferer
  *
  */
-public class WorkspaceEditRecorder {
+@Singleton
+public class WorkspaceEditRecorder implements ILanguageServerAccess.IBuildListener {
+
+	private static final int MAX_LOADED_COPIES = 8;
 
 	@Inject
 	private Provider<IChangeSerializer> serializerProvider;
 
-	@SuppressWarnings("restriction")
+	private final Map<URI, LoadedCopy> loadedCopies = Collections.synchronizedMap(new LinkedHashMap<URI, LoadedCopy>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<URI, LoadedCopy> eldest) {
+			return size() > MAX_LOADED_COPIES;
+		}
+	});
+
+	private ILanguageServerAccess observedAccess;
+
 	public WorkspaceEdit recordWorkspaceEdit(ILanguageServerAccess access, URI resourceURI, Document document, IChangeSerializer.IModification<Resource> mod) {
-		ResourceSet rs = access.newLiveScopeResourceSet(resourceURI);
-		Resource copy = rs.getResource(resourceURI, true);
-		IChangeSerializer serializer = serializerProvider.get();
-		EcoreUtil.resolveAll(copy);
-		serializer.addModification(copy, mod);
-		List<IEmfResourceChange> documentchanges = new ArrayList<>();
-		try {
-			serializer.applyModifications(CollectionBasedAcceptor.of(documentchanges));
-		} catch (Exception e) {
-			Set<String> serializationErrorMessages = Sets.newHashSet();
-			serializationErrorMessages.add(e.getMessage());
-			throw new RefactoringSerializationException(serializationErrorMessages);
+		List<IEmfResourceChange> documentchanges;
+		LoadedCopy loadedCopy = getLoadedCopy(access, resourceURI, document);
+		if (loadedCopy.lock.tryLock()) {
+			try {
+				documentchanges = recordChangesAndRevert(resourceURI, loadedCopy, mod);
+			} finally {
+				loadedCopy.lock.unlock();
+			}
+		} else {
+			// the copy is used by another request at the moment
+			documentchanges = recordChanges(loadCopy(access, resourceURI), mod);
 		}
+
 		WorkspaceEdit workspaceEdit = new WorkspaceEdit();
 		for (ITextDocumentChange documentchange : Iterables.filter(documentchanges, ITextDocumentChange.class)) {
 			List<TextEdit> edits = ListExtensions.map(documentchange.getReplacements(), (ITextReplacement replacement) -> {
@@ -81,4 +109,98 @@ public class WorkspaceEditRecorder {
 		return workspaceEdit;
 	}
 
+	@Override
+	public void afterBuild(List<IResourceDescription.Delta> deltas) {
+		loadedCopies.clear();
+	}
+
+	private LoadedCopy getLoadedCopy(ILanguageServerAccess access, URI resourceURI, Document document) {
+		observeBuilds(access);
+		LoadedCopy loadedCopy = loadedCopies.get(resourceURI);
+		if (loadedCopy != null && Objects.equals(loadedCopy.documentVersion, document.getVersion()))
+			return loadedCopy;
+
+		loadedCopy = new LoadedCopy(loadCopy(access, resourceURI), document.getVersion());
+		loadedCopies.put(resourceURI, loadedCopy);
+		return loadedCopy;
+	}
+
+	private synchronized void observeBuilds(ILanguageServerAccess access) {
+		if (observedAccess == access)
+			return;
+		loadedCopies.clear();
+		access.addBuildListener(this);
+		observedAccess = access;
+	}
+
+	private Resource loadCopy(ILanguageServerAccess access, URI resourceURI) {
+		ResourceSet rs = access.newLiveScopeResourceSet(resourceURI);
+		return rs.getResource(resourceURI, true);
+	}
+
+	/*
+	 * Records the changes of the modification and reverts them afterwards, so
+	 * that the copy can be reused. Copies which could not be reverted are
+	 * dropped.
+	 */
+	private List<IEmfResourceChange> recordChangesAndRevert(URI resourceURI, LoadedCopy loadedCopy, IChangeSerializer.IModification<Resource> mod) {
+		ResourceSet rs = loadedCopy.copy.getResourceSet();
+		ChangeRecorder recorder = new ChangeRecorder();
+		recorder.setResolveProxies(false);
+		recorder.beginRecording(Collections.singleton(rs));
+		boolean reverted = false;
+		try {
+			return recordChanges(loadedCopy.copy, mod);
+		} finally {
+			try {
+				recorder.endRecording().apply();
+				reverted = isReusable(rs);
+			} catch (RuntimeException e) {
+				reverted = false;
+			} finally {
+				recorder.dispose();
+				if (!reverted)
+					loadedCopies.remove(resourceURI, loadedCopy);
+			}
+		}
+	}
+
+	private boolean isReusable(ResourceSet rs) {
+		for (Resource resource : rs.getResources()) {
+			// the serializer unloads related resources it had to load
+			if (!resource.isLoaded())
+				return false;
+			resource.setModified(false);
+		}
+		return true;
+	}
+
+	@SuppressWarnings("restriction")
+	private List<IEmfResourceChange> recordChanges(Resource copy, IChangeSerializer.IModification<Resource> mod) {
+		IChangeSerializer serializer = serializerProvider.get();
+		serializer.addModification(copy, mod);
+		List<IEmfResourceChange> documentchanges = new ArrayList<>();
+		try {
+			serializer.applyModifications(CollectionBasedAcceptor.of(documentchanges));
+		} catch (Exception e) {
+			Set<String> serializationErrorMessages = Sets.newHashSet();
+			serializationErrorMessages.add(e.getMessage());
+			throw new RefactoringSerializationException(serializationErrorMessages);
+		}
+		return documentchanges;
+	}
+
+	private static class LoadedCopy {
+
+		private final Resource copy;
+		private final Integer documentVersion;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		LoadedCopy(Resource copy, Integer documentVersion) {
+			this.copy = copy;
+			this.documentVersion = documentVersion;
+		}
+
+	}
+
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.highlighting;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.AbstractCore;
+import org.contextmapper.dsl.contextMappingDSL.BigBallOfMud;
+import org.contextmapper.dsl.contextMappingDSL.CohesiveMechanism;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.HighlightedCore;
+import org.contextmapper.dsl.contextMappingDSL.SegregatedCore;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.Assignment;
+import org.eclipse.xtext.CrossReference;
+import org.eclipse.xtext.GrammarUtil;
+import org.eclipse.xtext.RuleCall;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.ISemanticHighlightingCalculator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Classifies the names of CML elements and the references to them (Bounded
+ * Contexts, Aggregates, relationships, domains and the strategic elements of a
+ * context map such as BigBallOfMud and AbstractCore) for semantic highlighting.
+ * 
+ * The classification is purely syntactic: the tokens of a top-level element
+ * (or of an element of the context map) only depend on its text. The tokens of
+ * these regions are therefore reused from the previous calculation of the same
+ * resource if the text of the region did not change, and only the changed
+ * regions are classified again.
+ */
+@Singleton
+public class CMLSemanticHighlightingCalculator implements ISemanticHighlightingCalculator {
+
+	public static final String NAMESPACE = "namespace";
+	public static final String CLASS = "class";
+	public static final String STRUCT = "struct";
+	public static final String INTERFACE = "interface";
+	public static final String TYPE = "type";
+	public static final String PROPERTY = "property";
+
+	public static final String DECLARATION = "declaration";
+	public static final String STRATEGIC_ADDON = "strategicAddon";
+
+	/**
+	 * The token types used by this calculator (standard LSP token types).
+	 */
+	public static final List<String> TOKEN_TYPES = Collections.unmodifiableList(Arrays.asList(NAMESPACE, CLASS, STRUCT, INTERFACE, TYPE, PROPERTY));
+
+	/**
+	 * The token modifiers used by this calculator.
+	 */
+	public static final List<String> TOKEN_MODIFIERS = Collections.unmodifiableList(Arrays.asList(DECLARATION, STRATEGIC_ADDON));
+
+	private static final int MAX_CACHED_RESOURCES = 16;
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	private final Map<URI, Map<String, List<Token>>> regionTokensByResource = Collections
+			.synchronizedMap(new LinkedHashMap<URI, Map<String, List<Token>>>(MAX_CACHED_RESOURCES, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<URI, Map<String, List<Token>>> eldest) {
+					return size() > MAX_CACHED_RESOURCES;
+				}
+			});
+
+	@Override
+	public void provideHighlightingFor(XtextResource resource, IHighlightedPositionAcceptor acceptor, CancelIndicator cancelIndicator) {
+		if (resource == null || resource.getParseResult() == null || resource.getParseResult().getRootNode() == null)
+			return;
+
+		Map<String, List<Token>> previousRegions = regionTokensByResource.get(resource.getURI());
+		Map<String, List<Token>> currentRegions = Maps.newHashMap();
+		List<Token> tokens = Lists.newArrayList();
+		collectTokens(resource.getParseResult().getRootNode(), previousRegions != null ? previousRegions : Collections.emptyMap(), currentRegions, tokens,
+				cancelIndicator);
+		regionTokensByResource.put(resource.getURI(), currentRegions);
+
+		for (Token token : tokens) {
+			acceptor.addPosition(token.offset, token.length, token.styles);
+		}
+	}
+
+	private void collectTokens(ICompositeNode node, Map<String, List<Token>> previousRegions, Map<String, List<Token>> currentRegions, List<Token> tokens,
+			CancelIndicator cancelIndicator) {
+		for (INode child : node.getChildren()) {
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			EObject element = child instanceof ICompositeNode ? NodeModelUtils.findActualSemanticObjectFor(child) : null;
+			if (element instanceof ContextMap) {
+				// the elements of the context map are regions of their own
+				collectTokens((ICompositeNode) child, previousRegions, currentRegions, tokens, cancelIndicator);
+			} else if (element != null && isRegion(element)) {
+				addRegionTokens((ICompositeNode) child, previousRegions, currentRegions, tokens);
+			} else {
+				for (ILeafNode leaf : child.getLeafNodes()) {
+					Token token = createToken(leaf, 0);
+					if (token != null)
+						tokens.add(token);
+				}
+			}
+		}
+	}
+
+	private boolean isRegion(EObject element) {
+		return element.eContainer() instanceof ContextMappingModel || element.eContainer() instanceof ContextMap;
+	}
+
+	private void addRegionTokens(ICompositeNode regionNode, Map<String, List<Token>> previousRegions, Map<String, List<Token>> currentRegions, List<Token> tokens) {
+		String text = regionNode.getText();
+		List<Token> regionTokens = currentRegions.get(text);
+		if (regionTokens == null)
+			regionTokens = previousRegions.get(text);
+		if (regionTokens == null) {
+			regionTokens = Lists.newArrayList();
+			for (ILeafNode leaf : regionNode.getLeafNodes()) {
+				Token token = createToken(leaf, regionNode.getTotalOffset());
+				if (token != null)
+					regionTokens.add(token);
+			}
+		}
+		currentRegions.put(text, regionTokens);
+
+		int regionOffset = regionNode.getTotalOffset();
+		for (Token token : regionTokens) {
+			tokens.add(new Token(regionOffset + token.offset, token.length, token.styles));
+		}
+	}
+
+	private Token createToken(ILeafNode leaf, int regionOffset) {
+		if (leaf.isHidden() || leaf.getLength() == 0)
+			return null;
+		String[] styles = getStyles(leaf);
+		return styles != null ? new Token(leaf.getOffset() - regionOffset, leaf.getLength(), styles) : null;
+	}
+
+	private String[] getStyles(ILeafNode leaf) {
+		EObject grammarElement = leaf.getGrammarElement();
+		CrossReference crossReference = GrammarUtil.containingCrossReference(grammarElement);
+		if (crossReference != null) {
+			EClass referencedType = (EClass) crossReference.getType().getClassifier();
+			String tokenType = getTokenType(referencedType);
+			if (tokenType == null)
+				return null;
+			return isStrategicAddon(referencedType) ? new String[] { tokenType, STRATEGIC_ADDON } : new String[] { tokenType };
+		}
+
+		Assignment assignment = GrammarUtil.containingAssignment(grammarElement);
+		if (assignment == null)
+			return null;
+		EObject semanticElement = NodeModelUtils.findActualSemanticObjectFor(leaf);
+		if (semanticElement == null)
+			return null;
+		if ("name".equals(assignment.getFeature())) {
+			String tokenType = getTokenType(semanticElement.eClass());
+			if (tokenType == null)
+				return null;
+			return isStrategicAddon(semanticElement.eClass()) ? new String[] { tokenType, DECLARATION, STRATEGIC_ADDON } : new String[] { tokenType, DECLARATION };
+		}
+		// element names listed by the strategic elements (core elements, terms)
+		if (isStrategicAddon(semanticElement.eClass()) && grammarElement instanceof RuleCall && "ID".equals(((RuleCall) grammarElement).getRule().getName()))
+			return new String[] { PROPERTY, STRATEGIC_ADDON };
+		return null;
+	}
+
+	private String getTokenType(EClass eClass) {
+		ContextMappingDSLPackage cmlPackage = ContextMappingDSLPackage.eINSTANCE;
+		if (cmlPackage.getBoundedContext().isSuperTypeOf(eClass))
+			return CLASS;
+		if (cmlPackage.getAggregate().isSuperTypeOf(eClass))
+			return STRUCT;
+		if (cmlPackage.getRelationship().isSuperTypeOf(eClass))
+			return INTERFACE;
+		if (cmlPackage.getContextMap().isSuperTypeOf(eClass) || cmlPackage.getDomainPart().isSuperTypeOf(eClass)
+				|| cmlPackage.getSculptorModule().isSuperTypeOf(eClass))
+			return NAMESPACE;
+		if (isStrategicAddon(eClass))
+			return TYPE;
+		return null;
+	}
+
+	private boolean isStrategicAddon(EClass eClass) {
+		Class<?> instanceClass = eClass.getInstanceClass();
+		return instanceClass == BigBallOfMud.class || instanceClass == AbstractCore.class || instanceClass == HighlightedCore.class
+				|| instanceClass == SegregatedCore.class || instanceClass == CohesiveMechanism.class;
+	}
+
+	private static class Token {
+
+		private final int offset;
+		private final int length;
+		private final String[] styles;
+
+		Token(int offset, int length, String[] styles) {
+			this.offset = offset;
+			this.length = length;
+			this.styles = styles;
+		}
+
+	}
+
+}
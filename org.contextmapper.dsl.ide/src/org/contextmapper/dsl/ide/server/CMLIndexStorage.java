@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+
+/**
+ * Stores the index of a CML project on disk: the resource descriptions (with
+ * the exported names, the imported names and the references of every file)
+ * together with a hash of the content each description has been computed
+ * from.
+ * 
+ * The index is only a cache; if it cannot be read (missing, written by another
+ * version or corrupt), it is ignored and all files are parsed again.
+ */
+public class CMLIndexStorage {
+
+	private static final Logger LOG = Logger.getLogger(CMLIndexStorage.class);
+
+	private static final String HEADER = "CML-INDEX";
+	private static final int FORMAT_VERSION = 1;
+
+	// only the classes of the Xtext resource descriptions (and their user data)
+	// may be deserialized
+	private static final ObjectInputFilter DESCRIPTION_CLASSES_FILTER = filterInfo -> {
+		Class<?> clazz = filterInfo.serialClass();
+		if (clazz == null)
+			return ObjectInputFilter.Status.UNDECIDED;
+		while (clazz.isArray())
+			clazz = clazz.getComponentType();
+		if (clazz.isPrimitive() || clazz.getName().startsWith("java.lang.") || clazz.getName().startsWith("java.util.")
+				|| clazz.getName().startsWith("org.eclipse.xtext.resource.persistence."))
+			return ObjectInputFilter.Status.ALLOWED;
+		return ObjectInputFilter.Status.REJECTED;
+	};
+
+	private final File indexFile;
+
+	public CMLIndexStorage(File indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Computes the hash stored for the content of a file.
+	 */
+	public static String hash(byte[] content) {
+		return Hashing.sha256().hashBytes(content).toString();
+	}
+
+	/**
+	 * Reads the stored index.
+	 * 
+	 * @return the stored descriptions by URI; empty if no (valid) index has been
+	 *         stored
+	 */
+	public Map<URI, IndexEntry> load() {
+		Map<URI, IndexEntry> entries = Maps.newHashMap();
+		if (!indexFile.isFile())
+			return entries;
+
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+			in.setObjectInputFilter(DESCRIPTION_CLASSES_FILTER);
+			if (!HEADER.equals(in.readUTF()) || in.readInt() != FORMAT_VERSION)
+				return entries;
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				String contentHash = in.readUTF();
+				SerializableResourceDescription description = new SerializableResourceDescription();
+				description.readExternal(in);
+				entries.put(description.getURI(), new IndexEntry(contentHash, description));
+			}
+			return entries;
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
+			LOG.warn("The CML index '" + indexFile + "' could not be read; all files are indexed again.", e);
+			return Maps.newHashMap();
+		}
+	}
+
+	/**
+	 * Stores the descriptions of the given index which have a content hash.
+	 */
+	public void save(ResourceDescriptionsData index, Map<URI, String> contentHashes) {
+		try {
+			Files.createDirectories(indexFile.getAbsoluteFile().getParentFile().toPath());
+			File tempFile = new File(indexFile.getPath() + ".tmp");
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+				Map<IResourceDescription, String> descriptions = Maps.newLinkedHashMap();
+				for (IResourceDescription description : index.getAllResourceDescriptions()) {
+					String contentHash = contentHashes.get(description.getURI());
+					if (contentHash != null)
+						descriptions.put(description, contentHash);
+				}
+				out.writeUTF(HEADER);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(descriptions.size());
+				for (Map.Entry<IResourceDescription, String> entry : descriptions.entrySet()) {
+					out.writeUTF(entry.getValue());
+					SerializableResourceDescription.createCopy(entry.getKey()).writeExternal(out);
+				}
+			}
+			Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("The CML index '" + indexFile + "' could not be written.", e);
+		}
+	}
+
+	/**
+	 * A stored resource description and the hash of the content it has been
+	 * computed from.
+	 */
+	public static class IndexEntry {
+
+		private final String contentHash;
+		private final IResourceDescription description;
+
+		IndexEntry(String contentHash, IResourceDescription description) {
+			this.contentHash = contentHash;
+			this.description = description;
+		}
+
+		public String getContentHash() {
+			return contentHash;
+		}
+
+		public IResourceDescription getDescription() {
+			return description;
+		}
+
+	}
+
+}
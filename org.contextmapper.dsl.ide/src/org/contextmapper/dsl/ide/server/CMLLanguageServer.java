@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.contextmapper.dsl.ide.actions.CMLActionRegistry;
+import org.contextmapper.dsl.ide.actions.CMLActionService;
+import org.contextmapper.dsl.ide.commands.CMLGenerationExecutor;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionOptions;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensServerFull;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkDoneProgressCancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.xtext.ide.server.LanguageServerImpl;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.UriExtensions;
+import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.gson.JsonObject;
+import com.google.inject.Inject;
+
+/**
+ * CML language server: adds support for resolving code actions lazily (LSP
+ * codeAction/resolve), so that the edits of quick fixes are only computed
+ * once the user chooses a fix.
+ * 
+ * Commands can be executed in the background by returning a future as their
+ * result (see {@link CMLGenerationExecutor}): the read request ends right away
+ * and the response is sent once the future is completed.
+ * 
+ * The indexes of the projects are stored when the server is shut down (see
+ * {@link CMLProjectManager}).
+ * 
+ * Documents changed by the user are validated by the
+ * {@link CMLValidationScheduler} (debounced, before the documents depending on
+ * them).
+ * 
+ * The code actions cached for a document are dropped when it is closed (see
+ * {@link CMLActionRegistry}).
+ * 
+ * Semantic tokens can be requested as delta to the previous result (see
+ * {@link CMLSemanticTokensService}).
+ *
+ */
+public class CMLLanguageServer extends LanguageServerImpl {
+
+	@Inject
+	private CMLValidationScheduler validationScheduler;
+
+	@Inject
+	private UriExtensions uriExtensions;
+
+	@Inject
+	private CMLSemanticTokensService semanticTokensService;
+
+	@Override
+	public void connect(LanguageClient client) {
+		super.connect(client);
+		validationScheduler.connect(getRequestManager(), getWorkspaceManager(), this::publishValidationResult);
+	}
+
+	@Override
+	protected ServerCapabilities createServerCapabilities(InitializeParams params) {
+		ServerCapabilities capabilities = super.createServerCapabilities(params);
+		if (capabilities.getCodeActionProvider() != null && capabilities.getCodeActionProvider().isLeft() && capabilities.getCodeActionProvider().getLeft()) {
+			CodeActionOptions codeActionOptions = new CodeActionOptions();
+			codeActionOptions.setResolveProvider(true);
+			capabilities.setCodeActionProvider(codeActionOptions);
+		}
+		if (capabilities.getSemanticTokensProvider() != null)
+			capabilities.getSemanticTokensProvider().setFull(new SemanticTokensServerFull(true));
+		return capabilities;
+	}
+
+	@Override
+	public void didChange(DidChangeTextDocumentParams params) {
+		URI uri = getURI(params.getTextDocument());
+		getRequestManager().runWrite(() -> toBuildable(params),
+				(cancelIndicator, buildable) -> validationScheduler.buildDeferringValidation(Collections.singleton(uri), () -> buildable.build(cancelIndicator)));
+	}
+
+	@Override
+	public void didClose(DidCloseTextDocumentParams params) {
+		super.didClose(params);
+		URI uri = getURI(params.getTextDocument());
+		ICodeActionService2 service = getService(uri, ICodeActionService2.class);
+		if (service instanceof CMLActionService)
+			((CMLActionService) service).documentClosed(uri.toString());
+	}
+
+	private void publishValidationResult(URI uri, List<Issue> issues) {
+		LanguageClient client = getLanguageClient();
+		if (client != null)
+			client.publishDiagnostics(new PublishDiagnosticsParams(uriExtensions.toUriString(uri), toDiagnostics(issues)));
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(SemanticTokensDeltaParams params) {
+		return getRequestManager().runRead(cancelIndicator -> semanticTokensFullDelta(params, cancelIndicator));
+	}
+
+	protected Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(SemanticTokensDeltaParams params, CancelIndicator cancelIndicator) {
+		URI uri = getURI(params.getTextDocument());
+		return getWorkspaceManager().doRead(uri,
+				(document, resource) -> semanticTokensService.semanticTokensFullDelta(document, (XtextResource) resource, params, cancelIndicator));
+	}
+
+	@Override
+	public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
+		return getRequestManager().runRead(cancelIndicator -> resolveCodeAction(unresolved, cancelIndicator));
+	}
+
+	protected CodeAction resolveCodeAction(CodeAction codeAction, CancelIndicator cancelIndicator) {
+		if (!(codeAction.getData() instanceof JsonObject))
+			return codeAction;
+		JsonObject data = (JsonObject) codeAction.getData();
+		if (!data.has(CMLActionRegistry.CODE_ACTION_DATA_URI))
+			return codeAction;
+
+		URI uri = getURI(new TextDocumentIdentifier(data.get(CMLActionRegistry.CODE_ACTION_DATA_URI).getAsString()));
+		ICodeActionService2 service = getService(uri, ICodeActionService2.class);
+		if (!(service instanceof CMLActionService))
+			return codeAction;
+		return ((CMLActionService) service).resolveCodeAction(codeAction, data.get(CMLActionRegistry.CODE_ACTION_DATA_URI).getAsString(), getLanguageServerAccess(),
+				cancelIndicator);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<Object> executeCommand(ExecuteCommandParams params) {
+		CompletableFuture<Object> request = super.executeCommand(params);
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		request.whenComplete((value, error) -> {
+			if (error != null) {
+				result.completeExceptionally(error);
+			} else if (value instanceof CompletableFuture) {
+				CompletableFuture<Object> backgroundExecution = (CompletableFuture<Object>) value;
+				result.whenComplete((backgroundValue, backgroundError) -> {
+					if (result.isCancelled())
+						backgroundExecution.cancel(true);
+				});
+				backgroundExecution.whenComplete((backgroundValue, backgroundError) -> {
+					if (backgroundError != null)
+						result.completeExceptionally(backgroundError);
+					else
+						result.complete(backgroundValue);
+				});
+			} else {
+				result.complete(value);
+			}
+		});
+		result.whenComplete((value, error) -> {
+			if (result.isCancelled())
+				request.cancel(true);
+		});
+		return result;
+	}
+
+	@Override
+	public void cancelProgress(WorkDoneProgressCancelParams params) {
+		CMLGenerationExecutor.getDefault().cancel(params.getToken());
+	}
+
+	@Override
+	public CompletableFuture<Object> shutdown() {
+		validationScheduler.stop();
+		return getRequestManager().runWrite(() -> {
+			for (ProjectManager projectManager : getWorkspaceManager().getProjectManagers()) {
+				if (projectManager instanceof CMLProjectManager)
+					((CMLProjectManager) projectManager).persistIndex();
+			}
+			return null;
+		}, (cancelIndicator, ignored) -> null).thenCompose(ignored -> super.shutdown());
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.build.Source2GeneratedMapping;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.resource.IExternalContentSupport.IExternalContentProvider;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.workspace.ISourceFolder;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Project manager that persists the index of the project (see
+ * {@link CMLIndexStorage}), so that the language server does not have to parse
+ * every CML file whenever it is started.
+ * 
+ * On the initial build, the stored index is restored and only the files whose
+ * content changed since the index has been stored (and the files affected by
+ * these changes) are parsed; all other files stay unparsed until they are
+ * opened. The index is stored after the initial build and when the language
+ * server is shut down.
+ */
+public class CMLProjectManager extends ProjectManager {
+
+	/**
+	 * System property defining the directory the indexes are stored in (default:
+	 * .contextmapper/ls-index in the home directory of the user).
+	 */
+	public static final String INDEX_DIRECTORY_PROPERTY = "cml.ls.indexDirectory";
+
+	private final Map<URI, String> contentHashes = new ConcurrentHashMap<>();
+	private CMLIndexStorage indexStorage;
+
+	@Override
+	public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
+		if (getIndexFile() == null)
+			return super.doInitialBuild(cancelIndicator);
+
+		List<URI> allURIs = Lists.newArrayList();
+		for (ISourceFolder srcFolder : getProjectConfig().getSourceFolders()) {
+			allURIs.addAll(srcFolder.getAllResources(fileSystemScanner));
+		}
+
+		// the stored descriptions of changed and deleted files are restored as well,
+		// so that the builder knows which names they exported before
+		Map<URI, CMLIndexStorage.IndexEntry> storedIndex = getIndexStorage().load();
+		List<IResourceDescription> restoredDescriptions = Lists.newArrayList();
+		List<URI> dirtyFiles = Lists.newArrayList();
+		for (URI uri : allURIs) {
+			CMLIndexStorage.IndexEntry storedEntry = storedIndex.remove(uri);
+			String contentHash = storedEntry != null ? computeContentHash(uri) : null;
+			if (storedEntry != null)
+				restoredDescriptions.add(storedEntry.getDescription());
+			if (storedEntry != null && storedEntry.getContentHash().equals(contentHash))
+				contentHashes.put(uri, contentHash);
+			else
+				dirtyFiles.add(uri);
+		}
+		List<URI> deletedFiles = Lists.newArrayList(storedIndex.keySet());
+		for (CMLIndexStorage.IndexEntry deletedEntry : storedIndex.values()) {
+			restoredDescriptions.add(deletedEntry.getDescription());
+		}
+
+		setIndexState(new IndexState(new ResourceDescriptionsData(restoredDescriptions), new Source2GeneratedMapping()));
+		IncrementalBuilder.Result result = doBuild(dirtyFiles, deletedFiles, Collections.emptyList(), cancelIndicator);
+		persistIndex();
+		return result;
+	}
+
+	@Override
+	public IncrementalBuilder.Result doBuild(List<URI> dirtyFiles, List<URI> deletedFiles, List<IResourceDescription.Delta> externalDeltas,
+			CancelIndicator cancelIndicator) {
+		IncrementalBuilder.Result result = super.doBuild(dirtyFiles, deletedFiles, externalDeltas, cancelIndicator);
+		for (URI deletedFile : deletedFiles) {
+			contentHashes.remove(deletedFile);
+		}
+		ResourceDescriptionsData index = getIndexState().getResourceDescriptions();
+		for (URI dirtyFile : dirtyFiles) {
+			String contentHash = index.getResourceDescription(dirtyFile) != null ? computeContentHash(dirtyFile) : null;
+			if (contentHash != null)
+				contentHashes.put(dirtyFile, contentHash);
+			else
+				contentHashes.remove(dirtyFile);
+		}
+		return result;
+	}
+
+	@Override
+	public void aboutToRemoveFromWorkspace() {
+		persistIndex();
+		super.aboutToRemoveFromWorkspace();
+	}
+
+	/**
+	 * Stores the current index of the project.
+	 */
+	public void persistIndex() {
+		if (getIndexState() != null && getIndexFile() != null)
+			getIndexStorage().save(getIndexState().getResourceDescriptions(), contentHashes);
+	}
+
+	/**
+	 * The file the index of this project is stored in (null for projects without
+	 * a location; their index is not stored).
+	 */
+	protected File getIndexFile() {
+		if (getProjectConfig().getPath() == null)
+			return null;
+		String indexDirectory = System.getProperty(INDEX_DIRECTORY_PROPERTY,
+				System.getProperty("user.home") + File.separator + ".contextmapper" + File.separator + "ls-index");
+		String projectKey = CMLIndexStorage.hash(getProjectConfig().getPath().toString().getBytes(StandardCharsets.UTF_8));
+		return new File(indexDirectory, projectKey + ".index");
+	}
+
+	private CMLIndexStorage getIndexStorage() {
+		if (indexStorage == null)
+			indexStorage = new CMLIndexStorage(getIndexFile());
+		return indexStorage;
+	}
+
+	/*
+	 * The hash of the content the file has been indexed with: the content of the
+	 * opened document or the file on disk.
+	 */
+	private String computeContentHash(URI uri) {
+		IExternalContentProvider openedDocuments = getOpenedDocumentsContentProvider();
+		if (openedDocuments != null && openedDocuments.hasContent(uri))
+			return CMLIndexStorage.hash(openedDocuments.getContent(uri).getBytes(StandardCharsets.UTF_8));
+		if (!uri.isFile())
+			return null;
+		try {
+			return CMLIndexStorage.hash(Files.readAllBytes(Paths.get(uri.toFileString())));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+}
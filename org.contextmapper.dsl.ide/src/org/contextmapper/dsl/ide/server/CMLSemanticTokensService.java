@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.contextmapper.dsl.ide.highlighting.CMLSemanticHighlightingCalculator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.semantictokens.SemanticTokensService;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Singleton;
+
+/**
+ * Semantic tokens service supporting delta requests (semanticTokens/full/delta).
+ * 
+ * The tokens of the last request of every document are kept with a result ID;
+ * a delta request then only returns the edit between the previous and the
+ * current tokens. The tokens are not computed again if the document did not
+ * change since the last request.
+ */
+@Singleton
+public class CMLSemanticTokensService extends SemanticTokensService {
+
+	private static final int MAX_CACHED_DOCUMENTS = 16;
+
+	// every token is encoded with five integers
+	private static final int TOKEN_DATA_SIZE = 5;
+
+	private final AtomicLong resultIdCounter = new AtomicLong();
+	private final Map<URI, TokensResult> resultsByDocument = Collections.synchronizedMap(new LinkedHashMap<URI, TokensResult>(MAX_CACHED_DOCUMENTS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<URI, TokensResult> eldest) {
+			return size() > MAX_CACHED_DOCUMENTS;
+		}
+	});
+
+	@Override
+	protected void addTokenTypes() {
+		super.addTokenTypes();
+		for (String tokenType : CMLSemanticHighlightingCalculator.TOKEN_TYPES) {
+			if (!getTokenTypes().contains(tokenType))
+				getTokenTypes().add(tokenType);
+		}
+	}
+
+	@Override
+	protected void addTokenModifiers() {
+		super.addTokenModifiers();
+		for (String tokenModifier : CMLSemanticHighlightingCalculator.TOKEN_MODIFIERS) {
+			if (!getTokenModifiers().contains(tokenModifier))
+				getTokenModifiers().add(tokenModifier);
+		}
+	}
+
+	@Override
+	public SemanticTokens semanticTokensFull(Document document, XtextResource resource, SemanticTokensParams params, CancelIndicator cancelIndicator) {
+		if (document == null || resource == null)
+			return super.semanticTokensFull(document, resource, params, cancelIndicator);
+		TokensResult result = getTokens(document, resource, params, cancelIndicator);
+		return new SemanticTokens(result.resultId, result.data);
+	}
+
+	/**
+	 * Computes the tokens of the document and returns the edit from the tokens
+	 * with the given previous result ID, if they are still known (the full
+	 * tokens otherwise).
+	 */
+	public Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(Document document, XtextResource resource, SemanticTokensDeltaParams params,
+			CancelIndicator cancelIndicator) {
+		if (document == null || resource == null)
+			return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+
+		TokensResult previousResult = resultsByDocument.get(resource.getURI());
+		TokensResult result = getTokens(document, resource, new SemanticTokensParams(params.getTextDocument()), cancelIndicator);
+		if (previousResult == null || !previousResult.resultId.equals(params.getPreviousResultId()))
+			return Either.forLeft(new SemanticTokens(result.resultId, result.data));
+		return Either.forRight(new SemanticTokensDelta(computeEdits(previousResult.data, result.data), result.resultId));
+	}
+
+	private TokensResult getTokens(Document document, XtextResource resource, SemanticTokensParams params, CancelIndicator cancelIndicator) {
+		TokensResult previousResult = resultsByDocument.get(resource.getURI());
+		if (previousResult != null && previousResult.isFor(document))
+			return previousResult;
+
+		List<Integer> data = toLegendTokenTypes(super.semanticTokensFull(document, resource, params, cancelIndicator).getData());
+		TokensResult result = new TokensResult(String.valueOf(resultIdCounter.incrementAndGet()), document, data);
+		if (!cancelIndicator.isCanceled())
+			resultsByDocument.put(resource.getURI(), result);
+		return result;
+	}
+
+	/*
+	 * The Xtext service encodes the token types as index in the legend plus one
+	 * (see SemanticTokensService.getTokenType(String[])); the clients expect the
+	 * index itself.
+	 */
+	private List<Integer> toLegendTokenTypes(List<Integer> data) {
+		List<Integer> legendData = Lists.newArrayList(data);
+		for (int i = 3; i < legendData.size(); i += TOKEN_DATA_SIZE) {
+			if (legendData.get(i) > 0)
+				legendData.set(i, legendData.get(i) - 1);
+		}
+		return legendData;
+	}
+
+	/*
+	 * A single edit replacing the tokens between the common prefix and suffix of
+	 * both token lists (the positions of the tokens are relative to their
+	 * predecessors, so that a change usually only changes a few tokens).
+	 */
+	static List<SemanticTokensEdit> computeEdits(List<Integer> previousData, List<Integer> data) {
+		int minSize = Math.min(previousData.size(), data.size());
+		int prefix = 0;
+		while (prefix < minSize && previousData.get(prefix).equals(data.get(prefix))) {
+			prefix++;
+		}
+		prefix -= prefix % TOKEN_DATA_SIZE;
+		if (prefix == previousData.size() && prefix == data.size())
+			return Collections.emptyList();
+
+		int suffix = 0;
+		while (suffix < minSize - prefix && previousData.get(previousData.size() - suffix - 1).equals(data.get(data.size() - suffix - 1))) {
+			suffix++;
+		}
+		suffix -= suffix % TOKEN_DATA_SIZE;
+		return Collections.singletonList(
+				new SemanticTokensEdit(prefix, previousData.size() - prefix - suffix, data.subList(prefix, data.size() - suffix)));
+	}
+
+	private static class TokensResult {
+
+		private final String resultId;
+		private final Integer version;
+		private final String contents;
+		private final List<Integer> data;
+
+		TokensResult(String resultId, Document document, List<Integer> data) {
+			this.resultId = resultId;
+			this.version = document.getVersion();
+			this.contents = document.getContents();
+			this.data = data;
+		}
+
+		boolean isFor(Document document) {
+			return Objects.equals(version, document.getVersion()) && contents.equals(document.getContents());
+		}
+
+	}
+
+}
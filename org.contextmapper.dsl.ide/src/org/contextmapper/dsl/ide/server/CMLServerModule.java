@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.ide.server.LanguageServerImpl;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.semantictokens.SemanticTokensService;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+
+/**
+ * Overrides the bindings of the Xtext {@link ServerModule} that are specific
+ * to the CML language server.
+ *
+ */
+public class CMLServerModule extends AbstractModule {
+
+	@Override
+	protected void configure() {
+		bind(LanguageServer.class).to(CMLLanguageServer.class);
+		bind(LanguageServerImpl.class).to(CMLLanguageServer.class);
+		bind(ProjectManager.class).to(CMLProjectManager.class);
+		bind(IncrementalBuilder.InternalStatefulIncrementalBuilder.class).to(CMLStatefulIncrementalBuilder.class);
+		bind(SemanticTokensService.class).to(CMLSemanticTokensService.class);
+	}
+
+	/**
+	 * Creates the Xtext {@link ServerModule} with the CML specific bindings.
+	 */
+	public static Module create() {
+		return Modules.override(new ServerModule()).with(new CMLServerModule());
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.build.IncrementalBuilder;
+
+import com.google.inject.Inject;
+
+/**
+ * Incremental builder of the language server that leaves the validation of the
+ * built resources to the {@link CMLValidationScheduler}, if the build has been
+ * triggered by a document change.
+ */
+public class CMLStatefulIncrementalBuilder extends IncrementalBuilder.InternalStatefulIncrementalBuilder {
+
+	@Inject
+	private CMLValidationScheduler validationScheduler;
+
+	@Override
+	protected boolean validate(Resource resource) {
+		if (validationScheduler.isDeferringValidation()) {
+			validationScheduler.validateLater(resource.getURI());
+			return true;
+		}
+		validationScheduler.validatedByBuild(resource.getURI());
+		return super.validate(resource);
+	}
+
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.server;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Schedules the validation of the documents the user is editing, so that the
+ * language server does not validate the whole model on every keystroke.
+ * 
+ * The builds triggered by document changes still parse and index the changed
+ * documents right away, but their validation is deferred to this scheduler
+ * (see {@link CMLStatefulIncrementalBuilder}):
+ * <ul>
+ * <li>The changed (focused) documents are validated once the user stopped
+ * typing for the validation delay (debounced per document).</li>
+ * <li>The resources affected by the change (the resources importing the
+ * changed ones, as determined by the builder from the import graph in the
+ * index) are validated afterwards, one after the other, and only while no
+ * focused document is waiting for its validation.</li>
+ * <li>Validations run as read requests; a new change cancels them and they are
+ * scheduled again, so superseded diagnostics are never published.</li>
+ * </ul>
+ * 
+ * The validation delay can be configured with the system property
+ * {@value #VALIDATION_DELAY_PROPERTY} (milliseconds).
+ */
+@Singleton
+public class CMLValidationScheduler {
+
+	/**
+	 * System property defining the time (in milliseconds) a changed document is
+	 * validated after its last change (default: 300).
+	 */
+	public static final String VALIDATION_DELAY_PROPERTY = "cml.ls.validationDelay";
+
+	private static final Logger LOG = Logger.getLogger(CMLValidationScheduler.class);
+
+	private static final long DEFAULT_VALIDATION_DELAY_MILLIS = 300;
+
+	// all scheduling decisions are taken on this thread; the validations
+	// themselves run as read requests of the language server
+	private static final ScheduledExecutorService SCHEDULER_THREAD = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "CML Validation Scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	private final long validationDelayMillis = Long.getLong(VALIDATION_DELAY_PROPERTY, DEFAULT_VALIDATION_DELAY_MILLIS);
+	private final ThreadLocal<DeferredValidation> deferredValidation = new ThreadLocal<>();
+
+	private RequestManager requestManager;
+	private WorkspaceManager workspaceManager;
+	private BiConsumer<URI, List<Issue>> diagnosticsPublisher;
+
+	private final Map<URI, ScheduledFuture<?>> debouncedDocuments = Maps.newHashMap();
+	private final Set<URI> pendingDependents = Sets.newLinkedHashSet();
+	private final Map<URI, Long> queuedSince = Maps.newHashMap();
+	private int runningDocumentValidations;
+	private boolean dependentValidationRunning;
+	private boolean stopped;
+
+	private final LatencyStatistics documentLatencies = new LatencyStatistics();
+	private final LatencyStatistics dependentLatencies = new LatencyStatistics();
+	private long supersededValidations;
+
+	/**
+	 * Connects the scheduler with the language server it validates for.
+	 * 
+	 * @param requestManager       the request manager the validations are run
+	 *                             with (as read requests)
+	 * @param workspaceManager     the workspace manager the resources are read
+	 *                             from
+	 * @param diagnosticsPublisher publishes the issues of a validated resource
+	 */
+	public void connect(RequestManager requestManager, WorkspaceManager workspaceManager, BiConsumer<URI, List<Issue>> diagnosticsPublisher) {
+		this.requestManager = requestManager;
+		this.workspaceManager = workspaceManager;
+		this.diagnosticsPublisher = diagnosticsPublisher;
+	}
+
+	/**
+	 * Stops scheduling validations (when the language server shuts down).
+	 */
+	public void stop() {
+		SCHEDULER_THREAD.execute(() -> {
+			synchronized (this) {
+				stopped = true;
+				debouncedDocuments.values().forEach(validation -> validation.cancel(false));
+				debouncedDocuments.clear();
+				pendingDependents.clear();
+				queuedSince.clear();
+			}
+		});
+	}
+
+	/**
+	 * Runs the given build and defers the validation of all resources it builds
+	 * to this scheduler.
+	 * 
+	 * @param focusedDocuments the documents the build has been triggered for
+	 *                         (the documents the user is editing)
+	 * @param build            runs the build
+	 */
+	public <T> T buildDeferringValidation(Collection<URI> focusedDocuments, Supplier<T> build) {
+		DeferredValidation validation = new DeferredValidation(focusedDocuments);
+		deferredValidation.set(validation);
+		try {
+			return build.get();
+		} finally {
+			deferredValidation.remove();
+			if (!validation.resources.isEmpty())
+				SCHEDULER_THREAD.execute(() -> schedule(validation));
+		}
+	}
+
+	/**
+	 * Whether the validation of the resources built by the current thread has to
+	 * be deferred (see {@link #validateLater(URI)}).
+	 */
+	public boolean isDeferringValidation() {
+		return deferredValidation.get() != null;
+	}
+
+	/**
+	 * Defers the validation of a resource built by the current thread.
+	 */
+	public void validateLater(URI uri) {
+		deferredValidation.get().resources.add(uri);
+	}
+
+	/**
+	 * Informs the scheduler that a resource has been validated by a build, so
+	 * that a pending validation of the resource can be dropped.
+	 */
+	public void validatedByBuild(URI uri) {
+		SCHEDULER_THREAD.execute(() -> {
+			synchronized (this) {
+				ScheduledFuture<?> debouncedValidation = debouncedDocuments.remove(uri);
+				if (debouncedValidation != null)
+					debouncedValidation.cancel(false);
+				pendingDependents.remove(uri);
+				queuedSince.remove(uri);
+			}
+		});
+	}
+
+	/**
+	 * The current queue depth and latencies of the scheduled validations.
+	 */
+	public synchronized ValidationMetrics getMetrics() {
+		return new ValidationMetrics(debouncedDocuments.size() + pendingDependents.size(), runningDocumentValidations + (dependentValidationRunning ? 1 : 0),
+				supersededValidations, documentLatencies, dependentLatencies);
+	}
+
+	private synchronized void schedule(DeferredValidation validation) {
+		if (stopped)
+			return;
+		long now = System.nanoTime();
+		for (URI uri : validation.resources) {
+			queuedSince.putIfAbsent(uri, now);
+			if (validation.focusedDocuments.contains(uri)) {
+				pendingDependents.remove(uri);
+				debounce(uri);
+			} else if (!debouncedDocuments.containsKey(uri)) {
+				pendingDependents.add(uri);
+			}
+		}
+		validateNextDependent();
+	}
+
+	private void debounce(URI uri) {
+		ScheduledFuture<?> previousValidation = debouncedDocuments.put(uri,
+				SCHEDULER_THREAD.schedule(() -> validateDocument(uri), validationDelayMillis, TimeUnit.MILLISECONDS));
+		if (previousValidation != null && previousValidation.cancel(false))
+			supersededValidations++;
+	}
+
+	private synchronized void validateDocument(URI uri) {
+		debouncedDocuments.remove(uri);
+		if (stopped)
+			return;
+		runningDocumentValidations++;
+		submit(uri, true);
+	}
+
+	private void validateNextDependent() {
+		if (dependentValidationRunning || runningDocumentValidations > 0 || !debouncedDocuments.isEmpty() || pendingDependents.isEmpty())
+			return;
+		URI uri = pendingDependents.iterator().next();
+		pendingDependents.remove(uri);
+		dependentValidationRunning = true;
+		submit(uri, false);
+	}
+
+	private void submit(URI uri, boolean focusedDocument) {
+		try {
+			requestManager.runRead(cancelIndicator -> validate(uri, cancelIndicator)).whenCompleteAsync(
+					(validated, error) -> validationFinished(uri, focusedDocument, Boolean.TRUE.equals(validated), error), SCHEDULER_THREAD);
+		} catch (RejectedExecutionException e) {
+			// the language server has been shut down
+			stopped = true;
+		}
+	}
+
+	private boolean validate(URI uri, CancelIndicator cancelIndicator) {
+		List<Issue> issues = workspaceManager.doRead(uri, (document, resource) -> {
+			if (resource == null)
+				return null;
+			IResourceValidator validator = resource.getResourceServiceProvider().getResourceValidator();
+			return validator.validate(resource, CheckMode.ALL, cancelIndicator);
+		});
+		if (cancelIndicator.isCanceled())
+			return false;
+		if (issues != null)
+			diagnosticsPublisher.accept(uri, issues);
+		return true;
+	}
+
+	private synchronized void validationFinished(URI uri, boolean focusedDocument, boolean validated, Throwable error) {
+		if (focusedDocument)
+			runningDocumentValidations--;
+		else
+			dependentValidationRunning = false;
+		if (stopped)
+			return;
+
+		boolean queuedAgain = debouncedDocuments.containsKey(uri) || pendingDependents.contains(uri);
+		if (validated) {
+			Long since = queuedAgain ? queuedSince.get(uri) : queuedSince.remove(uri);
+			if (since != null)
+				(focusedDocument ? documentLatencies : dependentLatencies).add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since));
+			if (LOG.isDebugEnabled())
+				LOG.debug("Validated " + uri + " (" + getMetrics() + ")");
+		} else if (error == null || error instanceof CancellationException || operationCanceledManager.isOperationCanceledException(error)) {
+			// superseded by a write request; validate again
+			supersededValidations++;
+			if (!queuedAgain && focusedDocument)
+				debounce(uri);
+			else if (!queuedAgain)
+				pendingDependents.add(uri);
+		} else {
+			LOG.error("Validation of " + uri + " failed.", error);
+			queuedSince.remove(uri);
+		}
+		validateNextDependent();
+	}
+
+	private static class DeferredValidation {
+
+		private final Set<URI> focusedDocuments;
+		private final Set<URI> resources = Sets.newLinkedHashSet();
+
+		DeferredValidation(Collection<URI> focusedDocuments) {
+			this.focusedDocuments = Sets.newHashSet(focusedDocuments);
+		}
+
+	}
+
+	private static class LatencyStatistics {
+
+		private long count;
+		private long totalMillis;
+		private long maxMillis;
+
+		void add(long latencyMillis) {
+			count++;
+			totalMillis += latencyMillis;
+			maxMillis = Math.max(maxMillis, latencyMillis);
+		}
+
+	}
+
+	/**
+	 * Snapshot of the queue depth and latencies of the validation scheduler. The
+	 * latencies are measured from the first change that made a validation
+	 * necessary until its diagnostics are published.
+	 */
+	public static class ValidationMetrics {
+
+		private final int queueDepth;
+		private final int runningValidations;
+		private final long supersededValidations;
+		private final long validatedDocuments;
+		private final long averageDocumentLatencyMillis;
+		private final long maxDocumentLatencyMillis;
+		private final long validatedDependents;
+		private final long averageDependentLatencyMillis;
+		private final long maxDependentLatencyMillis;
+
+		ValidationMetrics(int queueDepth, int runningValidations, long supersededValidations, LatencyStatistics documentLatencies,
+				LatencyStatistics dependentLatencies) {
+			this.queueDepth = queueDepth;
+			this.runningValidations = runningValidations;
+			this.supersededValidations = supersededValidations;
+			this.validatedDocuments = documentLatencies.count;
+			this.averageDocumentLatencyMillis = documentLatencies.count > 0 ? documentLatencies.totalMillis / documentLatencies.count : 0;
+			this.maxDocumentLatencyMillis = documentLatencies.maxMillis;
+			this.validatedDependents = dependentLatencies.count;
+			this.averageDependentLatencyMillis = dependentLatencies.count > 0 ? dependentLatencies.totalMillis / dependentLatencies.count : 0;
+			this.maxDependentLatencyMillis = dependentLatencies.maxMillis;
+		}
+
+		/**
+		 * The number of resources waiting for their validation.
+		 */
+		public int getQueueDepth() {
+			return queueDepth;
+		}
+
+		public int getRunningValidations() {
+			return runningValidations;
+		}
+
+		/**
+		 * The number of validations that have been cancelled or rescheduled
+		 * because of a newer change.
+		 */
+		public long getSupersededValidations() {
+			return supersededValidations;
+		}
+
+		public long getValidatedDocuments() {
+			return validatedDocuments;
+		}
+
+		public long getAverageDocumentLatencyMillis() {
+			return averageDocumentLatencyMillis;
+		}
+
+		public long getMaxDocumentLatencyMillis() {
+			return maxDocumentLatencyMillis;
+		}
+
+		public long getValidatedDependents() {
+			return validatedDependents;
+		}
+
+		public long getAverageDependentLatencyMillis() {
+			return averageDependentLatencyMillis;
+		}
+
+		public long getMaxDependentLatencyMillis() {
+			return maxDependentLatencyMillis;
+		}
+
+		@Override
+		public String toString() {
+			return "queue depth: " + queueDepth + ", running: " + runningValidations + ", superseded: " + supersededValidations + ", documents: " + validatedDocuments
+					+ " (avg " + averageDocumentLatencyMillis + " ms, max " + maxDocumentLatencyMillis + " ms), dependents: " + validatedDependents + " (avg "
+					+ averageDependentLatencyMillis + " ms, max " + maxDependentLatencyMillis + " ms)";
+		}
+
+	}
+
+}
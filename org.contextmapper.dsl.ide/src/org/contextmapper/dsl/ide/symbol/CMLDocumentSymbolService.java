@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.symbol;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.symbol.HierarchicalDocumentSymbolService;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import com.google.inject.Singleton;
+
+/**
+ * Caches the document symbols (outline) of the recently requested documents
+ * per document version, so that the symbols of large CML files are not
+ * computed again as long as the document does not change.
+ */
+@Singleton
+public class CMLDocumentSymbolService extends HierarchicalDocumentSymbolService {
+
+	private static final int MAX_CACHED_DOCUMENTS = 16;
+
+	private final Map<URI, CachedSymbols> symbolsByDocument = Collections.synchronizedMap(new LinkedHashMap<URI, CachedSymbols>(MAX_CACHED_DOCUMENTS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<URI, CachedSymbols> eldest) {
+			return size() > MAX_CACHED_DOCUMENTS;
+		}
+	});
+
+	@Override
+	public List<DocumentSymbol> getSymbols(Document document, XtextResource resource, DocumentSymbolParams params, CancelIndicator cancelIndicator) {
+		CachedSymbols cachedSymbols = symbolsByDocument.get(resource.getURI());
+		if (cachedSymbols != null && cachedSymbols.isFor(document))
+			return cachedSymbols.symbols;
+
+		List<DocumentSymbol> symbols = super.getSymbols(document, resource, params, cancelIndicator);
+		if (!cancelIndicator.isCanceled())
+			symbolsByDocument.put(resource.getURI(), new CachedSymbols(document, symbols));
+		return symbols;
+	}
+
+	private static class CachedSymbols {
+
+		private final Integer version;
+		private final String contents;
+		private final List<DocumentSymbol> symbols;
+
+		CachedSymbols(Document document, List<DocumentSymbol> symbols) {
+			this.version = document.getVersion();
+			this.contents = document.getContents();
+			this.symbols = symbols;
+		}
+
+		// the version is not unique if a document is closed and opened again
+		boolean isFor(Document document) {
+			return Objects.equals(version, document.getVersion()) && contents.equals(document.getContents());
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.junit.jupiter.api.Test;
+
+public class CMLModelForkerTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canForkModelIncludingImportedResources() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+
+		// when
+		CMLResource fork = new CMLModelForker(input).fork();
+
+		// then
+		assertEquals(input.getURI(), fork.getURI());
+		assertNotSame(input.getResourceSet(), fork.getResourceSet());
+		assertEquals(2, fork.getResourceSet().getResources().size());
+		ContextMappingModel importedModel = new CMLImportResolver().resolveImportedResources(fork).iterator().next().getContextMappingModel();
+		assertSame(fork.getResourceSet(), importedModel.eResource().getResourceSet());
+		assertEquals(2, fork.getContextMappingModel().getBoundedContexts().size());
+	}
+
+	@Test
+	public void forksAreIndependentOfOriginalAndEachOther() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		CMLModelForker forker = new CMLModelForker(input);
+
+		// when
+		CMLResource fork1 = forker.fork();
+		CMLResource fork2 = forker.fork();
+		fork1.getContextMappingModel().getBoundedContexts().get(0).setName("renamedContext");
+		fork2.getContextMappingModel().getBoundedContexts().remove(1);
+
+		// then
+		ContextMappingModel original = input.getContextMappingModel();
+		assertEquals("context1", original.getBoundedContexts().get(0).getName());
+		assertEquals(2, original.getBoundedContexts().size());
+		BoundedContext bc = fork2.getContextMappingModel().getBoundedContexts().get(0);
+		assertEquals("context1", bc.getName());
+		assertEquals("renamedContext", fork1.getContextMappingModel().getBoundedContexts().get(0).getName());
+		assertEquals(2, fork1.getContextMappingModel().getBoundedContexts().size());
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/imports/";
+	}
+
+}
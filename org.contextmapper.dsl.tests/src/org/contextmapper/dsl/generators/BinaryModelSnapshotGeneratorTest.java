@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.cml.CMLModelSnapshotLoader;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.generator.BinaryModelSnapshotGenerator;
+import org.contextmapper.dsl.standalone.FileSystemHelper;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+class BinaryModelSnapshotGeneratorTest extends AbstractCMLInputFileTest {
+
+	@Test
+	void canWriteAndLoadBinarySnapshot() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("refactoring-test.cml");
+		ContextMappingModel model = input.getContextMappingModel();
+
+		// when
+		new BinaryModelSnapshotGenerator().doGenerate(input, FileSystemHelper.getFileSystemAccess(testDir.getAbsolutePath()), new GeneratorContext());
+		File snapshotFile = new File(testDir, "refactoring-test.cmlbin");
+		CMLResource snapshot = new CMLModelSnapshotLoader().loadSnapshot(snapshotFile);
+
+		// then
+		assertTrue(snapshotFile.exists());
+		ContextMappingModel loadedModel = snapshot.getContextMappingModel();
+		assertEquals(getBoundedContextNames(model), getBoundedContextNames(loadedModel));
+		assertEquals(model.getMap().getRelationships().size(), loadedModel.getMap().getRelationships().size());
+		for (UpstreamDownstreamRelationship relationship : EcoreUtil2.eAllOfType(loadedModel, UpstreamDownstreamRelationship.class)) {
+			assertFalse(relationship.getUpstream().eIsProxy());
+			assertSame(snapshot.getContextMappingModel().eResource(), relationship.getUpstream().eResource());
+		}
+	}
+
+	@Test
+	void snapshotContainsImportedModels() throws IOException {
+		// given
+		getCopyOfTestInputFile("snapshot-test-imported.cml");
+		CMLResource input = getResourceCopyOfTestCML("snapshot-test-main.cml");
+
+		// when
+		new BinaryModelSnapshotGenerator().doGenerate(input, FileSystemHelper.getFileSystemAccess(testDir.getAbsolutePath()), new GeneratorContext());
+		// the snapshot must not depend on the CML files
+		new File(testDir, "snapshot-test-imported.cml").delete();
+		new File(testDir, "snapshot-test-main.cml").delete();
+		CMLResource snapshot = new CMLModelSnapshotLoader().loadSnapshot(new File(testDir, "snapshot-test-main.cmlbin"));
+
+		// then
+		ContextMappingModel loadedModel = snapshot.getContextMappingModel();
+		assertEquals(Lists.newArrayList("PrintingContext"), getBoundedContextNames(loadedModel));
+		UpstreamDownstreamRelationship relationship = (UpstreamDownstreamRelationship) loadedModel.getMap().getRelationships().get(0);
+		BoundedContext importedContext = relationship.getDownstream();
+		assertFalse(importedContext.eIsProxy());
+		assertEquals("CustomerManagementContext", importedContext.getName());
+		assertEquals("Customers", importedContext.getAggregates().get(0).getName());
+		assertSame(snapshot.getContextMappingModel().eResource(), importedContext.eResource());
+		assertEquals(2, snapshot.getContents().size());
+		assertSame(snapshot.getContents().get(1), importedContext.eContainer());
+		assertTrue(loadedModel.getMap().getBoundedContexts().contains(importedContext));
+	}
+
+	private List<String> getBoundedContextNames(ContextMappingModel model) {
+		return model.getBoundedContexts().stream().map(bc -> bc.getName()).collect(Collectors.toList());
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/standalone/";
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.generators.mdsl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -90,6 +92,43 @@ class MDSLContractsGeneratorTest extends AbstractCMLInputFileTest {
 		assertTrue(ids.contains("MyPreservedDataType"));
 	}
 
+	@Test
+	void canCreateMDSLFilesInParallel() throws IOException {
+		// given
+		String inputModelName = "mdsl-no-operation-in-one-api.cml";
+		MDSLContractsGenerator sequentialGenerator = new MDSLContractsGenerator();
+		sequentialGenerator.setMaxThreads(1);
+		MDSLContractsGenerator parallelGenerator = new MDSLContractsGenerator();
+		parallelGenerator.setMaxThreads(4);
+
+		// when
+		IFileSystemAccess2Mock sequentialFilesystem = new IFileSystemAccess2Mock();
+		sequentialGenerator.doGenerate(new ContextMappingModelResourceMock(getResourceCopyOfTestCML(inputModelName).getContextMappingModel(), "testmodel", "cml"),
+				sequentialFilesystem, new IGeneratorContextMock());
+		IFileSystemAccess2Mock parallelFilesystem = new IFileSystemAccess2Mock();
+		parallelGenerator.doGenerate(new ContextMappingModelResourceMock(getResourceCopyOfTestCML(inputModelName).getContextMappingModel(), "testmodel", "cml"),
+				parallelFilesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(2, parallelFilesystem.getGeneratedFilesSet().size());
+		assertEquals(sequentialFilesystem.getGeneratedFilesSet(), parallelFilesystem.getGeneratedFilesSet());
+		for (String mdslFileName : parallelFilesystem.getGeneratedFilesSet()) {
+			assertEquals(withoutTimestamp(sequentialFilesystem.readTextFile(mdslFileName).toString()),
+					withoutTimestamp(parallelFilesystem.readTextFile(mdslFileName).toString()));
+		}
+	}
+
+	@Test
+	void cannotSetLessThanOneThread() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			new MDSLContractsGenerator().setMaxThreads(0);
+		});
+	}
+
+	private String withoutTimestamp(String mdsl) {
+		return mdsl.replaceAll("// Generated from DDD Context Map.*", "");
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/mdsl/";
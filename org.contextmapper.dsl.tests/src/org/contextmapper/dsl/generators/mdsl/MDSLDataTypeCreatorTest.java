@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.mdsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeCreator;
+import org.contextmapper.dsl.generator.mdsl.model.DataType;
+import org.contextmapper.tactic.dsl.tacticdsl.Attribute;
+import org.contextmapper.tactic.dsl.tacticdsl.ComplexType;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.junit.jupiter.api.Test;
+
+public class MDSLDataTypeCreatorTest {
+
+	@Test
+	void canCompleteTypeReferencedByNameBeforeItsDomainObject() {
+		// given
+		MDSLDataTypeCreator creator = new MDSLDataTypeCreator();
+		ComplexType typeByName = createComplexType("Customer");
+		ComplexType typeByDomainObject = createComplexType(createCustomerEntity());
+
+		// when
+		DataType dataType1 = creator.createMDSLDataType(typeByName);
+		DataType dataType2 = creator.createMDSLDataType(typeByDomainObject);
+
+		// then
+		assertSame(dataType1, dataType2);
+		assertSame(dataType1, creator.createMDSLDataType(typeByName));
+		assertCustomerType(creator);
+	}
+
+	@Test
+	void canReuseTypeOfDomainObjectForTypeReferencedByName() {
+		// given
+		MDSLDataTypeCreator creator = new MDSLDataTypeCreator();
+		ComplexType typeByName = createComplexType("Customer");
+		ComplexType typeByDomainObject = createComplexType(createCustomerEntity());
+
+		// when
+		DataType dataType1 = creator.createMDSLDataType(typeByDomainObject);
+		DataType dataType2 = creator.createMDSLDataType(typeByName);
+
+		// then
+		assertSame(dataType1, dataType2);
+		assertCustomerType(creator);
+	}
+
+	@Test
+	void canCreateTypeForDomainObjectWithoutAttributesReferencingItself() {
+		// given
+		MDSLDataTypeCreator creator = new MDSLDataTypeCreator();
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("Node");
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName("parent");
+		reference.setDomainObjectType(entity);
+		entity.getReferences().add(reference);
+
+		// when
+		DataType dataType = creator.createMDSLDataType(createComplexType(entity));
+
+		// then
+		assertEquals(1, creator.getAllDataTypes().size());
+		assertEquals(1, dataType.getAttributes().size());
+		assertEquals("Node", dataType.getAttributes().get(0).getType());
+	}
+
+	private void assertCustomerType(MDSLDataTypeCreator creator) {
+		assertEquals(1, creator.getAllDataTypes().size());
+		DataType dataType = creator.getAllDataTypes().iterator().next();
+		assertFalse(dataType.isAbstractDataType());
+		List<String> attributeNames = dataType.getAttributes().stream().map(a -> a.getName()).collect(Collectors.toList());
+		assertEquals(1, attributeNames.size());
+		assertTrue(attributeNames.contains("name"));
+	}
+
+	private Entity createCustomerEntity() {
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("Customer");
+		Attribute attribute = TacticdslFactory.eINSTANCE.createAttribute();
+		attribute.setName("name");
+		attribute.setType("String");
+		entity.getAttributes().add(attribute);
+		return entity;
+	}
+
+	private ComplexType createComplexType(String typeName) {
+		ComplexType type = TacticdslFactory.eINSTANCE.createComplexType();
+		type.setType(typeName);
+		return type;
+	}
+
+	private ComplexType createComplexType(Entity entity) {
+		ComplexType type = TacticdslFactory.eINSTANCE.createComplexType();
+		type.setDomainObjectType(entity);
+		return type;
+	}
+
+}
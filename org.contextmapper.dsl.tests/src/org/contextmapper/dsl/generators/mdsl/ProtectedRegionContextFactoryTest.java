@@ -19,12 +19,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.file.Paths;
 
 import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContext;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContextFactory;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionIdentifier;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader;
 import org.junit.jupiter.api.Test;
 
 public class ProtectedRegionContextFactoryTest {
@@ -96,4 +100,59 @@ public class ProtectedRegionContextFactoryTest {
 		assertEquals(0, context.getClientIdentifiers().size());
 	}
 
+	@Test
+	public void canCreateContext4ExistingFileFromReader() throws IOException {
+		// given
+		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
+		File mdslFile = new File(Paths.get("").toAbsolutePath().toString(), "/integ-test-files/mdsl/protected-region-identifier-test.mdsl");
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+		String mdslInput = FileUtils.readFileToString(mdslFile);
+
+		// when
+		ProtectedRegionContext context;
+		try (Reader fileReader = new FileReader(mdslFile)) {
+			context = factory.createProtectedRegionContextForExistingMDSLFile(fileReader);
+		}
+
+		// then
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			assertEquals(reader.getProtectedRegionContent(mdslInput, regionIdentifier), getRegion(context, regionIdentifier));
+		}
+		assertEquals(reader.getIdentifiersInProtectedRegion(context.getProtectedDataTypeRegion(), ProtectedRegionIdentifier.DATA_TYPE_REGION),
+				context.getDataTypeIdentifiers());
+		assertEquals(reader.getIdentifiersInProtectedRegion(context.getProtectedEndpointRegion(), ProtectedRegionIdentifier.ENDPOINT_REGION),
+				context.getEndpointIdentifiers());
+	}
+
+	@Test
+	public void ignoresRegionsWhichAreNotClosed() {
+		// given
+		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
+		String mdslInput = "// ** BEGIN PROTECTED REGION for data types" + System.lineSeparator() + "data type Address P" + System.lineSeparator()
+				+ "// ** END PROTECTED REGION for data types" + System.lineSeparator() + "// ** BEGIN PROTECTED REGION for API clients"
+				+ System.lineSeparator() + "API client ContractManagementContextClient";
+
+		// when
+		ProtectedRegionContext context = factory.createProtectedRegionContextForExistingMDSLFile(mdslInput);
+
+		// then
+		assertEquals("data type Address P", context.getProtectedDataTypeRegion());
+		assertEquals(1, context.getDataTypeIdentifiers().size());
+		assertNull(context.getProtectedClientRegion());
+		assertEquals(0, context.getClientIdentifiers().size());
+	}
+
+	private String getRegion(ProtectedRegionContext context, ProtectedRegionIdentifier regionIdentifier) {
+		switch (regionIdentifier) {
+		case DATA_TYPE_REGION:
+			return context.getProtectedDataTypeRegion();
+		case ENDPOINT_REGION:
+			return context.getProtectedEndpointRegion();
+		case PROVIDER_REGION:
+			return context.getProtectedProviderRegion();
+		default:
+			return context.getProtectedClientRegion();
+		}
+	}
+
 }
@@ -15,7 +15,9 @@
  */
 package org.contextmapper.dsl.generators.mocks;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -84,8 +86,9 @@ public class IFileSystemAccess2Mock implements IFileSystemAccess2 {
 
 	@Override
 	public InputStream readBinaryFile(String fileName) throws RuntimeIOException {
-		// TODO Auto-generated method stub
-		return null;
+		if (!this.fileMap.containsKey(fileName))
+			return null;
+		return new ByteArrayInputStream(this.fileMap.get(fileName).getBytes(StandardCharsets.UTF_8));
 	}
 
 	@Override
@@ -19,7 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -30,6 +32,8 @@ import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.dsl.contextMappingDSL.Subdomain;
 import org.contextmapper.dsl.generator.PlantUMLGenerator;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLImageFormat;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLRenderResult;
 import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
 import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
@@ -242,6 +246,68 @@ class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 				filesystem.getGeneratedFilesSet().contains("testmodel_ValueRegister_SD_Values_Value-Impact-Map.puml"));
 	}
 
+	@Test
+	void canRenderDiagramImagesIfImageFormatsAreSet() throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("use-case-diagram-generation-test-1.cml")
+				.getContextMappingModel();
+		this.generator.setImageFormats(PlantUMLImageFormat.SVG);
+		this.generator.setRenderCacheDirectory(new File(testDir, "render-cache"));
+
+		// when
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem,
+				new IGeneratorContextMock());
+
+		// then
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.puml"));
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.svg"));
+		assertFalse(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.png"));
+		PlantUMLRenderResult result = this.generator.getRenderResults().stream()
+				.filter(r -> r.getFileName().equals("testmodel_UseCases.svg")).findFirst().get();
+		assertFalse(result.isFromCache());
+		assertTrue(new String(result.getImage(), StandardCharsets.UTF_8).contains("<svg"));
+		assertTrue(result.getRenderTimeMillis() >= 0);
+	}
+
+	@Test
+	void canTakeUnchangedDiagramsFromRenderCache() throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("use-case-diagram-generation-test-1.cml")
+				.getContextMappingModel();
+		this.generator.setImageFormats(PlantUMLImageFormat.SVG);
+		this.generator.setRenderCacheDirectory(new File(testDir, "render-cache"));
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"),
+				new IFileSystemAccess2Mock(), new IGeneratorContextMock());
+
+		// when
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem,
+				new IGeneratorContextMock());
+
+		// then
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.svg"));
+		assertFalse(this.generator.getRenderResults().isEmpty());
+		assertTrue(this.generator.getRenderResults().stream().allMatch(r -> r.isFromCache()));
+	}
+
+	@Test
+	void doesNotRenderImagesByDefault() throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("use-case-diagram-generation-test-1.cml")
+				.getContextMappingModel();
+
+		// when
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem,
+				new IGeneratorContextMock());
+
+		// then
+		assertFalse(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.svg"));
+		assertFalse(filesystem.getGeneratedFilesSet().contains("testmodel_UseCases.png"));
+		assertTrue(this.generator.getRenderResults().isEmpty());
+	}
+
 	@Test
 	void expectExceptionForEmptyResource() {
 		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
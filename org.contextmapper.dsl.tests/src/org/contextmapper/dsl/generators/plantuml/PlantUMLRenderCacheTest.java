@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.plantuml;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.contextmapper.dsl.AbstractDirectoryIntegrationTest;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLImageFormat;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLRenderCache;
+import org.junit.jupiter.api.Test;
+
+class PlantUMLRenderCacheTest extends AbstractDirectoryIntegrationTest {
+
+	@Test
+	void canComputeContentBasedKey() {
+		// given
+		PlantUMLRenderCache cache = new PlantUMLRenderCache(testDir);
+
+		// when
+		String key1 = cache.computeKey("@startuml\nA -> B\n@enduml");
+		String key2 = cache.computeKey("@startuml\nA -> B\n@enduml");
+		String key3 = cache.computeKey("@startuml\nA -> C\n@enduml");
+
+		// then
+		assertEquals(64, key1.length());
+		assertEquals(key1, key2);
+		assertNotEquals(key1, key3);
+	}
+
+	@Test
+	void canStoreAndLoadImages() {
+		// given
+		PlantUMLRenderCache cache = new PlantUMLRenderCache(testDir);
+		String key = cache.computeKey("@startuml\nA -> B\n@enduml");
+		byte[] image = "<svg></svg>".getBytes(StandardCharsets.UTF_8);
+
+		// when
+		cache.put(key, PlantUMLImageFormat.SVG, image);
+
+		// then
+		assertTrue(cache.get(key, PlantUMLImageFormat.SVG).isPresent());
+		assertArrayEquals(image, cache.get(key, PlantUMLImageFormat.SVG).get());
+		assertFalse(cache.get(key, PlantUMLImageFormat.PNG).isPresent());
+	}
+
+	@Test
+	void returnsEmptyResultForUnknownKey() {
+		// given
+		PlantUMLRenderCache cache = new PlantUMLRenderCache(testDir);
+
+		// when, then
+		assertFalse(cache.get(cache.computeKey("unknown"), PlantUMLImageFormat.SVG).isPresent());
+	}
+
+}
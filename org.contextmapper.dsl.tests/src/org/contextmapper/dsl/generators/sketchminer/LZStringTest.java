@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.sketchminer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.contextmapper.dsl.generator.sketchminer.LZString;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The expected values have been created with the previous (String- and
+ * HashMap-based) implementation of the encoder; the links must not change.
+ */
+public class LZStringTest {
+
+	@Test
+	void canCompressNull() {
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(null);
+
+		// then
+		assertEquals("", compressed);
+	}
+
+	@Test
+	void canCompressEmptyString() {
+		// when
+		String compressed = LZString.compressToEncodedURIComponent("");
+
+		// then
+		assertEquals("Q", compressed);
+	}
+
+	@Test
+	void canCompressSimpleFlow() {
+		// given
+		String input = "bpln:v1\n--\nTestContext Application:\n\nservice StartCommand\n(FirstEvent)\nservice EndCommand\n\n";
+
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("EYBwNgdgXAbgjAKALRIQFQKYGcAuBhAewhwwA8cACAQRHAEsBjAQxzqKgQSwwCcZGMFAMo4mPfAQC2kphAAmCABQAxOj1wBRGBmIBKLr34NBG+YWmyFCIA", compressed);
+	}
+
+	@Test
+	void canCompressFlowWithParallelPaths() {
+		// given
+		String input = "bpln:v1\n--\nTestContext Application:\n\nservice StartCommand\n(FirstEvent)|(SecondEvent)\n...\n\n...\n(FirstEvent)\nservice EndCommand\n\n...\n(SecondEvent)\nservice EndCommand\n\n";
+
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("EYBwNgdgXAbgjAKALRIQFQKYGcAuBhAewhwwA8cACAQRHAEsBjAQxzqKgQSwwCcZGMFAMo4mPfAQC2kphAAmCABQAxOj1wBRGBmIBKAD6KhGBkTladOXQgB0dznZtLV6nBb1de-BoI3zC0rIKtvZGJmbuVp58AhR+cgEy8pxAA",
+				compressed);
+	}
+
+	@Test
+	void canCompressCoordination() {
+		// given
+		String input = "bpln:v1\n--\nContextA: service ServiceA.operationA\nContextB: service ServiceB.operationB\n\n";
+
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("EYBwNgdgXAbgjAKALRIQYQPYQC4FMAe2AglAAQDOuATjAJYDGupAytXY0QHQYjUCG2WliLoseQgCEylGgyatZjCd15UBQiBIQIgA", compressed);
+	}
+
+	@Test
+	void canCompressNonLatinCharacters() {
+		// given
+		String input = "bpln:v1\n--\nKundenverwaltung Application:\n\nservice Bestellung\u00c4ndern\n(Bestellung Ge\u00e4ndert)\nservice \u6ce8\u6587\u78ba\u5b9a\n\n";
+
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("EYBwNgdgXAbgjAKALRIQaQK4QCYFMIy4BOA7gIZgAuWA5gAQCCI4AlgMZmUsD20CCAZ2Ix2uOgCFcAyrjBhaAEZzEICABSTps+RHoBxXABPlRSgEpBw0XUAXNoHDTQF0egLO1+QA", compressed);
+	}
+
+	@Test
+	void canCompressLargeFlow() {
+		// given
+		StringBuilder input = new StringBuilder("bpln:v1\n--\nLargeContext Application:\n\n");
+		for (int i = 0; i < 100; i++)
+			input.append("service Command" + i + "\n(Event" + i + ")\n");
+
+		// when
+		String compressed = LZString.compressToEncodedURIComponent(input.toString());
+
+		// then
+		assertEquals(
+				"EYBwNgdgXAbgjAKALRIQGQIYCcDmBTAYQHsIAXPAD1IAIBBEcASwGMNTGSoEEBnPLGCzzViAW1EYIAEwAMCABQBRGHjIyAlL36DmwsROmIlKsnE18BQkUXGSpAJgXLVpe+e1X9dgMxOTpb3dLXWtbaQAWPxdwoJ09GwMpAFYosiTYzwS7ADZU0myMkK9pAHY8ksL4sKkADjyaytDEgE485sbiqTg5YxdujqzDI2dTMy1gqsS4R17TN3G4prs4X1nSFYHquEi17c2plN30hcyt3N2Ck6LBrrLdiqvJ5brdhselw1bd9vfO+x6Rq4NL8bvZhv4wfs7PYZoCYVDpPZVnDAiDqvYdnCYmjEvZDnDjhZFn9znDLkTTri7nCHhTruiXnC3nSnoivnCfiyPlJvAD-LyETzwS5vGMuZ1vLD+fNxTdvMj+ajZdVvJj+djlYlvPj+YSPPStaT+eT9ayedT+bTTdzvIz+czrRL2fzOY6buE+dFgZq7OFhWQ-YLwlLojK3dVwgrokrw4lwmrohrY76ddE9RNueEjdETRnOuELdErXn3Xbog6SxHndFXZXEklPWlvcnpEl-aQ24KkiG0mG63YklG0jH+62E2kk6Pkqm0uniTcktm0rn59UkoW0sXV-Wy2kK9uB9W0rWD9Jso38s2p9l2zfBdke-k+6epNkh-kRy-suP8pOvzP8jnSkciXfIV2As8N3yLcINfXd8n3WDsiPfIT1gkoLwwwUSnbHDsMfEpn3Q98Sk-dCfxKP90IAkogINOwSlAxjsKgkoYPo0p4JKRCOKkEoUP4wUagvYShPbGoxRbWpHxqIjeJqd8FKEn8aio+SAJqOizRqUCdKEqCanY7T4JqHjtJQmo0N45oLxswVmnbBz7MfZo5LNZp3w8+yf2aNT3IA5otO5ZpQJC+yoOaIzgvg5ozOClDmh+IA",
+				compressed);
+	}
+
+}
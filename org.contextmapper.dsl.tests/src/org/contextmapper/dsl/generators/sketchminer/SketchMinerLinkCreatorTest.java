@@ -16,6 +16,7 @@
 package org.contextmapper.dsl.generators.sketchminer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.io.IOException;
 
@@ -129,6 +130,38 @@ public class SketchMinerLinkCreatorTest extends AbstractCMLInputFileTest {
 				link);
 	}
 
+	@Test
+	public void canReuseLinkOfUnchangedFlow() throws IOException {
+		// given
+		Flow flow = EcoreUtil2.eAllOfType(getOriginalResourceOfTestCML("link-integ-test.cml").getContextMappingModel(), Flow.class).get(0);
+		Flow sameFlowInOtherResource = EcoreUtil2.eAllOfType(getResourceCopyOfTestCML("link-integ-test.cml").getContextMappingModel(), Flow.class).get(0);
+		Flow otherFlow = EcoreUtil2.eAllOfType(getOriginalResourceOfTestCML("actor-test-1.cml").getContextMappingModel(), Flow.class).get(0);
+
+		// when
+		String link = new SketchMinerLinkCreator().createSketchMinerLink(flow);
+		String cachedLink = new SketchMinerLinkCreator().createSketchMinerLink(sameFlowInOtherResource);
+		String otherLink = new SketchMinerLinkCreator().createSketchMinerLink(otherFlow);
+
+		// then
+		assertEquals(link, cachedLink);
+		assertNotEquals(link, otherLink);
+	}
+
+	@Test
+	public void canCreateNewLinkIfEnclosingBoundedContextIsRenamed() throws IOException {
+		// given
+		ContextMappingModel model = getResourceCopyOfTestCML("link-integ-test.cml").getContextMappingModel();
+		Flow flow = EcoreUtil2.eAllOfType(model, Flow.class).get(0);
+		String link = new SketchMinerLinkCreator().createSketchMinerLink(flow);
+
+		// when
+		model.getBoundedContexts().get(0).setName("RenamedInsuranceQuotes");
+		String linkAfterRename = new SketchMinerLinkCreator().createSketchMinerLink(flow);
+
+		// then
+		assertNotEquals(link, linkAfterRename);
+	}
+
 	@Test
 	public void canReturnEmptyString4WrongObject() {
 		// given
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.eclipse.emf.common.notify.Notifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContextMappingModelHelperTest {
+
+	private ContextMap contextMap;
+	private BoundedContext context;
+	private BoundedContext myContext;
+	private BoundedContext anotherContext;
+
+	@BeforeEach
+	void prepare() {
+		contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		context = createBoundedContext("Context");
+		myContext = createBoundedContext("MyContext");
+		anotherContext = createBoundedContext("AnotherContext");
+		contextMap.getBoundedContexts().addAll(Arrays.asList(context, myContext, anotherContext));
+	}
+
+	@Test
+	void canFindRelationshipsInvolvingContext() {
+		// given
+		Partnership partnership = createPartnership(myContext, anotherContext);
+		UpstreamDownstreamRelationship upstreamDownstream = createUpstreamDownstreamRelationship(anotherContext, context);
+		contextMap.getRelationships().addAll(Arrays.asList(partnership, upstreamDownstream));
+
+		// when
+		List<Relationship> relationships = new ContextMappingModelHelper(contextMap).findAnyRelationshipsInvolvingContext(context);
+
+		// then
+		// 'MyContext' ends with 'Context' but is another context
+		assertEquals(1, relationships.size());
+		assertSame(upstreamDownstream, relationships.get(0));
+	}
+
+	@Test
+	void canFindRelationshipsBetweenTwoContexts() {
+		// given
+		Partnership partnership = createPartnership(myContext, anotherContext);
+		UpstreamDownstreamRelationship upstreamDownstream = createUpstreamDownstreamRelationship(anotherContext, context);
+		contextMap.getRelationships().addAll(Arrays.asList(partnership, upstreamDownstream));
+
+		// when
+		List<Relationship> relationships = new ContextMappingModelHelper(contextMap).findAnyRelationshipsBetweenTwoContexts(context, anotherContext);
+
+		// then
+		assertEquals(1, relationships.size());
+		assertSame(upstreamDownstream, relationships.get(0));
+	}
+
+	@Test
+	void canUpdateIndexWhenContextMapChanges() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		Partnership partnership = createPartnership(myContext, anotherContext);
+		contextMap.getRelationships().add(partnership);
+		assertEquals(1, helper.findAnyRelationshipsInvolvingContext(myContext).size());
+
+		// when
+		UpstreamDownstreamRelationship upstreamDownstream = createUpstreamDownstreamRelationship(myContext, context);
+		contextMap.getRelationships().add(upstreamDownstream);
+		partnership.setParticipant1(context);
+		anotherContext.setName("RenamedContext");
+
+		// then
+		assertEquals(Arrays.asList(upstreamDownstream), helper.findAnyRelationshipsInvolvingContext(myContext));
+		assertEquals(2, helper.findAnyRelationshipsInvolvingContext(context).size());
+		assertEquals(Arrays.asList(partnership), new ContextMappingModelHelper(contextMap).findAnyRelationshipsBetweenTwoContexts(context, anotherContext));
+
+		// when
+		contextMap.getRelationships().remove(partnership);
+
+		// then
+		assertEquals(Arrays.asList(upstreamDownstream), helper.findAnyRelationshipsInvolvingContext(context));
+		assertTrue(helper.findAnyRelationshipsInvolvingContext(anotherContext).isEmpty());
+	}
+
+	@Test
+	void canReplaceBCInAllRelationships() {
+		// given
+		BoundedContext newContext = createBoundedContext("NewContext");
+		Partnership partnership = createPartnership(myContext, anotherContext);
+		UpstreamDownstreamRelationship upstreamDownstream = createUpstreamDownstreamRelationship(anotherContext, context);
+		contextMap.getRelationships().addAll(Arrays.asList(partnership, upstreamDownstream));
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+
+		// when
+		boolean replaced = helper.replaceBCInAllRelationships(anotherContext, newContext);
+
+		// then
+		assertTrue(replaced);
+		assertSame(newContext, partnership.getParticipant2());
+		assertSame(newContext, upstreamDownstream.getUpstream());
+		assertTrue(helper.findAnyRelationshipsInvolvingContext(anotherContext).isEmpty());
+		assertEquals(2, helper.findAnyRelationshipsInvolvingContext(newContext).size());
+		assertTrue(contextMap.getBoundedContexts().contains(newContext));
+	}
+
+	@Test
+	void releasesContextsWhichLeaveTheMapAndCanBeDisposed() {
+		// given
+		BoundedContext newContext = createBoundedContext("NewContext");
+		Partnership partnership = createPartnership(myContext, anotherContext);
+		UpstreamDownstreamRelationship upstreamDownstream = createUpstreamDownstreamRelationship(anotherContext, context);
+		contextMap.getRelationships().addAll(Arrays.asList(partnership, upstreamDownstream));
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		helper.findAnyRelationshipsInvolvingContext(context);
+
+		// when
+		helper.replaceBCInAllRelationships(anotherContext, newContext);
+
+		// then
+		assertTrue(anotherContext.eAdapters().isEmpty());
+		assertEquals(1, newContext.eAdapters().size());
+
+		// when
+		ContextMapRelationshipIndex.disposeIndex(contextMap);
+
+		// then
+		for (Notifier notifier : Arrays.asList(contextMap, partnership, upstreamDownstream, context, myContext, newContext))
+			assertTrue(notifier.eAdapters().isEmpty());
+		assertEquals(Arrays.asList(upstreamDownstream), new ContextMappingModelHelper(contextMap).findAnyRelationshipsInvolvingContext(context));
+	}
+
+	private BoundedContext createBoundedContext(String name) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		return bc;
+	}
+
+	private Partnership createPartnership(BoundedContext participant1, BoundedContext participant2) {
+		Partnership partnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		partnership.setParticipant1(participant1);
+		partnership.setParticipant2(participant2);
+		return partnership;
+	}
+
+	private UpstreamDownstreamRelationship createUpstreamDownstreamRelationship(BoundedContext upstream, BoundedContext downstream) {
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(upstream);
+		relationship.setDownstream(downstream);
+		return relationship;
+	}
+
+}
@@ -34,6 +34,7 @@ import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
 import org.contextmapper.tactic.dsl.tacticdsl.Attribute;
@@ -42,6 +43,7 @@ import org.contextmapper.tactic.dsl.tacticdsl.Parameter;
 import org.contextmapper.tactic.dsl.tacticdsl.Reference;
 import org.contextmapper.tactic.dsl.tacticdsl.Service;
 import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -324,4 +326,51 @@ public class DeriveBoundedContextFromSubdomainsTest extends AbstractRefactoringT
 		assertEquals(expectedResult, dslText);
 	}
 
+	@Test
+	public void canDeriveBoundedContextFromLargeSubdomainInLinearTime() throws IOException {
+		// when
+		long changesFor2000Entities = countChangesOfDerivation(2000);
+		long changesFor4000Entities = countChangesOfDerivation(4000);
+
+		// then
+		// twice the entities must not cost more than about twice the changes
+		assertTrue(changesFor4000Entities <= 2.5 * changesFor2000Entities);
+	}
+
+	private long countChangesOfDerivation(int numberOfEntities) throws IOException {
+		CMLResource input = reloadResource(getResourceCopyOfTestCML("derive-bc-from-subdomain-test-1-input.cml"));
+		Subdomain subdomain = input.getContextMappingModel().getDomains().get(0).getSubdomains().get(0);
+		Service service = subdomain.getServices().get(0);
+		Entity previous = subdomain.getEntities().get(0);
+		for (int i = 0; i < numberOfEntities; i++) {
+			Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+			entity.setName("GeneratedEntity" + i);
+			Attribute attribute = TacticdslFactory.eINSTANCE.createAttribute();
+			attribute.setName("name");
+			attribute.setType("String");
+			entity.getAttributes().add(attribute);
+			Reference reference = TacticdslFactory.eINSTANCE.createReference();
+			reference.setName("previous");
+			reference.setDomainObjectType(previous);
+			entity.getReferences().add(reference);
+			subdomain.getEntities().add(entity);
+			ServiceOperation operation = TacticdslFactory.eINSTANCE.createServiceOperation();
+			operation.setName("operation" + i);
+			service.getOperations().add(operation);
+			previous = entity;
+		}
+		ModelChangeCounter counter = ModelChangeCounter.observe(input.getContextMappingModel());
+
+		Set<String> subdomains = Sets.newHashSet(Arrays.asList(new String[] { "CustomerDomain" }));
+		new DeriveBoundedContextFromSubdomains("NewTestBC", subdomains).refactor(input);
+
+		Aggregate aggregate = input.getContextMappingModel().getBoundedContexts().get(0).getAggregates().get(0);
+		assertEquals(numberOfEntities + 1, aggregate.getDomainObjects().size());
+		Entity lastEntity = (Entity) aggregate.getDomainObjects().get(numberOfEntities);
+		assertEquals("GeneratedEntity" + (numberOfEntities - 1), lastEntity.getName());
+		assertEquals(aggregate, lastEntity.getReferences().get(0).getDomainObjectType().eContainer());
+		assertEquals(numberOfEntities + 2, aggregate.getServices().get(0).getOperations().size());
+		return counter.getChangedElements();
+	}
+
 }
@@ -25,8 +25,10 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.refactoring.ExtractAggregatesByCohesion;
@@ -184,4 +186,39 @@ public class ExtractAggregatesByCohesionTest extends AbstractRefactoringTest {
 		assertEquals(2, contextMap.getRelationships().size());
 	}
 
+	@Test
+	void canExtractManyAggregatesInLinearTime() throws IOException {
+		// when
+		long changesFor1000Aggregates = countChangesOfExtraction(1000);
+		long changesFor2000Aggregates = countChangesOfExtraction(2000);
+
+		// then
+		// twice the aggregates must not cost more than about twice the changes;
+		// rebuilding the lists per moved aggregate would cost four times as many
+		assertTrue(changesFor2000Aggregates <= 2.5 * changesFor1000Aggregates);
+	}
+
+	private long countChangesOfExtraction(int numberOfAggregates) throws IOException {
+		CMLResource input = reloadResource(getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-1-input.cml"));
+		BoundedContext bc = input.getContextMappingModel().getBoundedContexts().stream().filter(b -> b.getName().equals("CustomerManagement")).findFirst().get();
+		List<String> aggregatesToExtract = Lists.newArrayList();
+		for (int i = 0; i < numberOfAggregates; i++) {
+			Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+			aggregate.setName("GeneratedAggregate" + i);
+			bc.getAggregates().add(aggregate);
+			if (i % 2 == 0)
+				aggregatesToExtract.add(aggregate.getName());
+		}
+		ModelChangeCounter counter = ModelChangeCounter.observe(input.getContextMappingModel());
+
+		new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", aggregatesToExtract).refactor(input);
+
+		BoundedContext newBC = input.getContextMappingModel().getBoundedContexts().stream().filter(b -> b.getName().equals("CustomerManagement_Extracted")).findFirst().get();
+		assertEquals(numberOfAggregates / 2 + 3, bc.getAggregates().size());
+		assertEquals(numberOfAggregates / 2, newBC.getAggregates().size());
+		assertEquals("GeneratedAggregate0", newBC.getAggregates().get(0).getName());
+		assertEquals("GeneratedAggregate" + (numberOfAggregates - 2), newBC.getAggregates().get(numberOfAggregates / 2 - 1).getName());
+		return counter.getChangedElements();
+	}
+
 }
@@ -10,9 +10,11 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Import;
 import org.contextmapper.dsl.contextMappingDSL.KnowledgeLevel;
@@ -339,4 +341,36 @@ public class MergeBoundedContextsTest extends AbstractRefactoringTest {
 		assertTrue(neededImport.isPresent());
 	}
 
+	@Test
+	void canMergeBoundedContextsWithManyAggregatesInLinearTime() throws IOException {
+		// when
+		long changesFor1000Aggregates = countChangesOfMerge(1000);
+		long changesFor2000Aggregates = countChangesOfMerge(2000);
+
+		// then
+		// twice the aggregates must not cost more than about twice the changes
+		assertTrue(changesFor2000Aggregates <= 2.5 * changesFor1000Aggregates);
+	}
+
+	private long countChangesOfMerge(int numberOfAggregates) throws IOException {
+		CMLResource input = reloadResource(getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml"));
+		BoundedContext anotherContext = input.getContextMappingModel().getBoundedContexts().get(1);
+		for (int i = 0; i < numberOfAggregates; i++) {
+			Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+			aggregate.setName("GeneratedAggregate" + i);
+			anotherContext.getAggregates().add(aggregate);
+		}
+		ModelChangeCounter counter = ModelChangeCounter.observe(input.getContextMappingModel());
+
+		new MergeBoundedContextsRefactoring("CustomerManagement", "AnotherContext").refactor(input);
+
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(1, model.getBoundedContexts().size());
+		List<Aggregate> aggregates = model.getBoundedContexts().get(0).getAggregates();
+		assertEquals(numberOfAggregates + 3, aggregates.size());
+		assertEquals("AnotherAggregate", aggregates.get(2).getName());
+		assertEquals("GeneratedAggregate" + (numberOfAggregates - 1), aggregates.get(numberOfAggregates + 2).getName());
+		return counter.getChangedElements();
+	}
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Counts the elements a refactoring adds, removes, moves or sets within an
+ * observed model. Unlike a wall-clock time the count does not depend on the
+ * machine running the tests; a list that is rebuilt for every moved element
+ * shows up as a quadratic count.
+ */
+public class ModelChangeCounter extends EContentAdapter {
+
+	private long changedElements = 0;
+
+	public static ModelChangeCounter observe(EObject object) {
+		ModelChangeCounter counter = new ModelChangeCounter();
+		object.eAdapters().add(counter);
+		return counter;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch())
+			return;
+
+		switch (notification.getEventType()) {
+		case Notification.ADD_MANY:
+			changedElements += ((Collection<?>) notification.getNewValue()).size();
+			break;
+		case Notification.REMOVE_MANY:
+			changedElements += ((Collection<?>) notification.getOldValue()).size();
+			break;
+		case Notification.ADD:
+		case Notification.REMOVE:
+		case Notification.MOVE:
+		case Notification.SET:
+		case Notification.UNSET:
+			changedElements++;
+			break;
+		default:
+			break;
+		}
+	}
+
+	public long getChangedElements() {
+		return changedElements;
+	}
+
+}
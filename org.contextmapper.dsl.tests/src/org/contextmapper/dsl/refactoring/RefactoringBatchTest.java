@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class RefactoringBatchTest extends AbstractRefactoringTest {
+
+	@Test
+	void canApplyRefactoringsInOneBatch() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch(
+				new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Arrays.asList(new String[] { "Addresses" })),
+				new SplitAggregateByEntitiesRefactoring("Customers"));
+
+		// when
+		batch.refactor(input);
+		batch.persistChanges(serializer);
+
+		// then
+		ContextMappingModel model = reloadResource(input).getContextMappingModel();
+		assertEquals(3, model.getBoundedContexts().size());
+		assertEquals(Arrays.asList(new String[] { "Customers", "AnotherAggregate", "Account" }), getAggregateNames(getBoundedContext(model, "CustomerManagement")));
+		assertEquals(Arrays.asList(new String[] { "Addresses" }), getAggregateNames(getBoundedContext(model, "CustomerManagement_Extracted")));
+	}
+
+	@Test
+	void canUseElementsCreatedByPreviousRefactorings() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch(
+				new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Arrays.asList(new String[] { "Customers", "Addresses" })),
+				new ExtractAggregatesByCohesion("CustomerManagement_Extracted", "AddressManagement", Arrays.asList(new String[] { "Addresses" })));
+
+		// when
+		batch.refactor(input);
+
+		// then
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(4, model.getBoundedContexts().size());
+		assertEquals(Arrays.asList(new String[] { "Customers" }), getAggregateNames(getBoundedContext(model, "CustomerManagement_Extracted")));
+		assertEquals(Arrays.asList(new String[] { "Addresses" }), getAggregateNames(getBoundedContext(model, "AddressManagement")));
+	}
+
+	@Test
+	void revertsAllRefactoringsIfOneFails() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch(
+				new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Arrays.asList(new String[] { "Addresses" })),
+				new ExtractSharedKernelRefactoring("CustomerManagement", "AnotherContext"));
+
+		// when
+		assertThrows(RefactoringInputException.class, () -> {
+			batch.refactor(input);
+		});
+
+		// then
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(2, model.getBoundedContexts().size());
+		assertEquals(3, getBoundedContext(model, "CustomerManagement").getAggregates().size());
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void canSplitBoundedContextByOwnerWithinBatch() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("split-bc-by-owner-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch(new SplitBoundedContextByOwner("CustomerManagement"), new SplitAggregateByEntitiesRefactoring("Customers"));
+
+		// when
+		batch.refactor(input);
+		batch.persistChanges(serializer);
+
+		// then
+		ContextMappingModel model = reloadResource(input).getContextMappingModel();
+		assertEquals(4, model.getBoundedContexts().size());
+		assertEquals(Arrays.asList(new String[] { "Customers", "Account" }), getAggregateNames(getBoundedContext(model, "CustomerManagement")));
+		assertEquals(Arrays.asList(new String[] { "Addresses" }), getAggregateNames(getBoundedContext(model, "NewBoundedContext1")));
+	}
+
+	@Test
+	void revertsSplitByOwnerIfLaterRefactoringFails() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("split-bc-by-owner-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch(new SplitBoundedContextByOwner("CustomerManagement"), new ExtractSharedKernelRefactoring("CustomerManagement", "NotExisting"));
+
+		// when
+		assertThrows(RefactoringInputException.class, () -> {
+			batch.refactor(input);
+		});
+
+		// then
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(3, model.getBoundedContexts().size());
+		assertEquals(Arrays.asList(new String[] { "Customers", "Addresses" }), getAggregateNames(getBoundedContext(model, "CustomerManagement")));
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void keepsRootElementsUpToDateBetweenRefactorings() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml");
+		List<String> boundedContextNames = Lists.newArrayList();
+		AbstractRefactoring collectBoundedContextNames = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				boundedContextNames.add(getAllBoundedContexts().stream().map(bc -> bc.getName()).sorted().collect(Collectors.joining(", ")));
+			}
+		};
+		RefactoringBatch batch = new RefactoringBatch(new MergeBoundedContextsRefactoring("CustomerManagement", "AnotherContext"), collectBoundedContextNames,
+				new ExtractAggregatesByCohesion("CustomerManagement", "AddressManagement", Arrays.asList(new String[] { "Addresses" })), collectBoundedContextNames);
+
+		// when
+		batch.refactor(input);
+
+		// then
+		assertEquals(Arrays.asList(new String[] { "CustomerManagement", "AddressManagement, CustomerManagement" }), boundedContextNames);
+	}
+
+	@Test
+	void canApplyEmptyBatch() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-1-input.cml");
+		RefactoringBatch batch = new RefactoringBatch();
+
+		// when
+		batch.refactor(input);
+		batch.persistChanges(serializer);
+
+		// then
+		assertTrue(batch.getRefactorings().isEmpty());
+		assertEquals(2, reloadResource(input).getContextMappingModel().getBoundedContexts().size());
+	}
+
+	private BoundedContext getBoundedContext(ContextMappingModel model, String name) {
+		return model.getBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().get();
+	}
+
+	private List<String> getAggregateNames(BoundedContext bc) {
+		return bc.getAggregates().stream().map(a -> a.getName()).collect(Collectors.toList());
+	}
+
+}
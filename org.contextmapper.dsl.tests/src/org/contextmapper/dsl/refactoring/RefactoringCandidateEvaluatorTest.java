@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.contextmapper.dsl.cml.CMLModelMetrics;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class RefactoringCandidateEvaluatorTest extends AbstractRefactoringTest {
+
+	@Test
+	void canEvaluateRefactoringCandidatesOnForks() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("aggregate-cohesion-test-1-input.cml");
+		List<SemanticCMLRefactoring> candidates = Lists.newArrayList(
+				new ExtractAggregatesByCohesion("Shop", "ProductManagement", Lists.newArrayList("Catalog", "Stock")),
+				new ExtractAggregatesByCohesion("Shop", "CustomerManagement", Lists.newArrayList("Customers")),
+				new AbstractRefactoring() {
+					@Override
+					protected void doRefactor() {
+						throw new RefactoringInputException("Candidate failed.");
+					}
+				});
+		RefactoringCandidateEvaluator evaluator = new RefactoringCandidateEvaluator();
+
+		// when
+		List<RefactoringCandidateEvaluation> evaluations = evaluator.evaluate(input, candidates);
+
+		// then
+		CMLModelMetrics originalMetrics = evaluator.getMetrics(input);
+		assertEquals(2, originalMetrics.getBoundedContextCount());
+		assertEquals(5, originalMetrics.getAggregateCount());
+		assertEquals(1, originalMetrics.getRelationshipCount());
+		assertEquals(0, originalMetrics.getCrossBoundedContextReferenceCount());
+		assertFalse(input.isModified());
+
+		assertEquals(3, evaluations.size());
+		CMLModelMetrics byProducts = evaluations.get(0).getMetrics();
+		assertEquals(3, byProducts.getBoundedContextCount());
+		assertEquals(5, byProducts.getAggregateCount());
+		assertEquals(0, byProducts.getCrossBoundedContextReferenceCount());
+		CMLModelMetrics byCustomers = evaluations.get(1).getMetrics();
+		assertEquals(3, byCustomers.getBoundedContextCount());
+		assertEquals(2, byCustomers.getRelationshipCount());
+		assertEquals(1, byCustomers.getCrossBoundedContextReferenceCount());
+		assertTrue(evaluations.get(1).isSuccessful());
+		assertFalse(evaluations.get(2).isSuccessful());
+		assertEquals("Candidate failed.", evaluations.get(2).getErrorMessage());
+		assertNull(evaluations.get(2).getMetrics());
+	}
+
+}
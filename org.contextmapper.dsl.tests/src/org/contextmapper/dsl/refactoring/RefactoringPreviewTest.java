@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.standalone.CMLChangeSerializer;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+public class RefactoringPreviewTest extends AbstractRefactoringTest {
+
+	private static final String INPUT_FILE = "extract-aggregates-by-nfr-test-1-input.cml";
+
+	@Inject
+	private Provider<ISerializer> serializerProvider;
+
+	@Test
+	void canPreviewRefactoringWithoutChangingModelOrFile() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		String originalText = readFile(input);
+		ExtractAggregatesByCohesion ar = new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted",
+				Lists.newArrayList("Customers", "Addresses"));
+
+		// when
+		RefactoringChangeSet changeSet = ar.preview(input, serializerProvider);
+
+		// then
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(2, model.getBoundedContexts().size());
+		assertEquals(3, model.getBoundedContexts().get(0).getAggregates().size());
+		assertFalse(input.isModified());
+		assertEquals(originalText, readFile(input));
+
+		assertEquals(1, changeSet.getAddedElements().size());
+		assertEquals("CustomerManagement_Extracted", ((BoundedContext) changeSet.getAddedElements().get(0)).getName());
+		assertTrue(changeSet.getRemovedElements().isEmpty());
+		assertEquals(Lists.newArrayList("Customers", "Addresses"),
+				changeSet.getMovedElements().stream().map(m -> ((Aggregate) m.getElement()).getName()).collect(Collectors.toList()));
+		assertEquals(model.getBoundedContexts().get(0), changeSet.getMovedElements().get(0).getOldContainer());
+		assertEquals(changeSet.getAddedElements().get(0), changeSet.getMovedElements().get(0).getNewContainer());
+		assertEquals(1, changeSet.getTextEdits().size());
+		assertTrue(changeSet.getNewTexts().get(input.getURI()).contains("BoundedContext CustomerManagement_Extracted"));
+	}
+
+	@Test
+	void previewCalculatesSameTextAsAppliedRefactoring() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		RefactoringChangeSet changeSet = new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Lists.newArrayList("Addresses"))
+				.preview(input, serializerProvider);
+
+		// when
+		ExtractAggregatesByCohesion ar = new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Lists.newArrayList("Addresses"));
+		new CMLChangeSerializer(serializer).applyModification(input, () -> ar.refactor(input));
+
+		// then
+		assertEquals(changeSet.getNewTexts().get(input.getURI()), readFile(input));
+	}
+
+	@Test
+	void canPreviewRemovedAndChangedElements() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		AbstractRefactoring ar = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				BoundedContext bc = model.getBoundedContexts().get(0);
+				removeElementFromEList(bc.getAggregates(), bc.getAggregates().get(2));
+				bc.getAggregates().get(0).setName("Clients");
+			}
+		};
+
+		// when
+		RefactoringChangeSet changeSet = ar.preview(input, serializerProvider);
+
+		// then
+		BoundedContext bc = input.getContextMappingModel().getBoundedContexts().get(0);
+		assertEquals(3, bc.getAggregates().size());
+		assertEquals("Customers", bc.getAggregates().get(0).getName());
+		assertEquals(Lists.newArrayList(bc.getAggregates().get(2)), changeSet.getRemovedElements());
+		assertEquals(Lists.newArrayList(bc.getAggregates().get(0)), changeSet.getChangedElements());
+		assertTrue(changeSet.getAddedElements().isEmpty());
+		assertTrue(changeSet.getMovedElements().isEmpty());
+		String newText = changeSet.getNewTexts().get(input.getURI());
+		assertTrue(newText.contains("Aggregate Clients"));
+		assertFalse(newText.contains("AnotherAggregate"));
+		assertTrue(newText.startsWith(readFile(input).substring(0, readFile(input).indexOf("BoundedContext CustomerManagement"))));
+	}
+
+	@Test
+	void canPreviewCandidateRefactoringsInParallel() throws IOException {
+		// given
+		List<String> aggregates = Lists.newArrayList("Customers", "Addresses", "AnotherAggregate");
+		List<CMLResource> copies = Lists.newArrayList();
+		for (String aggregate : aggregates) {
+			File copy = new File(testDir, "preview-" + aggregate + ".cml");
+			FileUtils.copyFile(getTestFile(INPUT_FILE), copy);
+			copies.add(new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(copy.getAbsolutePath()), true)));
+		}
+
+		// when
+		List<RefactoringChangeSet> changeSets = aggregates.parallelStream()
+				.map(aggregate -> new ExtractAggregatesByCohesion("CustomerManagement", "Extracted" + aggregate, Lists.newArrayList(aggregate))
+						.preview(copies.get(aggregates.indexOf(aggregate)), serializerProvider))
+				.collect(Collectors.toList());
+
+		// then
+		for (int i = 0; i < aggregates.size(); i++) {
+			assertEquals(aggregates.get(i), ((Aggregate) changeSets.get(i).getMovedElements().get(0).getElement()).getName());
+			assertTrue(changeSets.get(i).getNewTexts().get(copies.get(i).getURI()).contains("BoundedContext Extracted" + aggregates.get(i)));
+			assertEquals(3, copies.get(i).getContextMappingModel().getBoundedContexts().get(0).getAggregates().size());
+		}
+	}
+
+	@Test
+	void canPreviewRenamedBoundedContextReferencedFromAnotherFile() throws IOException {
+		// given
+		CMLResource boundedContexts = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-4-input-2.cml");
+		CMLResource contextMap = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-4-input-1.cml");
+
+		// when
+		RefactoringChangeSet changeSet = createRenameRefactoring().preview(boundedContexts, serializerProvider);
+
+		// then
+		String newContextMapText = changeSet.getNewTexts().get(contextMap.getURI());
+		assertNotNull(newContextMapText);
+		assertTrue(newContextMapText.contains("CustomerManagementContext"));
+		assertFalse(Pattern.compile("\\bCustomerManagement\\b").matcher(newContextMapText).find());
+	}
+
+	@Test
+	void updatesFilesReferencingRenamedBoundedContext() throws IOException {
+		// given
+		CMLResource boundedContexts = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-4-input-2.cml");
+		CMLResource contextMap = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-4-input-1.cml");
+		AbstractRefactoring ar = createRenameRefactoring();
+
+		// when
+		new CMLChangeSerializer(serializer).applyModification(boundedContexts, () -> ar.refactor(boundedContexts));
+
+		// then
+		String contextMapText = readFile(contextMap);
+		assertTrue(contextMapText.contains("CustomerManagementContext"));
+		assertFalse(Pattern.compile("\\bCustomerManagement\\b").matcher(contextMapText).find());
+		assertTrue(readFile(boundedContexts).contains("BoundedContext CustomerManagementContext"));
+	}
+
+	private AbstractRefactoring createRenameRefactoring() {
+		return new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				model.getBoundedContexts().get(0).setName("CustomerManagementContext");
+			}
+		};
+	}
+
+	private String readFile(CMLResource resource) throws IOException {
+		return FileUtils.readFileToString(new File(resource.getURI().toFileString()), StandardCharsets.UTF_8);
+	}
+
+}
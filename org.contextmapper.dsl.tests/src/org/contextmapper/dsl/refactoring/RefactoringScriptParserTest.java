@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.junit.jupiter.api.Test;
+
+public class RefactoringScriptParserTest {
+
+	@Test
+	void canParseScript() {
+		// given
+		String script = "# comment" + System.lineSeparator() //
+				+ "SplitBoundedContextByOwner PolicyManagementContext" + System.lineSeparator() //
+				+ System.lineSeparator() //
+				+ "  ExtractAggregatesByCohesion CustomerManagement CustomerAddresses Addresses,Contacts  " + System.lineSeparator() //
+				+ "MergeBoundedContexts DebtCollection PrintingContext true" + System.lineSeparator() //
+				+ "ExtractAggregatesByVolatility CustomerManagement OFTEN";
+
+		// when
+		RefactoringBatch batch = new RefactoringScriptParser().parse(script);
+
+		// then
+		assertEquals(4, batch.getRefactorings().size());
+		assertTrue(batch.getRefactorings().get(0) instanceof SplitBoundedContextByOwner);
+		assertTrue(batch.getRefactorings().get(1) instanceof ExtractAggregatesByCohesion);
+		assertTrue(batch.getRefactorings().get(2) instanceof MergeBoundedContextsRefactoring);
+		assertTrue(batch.getRefactorings().get(3) instanceof ExtractAggregatesByVolatility);
+	}
+
+	@Test
+	void cannotParseUnknownRefactoring() {
+		// given
+		String script = "SplitBoundedContextByOwner PolicyManagementContext" + System.lineSeparator() + "RenameEverything Foo";
+
+		// when, then
+		RefactoringInputException exception = assertThrows(RefactoringInputException.class, () -> {
+			new RefactoringScriptParser().parse(script);
+		});
+		assertTrue(exception.getMessage().startsWith("Unknown refactoring 'RenameEverything' in line 2."));
+	}
+
+	@Test
+	void cannotParseRefactoringWithWrongNumberOfParameters() {
+		// given
+		String script = "MergeBoundedContexts DebtCollection";
+
+		// when, then
+		RefactoringInputException exception = assertThrows(RefactoringInputException.class, () -> {
+			new RefactoringScriptParser().parse(script);
+		});
+		assertEquals("The refactoring 'MergeBoundedContexts' in line 1 expects 2 to 3 parameters, but 1 were given.", exception.getMessage());
+	}
+
+	@Test
+	void cannotParseInvalidParameter() {
+		// given
+		String script = "ExtractAggregatesByVolatility CustomerManagement SOMETIMES";
+
+		// when, then
+		assertThrows(RefactoringInputException.class, () -> {
+			new RefactoringScriptParser().parse(script);
+		});
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.util.ReplaceRegion;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class RefactoringTransactionTest extends AbstractRefactoringTest {
+
+	private static final String INPUT_FILE = "extract-aggregates-by-nfr-test-1-input.cml";
+
+	@Test
+	void canRollbackChangesIfRefactoringFails() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		AbstractRefactoring ar = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				BoundedContext bc = getBoundedContext(model, "CustomerManagement");
+				removeElementFromEList(bc.getAggregates(), bc.getAggregates().get(1));
+				bc.setName("ChangedName");
+				throw new RefactoringInputException("Refactoring failed.");
+			}
+		};
+
+		// when
+		assertThrows(RefactoringInputException.class, () -> {
+			ar.refactor(input);
+		});
+
+		// then
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "CustomerManagement");
+		assertEquals(Lists.newArrayList("Customers", "Addresses", "AnotherAggregate"), getAggregateNames(bc));
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void canRollbackChangesIfSerializationFails() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		File inputFile = new File(input.getURI().toFileString());
+		String originalContent = FileUtils.readFileToString(inputFile, StandardCharsets.UTF_8);
+		AbstractRefactoring ar = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				// an aggregate without name cannot be serialized
+				BoundedContext bc = getBoundedContext(model, "CustomerManagement");
+				addElementToEList(bc.getAggregates(), ContextMappingDSLFactory.eINSTANCE.createAggregate());
+			}
+		};
+		ar.refactor(input);
+
+		// when
+		assertThrows(RefactoringSerializationException.class, () -> {
+			ar.persistChanges(serializer);
+		});
+
+		// then
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "CustomerManagement");
+		assertEquals(Lists.newArrayList("Customers", "Addresses", "AnotherAggregate"), getAggregateNames(bc));
+		assertEquals(originalContent, FileUtils.readFileToString(inputFile, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void doesNotWriteAnyFileIfOneResourceCannotBeSerialized() throws IOException {
+		// given
+		CMLResource mainResource = getResourceCopyOfTestCML("extract-aggregates-by-nfr-test-4-input-2.cml");
+		ResourceSet additionalResources = getResourceSetOfTestCMLFiles("extract-aggregates-by-nfr-test-4-input-1.cml");
+		File mainFile = new File(mainResource.getURI().toFileString());
+		String originalContent = FileUtils.readFileToString(mainFile, StandardCharsets.UTF_8);
+		AbstractRefactoring ar = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				BoundedContext bc = getBoundedContext(model, "CustomerManagement");
+				Aggregate newAggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+				newAggregate.setName("NewAggregate");
+				addElementToEList(bc.getAggregates(), newAggregate);
+
+				// a relationship without participants cannot be serialized
+				ContextMap contextMap = getAllContextMaps().iterator().next();
+				addElementToEList(contextMap.getRelationships(), ContextMappingDSLFactory.eINSTANCE.createPartnership());
+			}
+		};
+		ar.refactor(mainResource, additionalResources);
+
+		// when
+		assertThrows(RefactoringSerializationException.class, () -> {
+			ar.persistChanges(serializer);
+		});
+
+		// then
+		assertEquals(originalContent, FileUtils.readFileToString(mainFile, StandardCharsets.UTF_8));
+		BoundedContext bc = getBoundedContext(mainResource.getContextMappingModel(), "CustomerManagement");
+		assertEquals(Lists.newArrayList("Customers", "Addresses", "AnotherAggregate"), getAggregateNames(bc));
+	}
+
+	@Test
+	void serializesOnlyChangedTopLevelElements() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE);
+		File inputFile = new File(input.getURI().toFileString());
+		RecordingSerializer recordingSerializer = new RecordingSerializer(serializer);
+		AbstractRefactoring ar = new AbstractRefactoring() {
+			@Override
+			protected void doRefactor() {
+				BoundedContext bc = getBoundedContext(model, "CustomerManagement");
+				Aggregate newAggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+				newAggregate.setName("NewAggregate");
+				addElementToEList(bc.getAggregates(), newAggregate);
+			}
+		};
+
+		// when
+		ar.refactor(input);
+		ar.persistChanges(recordingSerializer);
+
+		// then
+		assertEquals(1, recordingSerializer.serializedObjects.size());
+		assertTrue(recordingSerializer.serializedObjects.get(0) instanceof BoundedContext);
+		// the unchanged Context Map keeps its formatting
+		assertTrue(FileUtils.readFileToString(inputFile, StandardCharsets.UTF_8).startsWith("ContextMap {\n\tcontains CustomerManagement, AnotherContext\n\t\n"));
+		BoundedContext bc = getBoundedContext(reloadResource(input).getContextMappingModel(), "CustomerManagement");
+		assertEquals(Lists.newArrayList("Customers", "Addresses", "AnotherAggregate", "NewAggregate"), getAggregateNames(bc));
+	}
+
+	private static BoundedContext getBoundedContext(ContextMappingModel model, String name) {
+		return model.getBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().get();
+	}
+
+	private static List<String> getAggregateNames(BoundedContext bc) {
+		return bc.getAggregates().stream().map(a -> a.getName()).collect(Collectors.toList());
+	}
+
+	private static class RecordingSerializer implements ISerializer {
+
+		private final ISerializer delegate;
+		private final List<EObject> serializedObjects = Lists.newArrayList();
+
+		RecordingSerializer(ISerializer delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String serialize(EObject obj) {
+			serializedObjects.add(obj);
+			return delegate.serialize(obj);
+		}
+
+		@Override
+		public String serialize(EObject obj, SaveOptions options) {
+			serializedObjects.add(obj);
+			return delegate.serialize(obj, options);
+		}
+
+		@Override
+		public void serialize(EObject obj, Writer writer, SaveOptions options) throws IOException {
+			serializedObjects.add(obj);
+			delegate.serialize(obj, writer, options);
+		}
+
+		@Override
+		public ReplaceRegion serializeReplacement(EObject obj, SaveOptions options) {
+			serializedObjects.add(obj);
+			return delegate.serializeReplacement(obj, options);
+		}
+	}
+
+}
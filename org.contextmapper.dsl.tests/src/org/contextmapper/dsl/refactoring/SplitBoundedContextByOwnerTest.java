@@ -23,6 +23,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.refactoring.SplitBoundedContextByOwner;
@@ -128,4 +131,44 @@ public class SplitBoundedContextByOwnerTest extends AbstractRefactoringTest {
 		assertEquals(1, rel2.getUpstreamExposedAggregates().size());
 	}
 
+	@Test
+	void canSplitLargeBoundedContextInLinearTime() throws IOException {
+		// when
+		long changesFor1000Aggregates = countChangesOfSplit(1000);
+		long changesFor2000Aggregates = countChangesOfSplit(2000);
+
+		// then
+		// twice the aggregates must not cost more than about twice the changes;
+		// rebuilding the lists per moved aggregate would cost four times as many
+		assertTrue(changesFor2000Aggregates <= 2.5 * changesFor1000Aggregates);
+	}
+
+	private long countChangesOfSplit(int numberOfAggregates) throws IOException {
+		CMLResource input = reloadResource(getResourceCopyOfTestCML("split-bc-by-owner-test-1-input.cml"));
+		List<BoundedContext> bcs = input.getContextMappingModel().getBoundedContexts();
+		BoundedContext bc = bcs.get(0);
+		for (int i = 0; i < numberOfAggregates; i++) {
+			Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+			aggregate.setName("GeneratedAggregate" + i);
+			aggregate.setOwner(bcs.get(1 + i % 2));
+			bc.getAggregates().add(aggregate);
+		}
+		ModelChangeCounter counter = ModelChangeCounter.observe(input.getContextMappingModel());
+
+		new SplitBoundedContextByOwner("CustomerManagement").refactor(input);
+
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(4, model.getBoundedContexts().size());
+		BoundedContext newBC = model.getBoundedContexts().get(3);
+		assertEquals("NewBoundedContext1", newBC.getName());
+		assertEquals(numberOfAggregates / 2 + 1, bc.getAggregates().size());
+		assertEquals(numberOfAggregates / 2 + 1, newBC.getAggregates().size());
+		assertEquals("Customers", bc.getAggregates().get(0).getName());
+		assertEquals("Addresses", newBC.getAggregates().get(0).getName());
+		assertEquals("GeneratedAggregate1", newBC.getAggregates().get(1).getName());
+		assertTrue(bc.getAggregates().stream().allMatch(a -> a.getOwner().getName().equals("Team1")));
+		assertTrue(newBC.getAggregates().stream().allMatch(a -> a.getOwner().getName().equals("Team2")));
+		return counter.getChangedElements();
+	}
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring.cohesion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.refactoring.AbstractRefactoringTest;
+import org.contextmapper.dsl.refactoring.ExtractAggregatesByCohesion;
+import org.contextmapper.dsl.refactoring.RefactoringBatch;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class AggregateCohesionAnalyzerTest extends AbstractRefactoringTest {
+
+	@Test
+	void canProposeCohesiveAggregateGroups() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("aggregate-cohesion-test-1-input.cml");
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "Shop");
+
+		// when
+		List<List<Aggregate>> groups = new AggregateCohesionAnalyzer().proposeAggregateGroups(bc);
+
+		// then
+		assertEquals(2, groups.size());
+		assertEquals(Lists.newArrayList("Orders", "Customers", "Settings"), getNames(groups.get(0)));
+		assertEquals(Lists.newArrayList("Catalog", "Stock"), getNames(groups.get(1)));
+	}
+
+	@Test
+	void canExtractProposedAggregateGroups() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("aggregate-cohesion-test-1-input.cml");
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "Shop");
+
+		// when
+		RefactoringBatch refactoring = new AggregateCohesionAnalyzer().createRefactoring(bc);
+		refactoring.refactor(input);
+
+		// then
+		assertEquals(1, refactoring.getRefactorings().size());
+		assertTrue(refactoring.getRefactorings().get(0) instanceof ExtractAggregatesByCohesion);
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(3, model.getBoundedContexts().size());
+		assertEquals(Lists.newArrayList("Orders", "Customers", "Settings"), getNames(getBoundedContext(model, "Shop").getAggregates()));
+		assertEquals(Lists.newArrayList("Catalog", "Stock"), getNames(getBoundedContext(model, "Shop_Catalog").getAggregates()));
+	}
+
+	@Test
+	void canProposeAndExtractAggregatesWithinModules() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("aggregate-cohesion-test-2-input.cml");
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "Shop");
+
+		// when
+		List<List<Aggregate>> groups = new AggregateCohesionAnalyzer().proposeAggregateGroups(bc);
+		RefactoringBatch refactoring = new AggregateCohesionAnalyzer().createRefactoring(bc);
+		refactoring.refactor(input);
+
+		// then
+		assertEquals(2, groups.size());
+		assertEquals(Lists.newArrayList("Catalog", "Stock"), getNames(groups.get(1)));
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals(Lists.newArrayList("Orders", "Customers"), getNames(getBoundedContext(model, "Shop").getAggregates()));
+		assertTrue(getBoundedContext(model, "Shop").getModules().get(0).getAggregates().isEmpty());
+		assertEquals(Lists.newArrayList("Catalog", "Stock"), getNames(getBoundedContext(model, "Shop_Catalog").getAggregates()));
+	}
+
+	@Test
+	void returnsNoGroupsForBoundedContextWithoutAggregates() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("aggregate-cohesion-test-1-input.cml");
+		BoundedContext bc = getBoundedContext(input.getContextMappingModel(), "Billing");
+
+		// when
+		List<List<Aggregate>> groups = new AggregateCohesionAnalyzer().proposeAggregateGroups(bc);
+
+		// then
+		assertTrue(groups.isEmpty());
+	}
+
+	@Test
+	void canAnalyzeLargeBoundedContextInLinearTime() {
+		// given
+		BoundedContext bc = createClusteredBoundedContext(30, 100);
+		BoundedContext twiceAsLargeBC = createClusteredBoundedContext(60, 100);
+
+		// when
+		List<List<Aggregate>> groups = new AggregateCohesionAnalyzer().proposeAggregateGroups(bc);
+		WeightedGraph graph = buildCouplingGraph(bc);
+		WeightedGraph twiceAsLargeGraph = buildCouplingGraph(twiceAsLargeBC);
+		LouvainCommunityDetection detection = new LouvainCommunityDetection();
+		detection.detect(graph);
+		LouvainCommunityDetection twiceAsLargeDetection = new LouvainCommunityDetection();
+		twiceAsLargeDetection.detect(twiceAsLargeGraph);
+
+		// then
+		assertEquals(30, groups.size());
+		for (List<Aggregate> group : groups) {
+			assertEquals(100, group.size());
+			Set<Integer> clustersOfGroup = group.stream().map(a -> Integer.parseInt(a.getName().substring("Aggregate".length())) / 100).collect(Collectors.toSet());
+			assertEquals(1, clustersOfGroup.size());
+		}
+		// one edge per reference, stored in both directions
+		assertEquals(2 * (5 * 3000 + 30), graph.neighbours.length);
+		assertEquals(2 * graph.neighbours.length, twiceAsLargeGraph.neighbours.length);
+		// twice the Aggregates must not cost more than about twice the work
+		assertTrue(twiceAsLargeDetection.getVisitedArcs() <= 2.5 * detection.getVisitedArcs());
+	}
+
+	private BoundedContext createClusteredBoundedContext(int clusters, int clusterSize) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName("LargeContext");
+		List<Entity> entities = Lists.newArrayList();
+		for (int i = 0; i < clusters * clusterSize; i++) {
+			Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+			aggregate.setName("Aggregate" + i);
+			Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+			entity.setName("Entity" + i);
+			aggregate.getDomainObjects().add(entity);
+			bc.getAggregates().add(aggregate);
+			entities.add(entity);
+		}
+		for (int cluster = 0; cluster < clusters; cluster++) {
+			for (int i = 0; i < clusterSize; i++) {
+				Entity entity = entities.get(cluster * clusterSize + i);
+				for (int offset : new int[] { 1, 2, 3, 5, 8 })
+					addReference(entity, entities.get(cluster * clusterSize + (i + offset) % clusterSize));
+			}
+			// a single reference into the next cluster
+			addReference(entities.get(cluster * clusterSize), entities.get(((cluster + 1) % clusters) * clusterSize + 1));
+		}
+		return bc;
+	}
+
+	private WeightedGraph buildCouplingGraph(BoundedContext bc) {
+		return new AggregateCohesionAnalyzer().buildCouplingGraph(bc, Lists.newArrayList(bc.getAggregates()));
+	}
+
+	private void addReference(Entity source, Entity target) {
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName("ref" + target.getName());
+		reference.setDomainObjectType(target);
+		source.getReferences().add(reference);
+	}
+
+	private BoundedContext getBoundedContext(ContextMappingModel model, String name) {
+		return model.getBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().get();
+	}
+
+	private List<String> getNames(List<Aggregate> aggregates) {
+		return aggregates.stream().map(Aggregate::getName).collect(Collectors.toList());
+	}
+
+}
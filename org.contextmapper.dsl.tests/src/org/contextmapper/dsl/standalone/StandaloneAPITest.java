@@ -17,6 +17,7 @@ package org.contextmapper.dsl.standalone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -28,8 +29,11 @@ import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
+import org.contextmapper.dsl.refactoring.AbstractRefactoring;
+import org.contextmapper.dsl.refactoring.RefactoringChangeSet;
 import org.contextmapper.dsl.refactoring.SplitBoundedContextByOwner;
 import org.eclipse.xtext.resource.SaveOptions;
 import org.junit.jupiter.api.Test;
@@ -157,6 +161,100 @@ public class StandaloneAPITest {
 		assertNotNull(model.getBoundedContexts().stream().filter(bc -> bc.getName().equals("NewBoundedContext1")).findFirst().get());
 	}
 
+	@Test
+	public void canApplyRefactoringWithMinimalTextChanges() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-test-minimal-changes.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+
+		// when
+		contextMapper.applyRefactoring(cml, new SplitBoundedContextByOwner("PolicyManagementContext"));
+
+		// then
+		String originalContent = FileUtils.readFileToString(originalFile, Charset.forName("UTF-8"));
+		String newContent = FileUtils.readFileToString(cmlTestFile, Charset.forName("UTF-8"));
+		String untouchedBoundedContext = originalContent.substring(originalContent.indexOf("/* Bounded Context Definitions */"),
+				originalContent.indexOf("BoundedContext CustomerSelfServiceContext"));
+		assertTrue(newContent.contains(untouchedBoundedContext));
+		ContextMappingModel model = contextMapper.loadCML(cmlTestFile).getContextMappingModel();
+		assertEquals(10, model.getBoundedContexts().size());
+		assertNotNull(model.getBoundedContexts().stream().filter(bc -> bc.getName().equals("NewBoundedContext1")).findFirst().get());
+	}
+
+	@Test
+	public void doesNotChangeFileIfRefactoringCannotBeSerialized() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-test-serialization-error.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+		BoundedContext bc = cml.getContextMappingModel().getBoundedContexts().get(0);
+		int numberOfAggregates = bc.getAggregates().size();
+
+		// when
+		assertThrows(RefactoringSerializationException.class, () -> {
+			// an aggregate without name cannot be serialized
+			contextMapper.applyRefactoring(cml, new AbstractRefactoring() {
+				@Override
+				protected void doRefactor() {
+					bc.getAggregates().add(ContextMappingDSLFactory.eINSTANCE.createAggregate());
+				}
+			});
+		});
+
+		// then
+		assertEquals(numberOfAggregates, bc.getAggregates().size());
+		assertEquals(FileUtils.readFileToString(originalFile, Charset.forName("UTF-8")), FileUtils.readFileToString(cmlTestFile, Charset.forName("UTF-8")));
+	}
+
+	@Test
+	public void canPreviewRefactoring() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-preview-test.cml");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+
+		// when
+		RefactoringChangeSet changeSet = contextMapper.previewRefactoring(cml, new SplitBoundedContextByOwner("PolicyManagementContext"));
+
+		// then
+		assertEquals(9, cml.getContextMappingModel().getBoundedContexts().size());
+		assertEquals(FileUtils.readFileToString(originalFile, Charset.forName("UTF-8")), FileUtils.readFileToString(cmlTestFile, Charset.forName("UTF-8")));
+		assertEquals(1, changeSet.getAddedElements().size());
+		assertTrue(changeSet.getNewTexts().get(cml.getURI()).contains("BoundedContext NewBoundedContext1"));
+	}
+
+	@Test
+	public void canApplyRefactoringScript() throws IOException {
+		// given
+		File originalFile = new File("./integ-test-files/standalone/refactoring-test.cml");
+		File cmlTestFile = new File("./out/refactoring-script-test.cml");
+		File scriptFile = new File("./out/refactoring-script-test.txt");
+		ensureFileDoesNotExist(cmlTestFile);
+		FileUtils.copyFile(originalFile, cmlTestFile);
+		FileUtils.writeStringToFile(scriptFile, "# split the policy management context" + System.lineSeparator() + "SplitBoundedContextByOwner PolicyManagementContext",
+				Charset.forName("UTF-8"));
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		CMLResource cml = contextMapper.loadCML(cmlTestFile);
+
+		// when
+		contextMapper.applyRefactoringScript(cml, scriptFile);
+
+		// then
+		ContextMappingModel model = contextMapper.loadCML(cmlTestFile).getContextMappingModel();
+		assertEquals(10, model.getBoundedContexts().size());
+		assertNotNull(model.getBoundedContexts().stream().filter(bc -> bc.getName().equals("NewBoundedContext1")).findFirst().get());
+	}
+
 	private void ensureFileDoesNotExist(File file) {
 		if (file.exists())
 			file.delete();
@@ -17,8 +17,10 @@ package org.contextmapper.dsl.ui.handler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.ide.commands.ProgressReportingFileSystemAccess;
 import org.contextmapper.dsl.ui.internal.DslActivator;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
@@ -30,13 +32,19 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -45,6 +53,8 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.text.TextSelection;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.IFileEditorInput;
 import org.eclipse.ui.handlers.HandlerUtil;
@@ -63,6 +73,11 @@ import com.google.inject.Provider;
 
 public abstract class AbstractGenerationHandler extends AbstractHandler implements IHandler {
 
+	private static final String SRC_GEN_FOLDER = "src-gen";
+
+	// the number of generated files is not known in advance
+	private static final int GENERATED_FILES_ESTIMATE = 10;
+
 	@Inject
 	private Provider<EclipseResourceFileSystemAccess2> fileAccessProvider;
 
@@ -98,16 +113,56 @@ public abstract class AbstractGenerationHandler extends AbstractHandler implemen
 	}
 
 	protected void runGeneration(Resource resource, ExecutionEvent event, IFileSystemAccess2 fsa) {
-		try {
-			getGenerator().doGenerate(resource, fsa, new GeneratorContext());
-		} catch (ContextMapperApplicationException e) {
-			MessageDialog.openInformation(HandlerUtil.getActiveShell(event), "Model Input", e.getMessage());
-		} catch (Exception e) {
-			String message = e.getMessage() != null && !"".equals(e.getMessage()) ? e.getMessage() : e.getClass().getName() + " occurred in " + this.getClass().getName();
-			Status status = new Status(IStatus.ERROR, DslActivator.PLUGIN_ID, message, e);
-			StatusManager.getManager().handle(status);
-			ErrorDialog.openError(HandlerUtil.getActiveShell(event), "Error", "Exception occured during execution of command!", createMultiStatus(e.getLocalizedMessage(), e));
-		}
+		scheduleGeneration(resource, event, fsa);
+	}
+
+	/**
+	 * Runs the generator in a background job, so that the workbench is not
+	 * blocked during the generation. The job holds the src-gen folder of the
+	 * project, reports the generated files as progress and can be cancelled
+	 * between two generated files.
+	 * 
+	 * The job loads the model into a resource set of its own; the resource
+	 * loaded on the UI thread is not shared with the job.
+	 */
+	protected void scheduleGeneration(Resource resource, ExecutionEvent event, IFileSystemAccess2 fsa) {
+		IFile file = getFile(resource);
+		URI uri = resource.getURI();
+		Shell shell = HandlerUtil.getActiveShell(event);
+		WorkspaceJob job = new WorkspaceJob("Generating from " + file.getName()) {
+			@Override
+			public IStatus runInWorkspace(IProgressMonitor monitor) {
+				SubMonitor progress = SubMonitor.convert(monitor, GENERATED_FILES_ESTIMATE);
+				if (fsa instanceof EclipseResourceFileSystemAccess2)
+					((EclipseResourceFileSystemAccess2) fsa).setMonitor(monitor);
+				GeneratorContext generatorContext = new GeneratorContext();
+				generatorContext.setCancelIndicator(monitor::isCanceled);
+				try {
+					Resource jobResource = resourceSetProvider.get(file.getProject()).getResource(uri, true);
+					getGenerator().doGenerate(jobResource, new ProgressReportingFileSystemAccess(fsa, monitor::isCanceled, fileName -> {
+						progress.subTask(fileName);
+						progress.setWorkRemaining(GENERATED_FILES_ESTIMATE).worked(1);
+					}), generatorContext);
+					return Status.OK_STATUS;
+				} catch (CancellationException | OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (ContextMapperApplicationException e) {
+					Display.getDefault().asyncExec(() -> MessageDialog.openInformation(shell, "Model Input", e.getMessage()));
+					return Status.OK_STATUS;
+				} catch (Exception e) {
+					String message = e.getMessage() != null && !"".equals(e.getMessage()) ? e.getMessage() : e.getClass().getName() + " occurred in " + AbstractGenerationHandler.this.getClass().getName();
+					Status status = new Status(IStatus.ERROR, DslActivator.PLUGIN_ID, message, e);
+					StatusManager.getManager().handle(status);
+					Display.getDefault().asyncExec(() -> ErrorDialog.openError(shell, "Error", "Exception occured during execution of command!", createMultiStatus(e.getLocalizedMessage(), e)));
+					return Status.OK_STATUS;
+				} finally {
+					monitor.done();
+				}
+			}
+		};
+		job.setRule(file.getProject().getFolder(SRC_GEN_FOLDER));
+		job.setUser(true);
+		job.schedule();
 	}
 
 	private Resource getResource(ExecutionEvent event) {
@@ -148,6 +203,10 @@ public abstract class AbstractGenerationHandler extends AbstractHandler implemen
 		return null;
 	}
 
+	private IFile getFile(Resource resource) {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(resource.getURI().toPlatformString(true)));
+	}
+
 	protected Resource getResource(IFile file) {
 		URI uri = URI.createPlatformResourceURI(file.getFullPath().toString(), true);
 		ResourceSet rs = resourceSetProvider.get(file.getProject());
@@ -155,7 +214,7 @@ public abstract class AbstractGenerationHandler extends AbstractHandler implemen
 	}
 
 	protected IPath getGenFolder(IFile file) {
-		IFolder srcGenFolder = file.getProject().getFolder("src-gen");
+		IFolder srcGenFolder = file.getProject().getFolder(SRC_GEN_FOLDER);
 		if (!srcGenFolder.exists()) {
 			try {
 				srcGenFolder.create(true, true, new NullProgressMonitor());
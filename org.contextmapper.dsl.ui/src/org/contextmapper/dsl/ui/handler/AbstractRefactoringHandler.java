@@ -3,26 +3,40 @@ package org.contextmapper.dsl.ui.handler;
 import java.util.List;
 import java.util.Set;
 
+import org.contextmapper.dsl.cml.CMLImportResolver;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Import;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.contextmapper.dsl.ui.editor.XtextEditorHelper;
 import org.contextmapper.dsl.ui.internal.DslActivator;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.IHandler;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.jface.dialogs.ErrorDialog;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.handlers.HandlerUtil;
 import org.eclipse.ui.statushandlers.StatusManager;
 import org.eclipse.xtext.resource.IResourceDescription;
@@ -35,6 +49,7 @@ import org.eclipse.xtext.ui.resource.XtextLiveScopeResourceSetProvider;
 import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 
@@ -104,11 +119,115 @@ public abstract class AbstractRefactoringHandler extends AbstractHandler impleme
 	}
 
 	protected ResourceSet getAllResources() {
+		return loadAllResources(currentResourceSet);
+	}
+
+	private ResourceSet loadAllResources(ResourceSet resourceSet) {
 		IResourceDescriptions index = resourceDescriptionsProvider.createResourceDescriptions();
 		for (IResourceDescription resDesc : index.getAllResourceDescriptions()) {
-			currentResourceSet.getResource(resDesc.getURI(), true);
+			resourceSet.getResource(resDesc.getURI(), true);
+		}
+		return resourceSet;
+	}
+
+	/**
+	 * Executes the refactoring and saves the changed models in a background job,
+	 * so that the workbench is not blocked during the refactoring. The job takes
+	 * over the resource set the handler has loaded the model into (every
+	 * execution of the handler loads a new one); the UI thread must not access it
+	 * after this call.
+	 * 
+	 * The job holds the edited file and its imports, so that refactorings of the
+	 * same file are executed one after the other. The other CML files of the
+	 * workspace are only held if the refactoring keeps them consistent. The job
+	 * can be cancelled until the refactoring starts; once the model has been
+	 * changed, the changes are saved.
+	 * 
+	 * @param refactoring                    the refactoring to be executed
+	 * @param resource                       the edited resource
+	 * @param checkConsistencyOfAllResources whether the refactoring has to keep
+	 *                                       all CML resources of the workspace
+	 *                                       consistent (or only the edited
+	 *                                       resource)
+	 * @param event                          the event which triggered the
+	 *                                       refactoring
+	 */
+	protected void scheduleRefactoring(SemanticCMLRefactoring refactoring, CMLResource resource, boolean checkConsistencyOfAllResources, ExecutionEvent event) {
+		Shell shell = HandlerUtil.getActiveShell(event);
+		WorkspaceJob job = new WorkspaceJob("Refactoring " + resource.getURI().lastSegment()) {
+			@Override
+			public IStatus runInWorkspace(IProgressMonitor monitor) {
+				SubMonitor progress = SubMonitor.convert(monitor, 3);
+				try {
+					ResourceSet consistencyCheckResources = null;
+					if (checkConsistencyOfAllResources) {
+						progress.subTask("Loading models");
+						consistencyCheckResources = loadAllResources(resource.getResourceSet());
+					}
+					// last chance to cancel: the refactoring itself is not interrupted
+					progress.split(1);
+					progress.subTask("Applying refactoring");
+					if (consistencyCheckResources != null)
+						refactoring.refactor(resource, consistencyCheckResources);
+					else
+						refactoring.refactor(resource);
+					progress.worked(1);
+					progress.subTask("Saving models");
+					refactoring.persistChanges(serializer);
+					progress.worked(1);
+					return Status.OK_STATUS;
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (RefactoringSerializationException e) {
+					String message = e.getMessage() != null && !"".equals(e.getMessage()) ? e.getMessage()
+							: e.getClass().getName() + " occurred in " + AbstractRefactoringHandler.this.getClass().getName();
+					Status status = new Status(IStatus.ERROR, DslActivator.PLUGIN_ID, message, e);
+					StatusManager.getManager().handle(status);
+					Display.getDefault().asyncExec(() -> MessageDialog.openInformation(shell, "Model Input", e.getMessage()));
+					return Status.OK_STATUS;
+				} catch (ContextMapperApplicationException e) {
+					Display.getDefault().asyncExec(() -> MessageDialog.openInformation(shell, "Model Input", e.getMessage()));
+					return Status.OK_STATUS;
+				} catch (Exception e) {
+					String message = e.getMessage() != null && !"".equals(e.getMessage()) ? e.getMessage()
+							: e.getClass().getName() + " occurred in " + AbstractRefactoringHandler.this.getClass().getName();
+					Status status = new Status(IStatus.ERROR, DslActivator.PLUGIN_ID, message, e);
+					StatusManager.getManager().handle(status);
+					Display.getDefault().asyncExec(() -> ErrorDialog.openError(shell, "Error", "Exception occured during execution of command!", status));
+					return Status.OK_STATUS;
+				} finally {
+					monitor.done();
+				}
+			}
+		};
+		job.setRule(getRefactoringRule(resource, checkConsistencyOfAllResources));
+		job.setUser(true);
+		job.schedule();
+	}
+
+	private ISchedulingRule getRefactoringRule(CMLResource resource, boolean checkConsistencyOfAllResources) {
+		Set<URI> uris = Sets.newLinkedHashSet();
+		uris.add(resource.getURI());
+		for (CMLResource importedResource : new CMLImportResolver().resolveImportedResources(resource)) {
+			uris.add(importedResource.getURI());
+		}
+		if (checkConsistencyOfAllResources) {
+			for (IResourceDescription resDesc : resourceDescriptionsProvider.createResourceDescriptions().getAllResourceDescriptions()) {
+				uris.add(resDesc.getURI());
+			}
 		}
-		return currentResourceSet;
+
+		IResourceRuleFactory ruleFactory = ResourcesPlugin.getWorkspace().getRuleFactory();
+		List<ISchedulingRule> rules = Lists.newArrayList();
+		for (URI uri : uris) {
+			if (uri.isPlatformResource())
+				rules.add(ruleFactory.modifyRule(getFile(uri)));
+		}
+		return MultiRule.combine(rules.toArray(new ISchedulingRule[rules.size()]));
+	}
+
+	private IFile getFile(URI uri) {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(uri.toPlatformString(true)));
 	}
 
 	protected Set<ContextMappingModel> getReferencedContextMappingModels(ContextMappingModel rootModel) {
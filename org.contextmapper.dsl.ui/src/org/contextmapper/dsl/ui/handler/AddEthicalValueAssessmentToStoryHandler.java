@@ -28,8 +28,7 @@ public class AddEthicalValueAssessmentToStoryHandler extends AbstractRefactoring
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		UserStory userStory = (UserStory) getSelectedElement();
 		SemanticCMLRefactoring ar = new AddEthicalValueAssessmentToStory(userStory.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
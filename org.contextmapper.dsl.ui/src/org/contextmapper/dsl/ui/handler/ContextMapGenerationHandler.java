@@ -17,7 +17,6 @@ package org.contextmapper.dsl.ui.handler;
 
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
-import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.ui.handler.wizard.GenerateContextMapContext;
 import org.contextmapper.dsl.ui.handler.wizard.GenerateContextMapWizard;
 import org.contextmapper.dsl.ui.internal.DslActivator;
@@ -27,11 +26,9 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.wizard.WizardDialog;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.handlers.HandlerUtil;
 import org.eclipse.ui.statushandlers.StatusManager;
 import org.eclipse.xtext.builder.impl.SetWithProjectNames;
-import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.generator.IGenerator2;
 
@@ -74,16 +71,7 @@ public class ContextMapGenerationHandler extends AbstractGenerationHandler {
 			else if (context.isFixHeight())
 				generator.setHeight(context.getHeight());
 			generator.printAdditionalLabels(context.generateAdditionalLabels());
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					try {
-						getGenerator().doGenerate(resource, fsa, new GeneratorContext());
-					} catch (GeneratorInputException e) {
-						MessageDialog.openInformation(HandlerUtil.getActiveShell(event), "Model Input", e.getMessage());
-					}
-				}
-			});
+			scheduleGeneration(resource, event, fsa);
 			return true;
 		})).open();
 	}
@@ -28,8 +28,7 @@ public class ExtractSharedKernelRefactoringHandler extends AbstractRefactoringHa
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		SharedKernel sk = (SharedKernel) getSelectedElement();
 		SemanticCMLRefactoring ar = new ExtractSharedKernelRefactoring(sk.getParticipant1().getName(), sk.getParticipant2().getName());
-		ar.refactor(resource);
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, false, event);
 	}
 
 	@Override
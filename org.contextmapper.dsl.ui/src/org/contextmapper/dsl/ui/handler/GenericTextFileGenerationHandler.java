@@ -18,7 +18,6 @@ package org.contextmapper.dsl.ui.handler;
 import java.io.File;
 import java.util.Map;
 
-import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.GenericContentGenerator;
 import org.contextmapper.dsl.ui.handler.wizard.GenerateGenericTextFileContext;
 import org.contextmapper.dsl.ui.handler.wizard.GenerateGenericTextFileWizard;
@@ -32,12 +31,9 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.wizard.WizardDialog;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.handlers.HandlerUtil;
 import org.eclipse.ui.statushandlers.StatusManager;
-import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.generator.IGenerator2;
 import org.osgi.framework.Bundle;
@@ -68,16 +64,7 @@ public class GenericTextFileGenerationHandler extends AbstractGenerationHandler
 			generator.setFreemarkerTemplateFile(new File(context.getFreemarkerTemplateFile().getLocationURI()));
 			generator.setTargetFileName(context.getTargetFileName());
 			persistContext(context);
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					try {
-						getGenerator().doGenerate(resource, fsa, new GeneratorContext());
-					} catch (ContextMapperApplicationException e) {
-						MessageDialog.openInformation(HandlerUtil.getActiveShell(event), "Model Input", e.getMessage());
-					}
-				}
-			});
+			scheduleGeneration(resource, event, fsa);
 			return true;
 		})).open();
 	}
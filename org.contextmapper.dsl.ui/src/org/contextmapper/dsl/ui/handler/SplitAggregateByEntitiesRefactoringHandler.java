@@ -33,8 +33,7 @@ public class SplitAggregateByEntitiesRefactoringHandler extends AbstractRefactor
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		Aggregate aggregate = (Aggregate) getSelectedElement();
 		SemanticCMLRefactoring ar = new SplitAggregateByEntitiesRefactoring(aggregate.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
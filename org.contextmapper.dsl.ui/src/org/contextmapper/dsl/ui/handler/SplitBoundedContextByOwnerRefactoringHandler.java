@@ -31,8 +31,7 @@ public class SplitBoundedContextByOwnerRefactoringHandler extends AbstractRefact
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		BoundedContext bc = (BoundedContext) getSelectedElement();
 		SemanticCMLRefactoring ar = new SplitBoundedContextByOwner(bc.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
@@ -31,8 +31,7 @@ public class SplitBoundedContextByUseCasesRefactoringHandler extends AbstractRef
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		BoundedContext bc = (BoundedContext) getSelectedElement();
 		SemanticCMLRefactoring ar = new SplitBoundedContextByFeatures(bc.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
@@ -28,8 +28,7 @@ public class SwitchFromPartnershipToSharedKernelRefactoringHandler extends Abstr
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		Partnership partnership = (Partnership) getSelectedElement();
 		SemanticCMLRefactoring ar = new SwitchFromPartnershipToSharedKernelRefactoring(partnership.getParticipant1().getName(), partnership.getParticipant2().getName());
-		ar.refactor(resource);
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, false, event);
 	}
 
 	@Override
@@ -29,8 +29,7 @@ public class CreateStakeholderForUserStoryRoleHandler extends AbstractRefactorin
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		UserStory userStory = (UserStory) this.getSelectedElement();
 		SemanticCMLRefactoring ar = new CreateStakeholderForUserStoryRole(userStory.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
@@ -29,8 +29,7 @@ public class CreateValue4StakeholderHandler extends AbstractRefactoringHandler {
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		Stakeholder stakeholder = (Stakeholder) getSelectedElement();
 		SemanticCMLRefactoring ar = new CreateValue4StakeholderRefactoring(stakeholder.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
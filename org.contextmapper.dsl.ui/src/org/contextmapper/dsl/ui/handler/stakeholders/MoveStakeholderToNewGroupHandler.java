@@ -29,8 +29,7 @@ public class MoveStakeholderToNewGroupHandler extends AbstractRefactoringHandler
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		Stakeholder stakeholder = (Stakeholder) getSelectedElement();
 		SemanticCMLRefactoring ar = new MoveStakeholderToNewStakeholderGroupRefactoring(stakeholder.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
@@ -31,8 +31,7 @@ public class CreateValueRegisterForBoundedContextHandler extends AbstractRefacto
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		BoundedContext context = (BoundedContext) this.getSelectedElement();
 		SemanticCMLRefactoring ar = new CreateValueRegisterForBoundedContext(context.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
@@ -30,8 +30,7 @@ public class WrapValueInClusterHandler extends AbstractRefactoringHandler {
 	protected void executeRefactoring(CMLResource resource, ExecutionEvent event) {
 		Value value = (Value) getSelectedElement();
 		SemanticCMLRefactoring ar = new WrapValueInClusterRefactoring(value.getName());
-		ar.refactor(resource, getAllResources());
-		ar.persistChanges(serializer);
+		scheduleRefactoring(ar, resource, true, event);
 	}
 
 	@Override
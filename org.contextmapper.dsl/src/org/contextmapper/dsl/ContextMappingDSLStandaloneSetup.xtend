@@ -15,13 +15,26 @@
  */
 package org.contextmapper.dsl
 
+import com.google.inject.Injector
 
 /**
  * Initialization support for running Xtext languages without Equinox extension registry.
  */
 class ContextMappingDSLStandaloneSetup extends ContextMappingDSLStandaloneSetupGenerated {
 
+	static Injector sharedInjector
+
 	def static void doSetup() {
 		new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration()
 	}
+
+	/**
+	 * Returns an injector that is created (and the EMF registration done) only once.
+	 * Use it instead of creating a new injector for every generator call.
+	 */
+	def static synchronized Injector getSharedInjector() {
+		if (sharedInjector === null)
+			sharedInjector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration()
+		return sharedInjector
+	}
 }
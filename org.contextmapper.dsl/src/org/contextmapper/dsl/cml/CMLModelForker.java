@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Creates in-memory forks of CML models: the model (and all other models of its
+ * resource set, such as imported ones) is copied into a new resource set,
+ * without parsing, linking or serializing anything. Changes to a fork do not
+ * affect the original model or other forks, so forks can be refactored
+ * concurrently (for example to compare alternative refactorings).
+ * 
+ * The forks have no node model and are not meant to be saved; apply the chosen
+ * changes to the original model instead.
+ */
+public class CMLModelForker {
+
+	private final CMLResource original;
+	private boolean resolved = false;
+
+	public CMLModelForker(CMLResource original) {
+		this.original = original;
+	}
+
+	/**
+	 * Creates a new fork of the original model.
+	 */
+	public synchronized CMLResource fork() {
+		if (!resolved) {
+			// imports and lazy (Xtext) links cannot be resolved in the forks
+			if (original.getResourceSet() != null) {
+				new CMLImportResolver().resolveImportedResources(original);
+				EcoreUtil.resolveAll(original.getResourceSet());
+			} else {
+				EcoreUtil.resolveAll(unwrap(original));
+			}
+			resolved = true;
+		}
+
+		List<Resource> sourceResources = getSourceResources();
+		ResourceSet forkResourceSet = new ResourceSetImpl();
+		EcoreUtil.Copier copier = new EcoreUtil.Copier();
+		List<Resource> forkResources = Lists.newArrayList();
+		for (Resource sourceResource : sourceResources) {
+			Resource forkResource = new ResourceImpl(sourceResource.getURI());
+			forkResource.getContents().addAll(copier.copyAll(sourceResource.getContents()));
+			forkResources.add(forkResource);
+		}
+		copier.copyReferences();
+		forkResourceSet.getResources().addAll(forkResources);
+		return new CMLResource(forkResources.get(0));
+	}
+
+	/**
+	 * The original resource first, followed by the other resources of its
+	 * resource set.
+	 */
+	private List<Resource> getSourceResources() {
+		List<Resource> resources = Lists.newArrayList();
+		resources.add(unwrap(original));
+		if (original.getResourceSet() != null) {
+			for (Resource resource : original.getResourceSet().getResources()) {
+				if (!resource.getURI().equals(original.getURI()) && !resource.getContents().isEmpty())
+					resources.add(resource);
+			}
+		}
+		return resources;
+	}
+
+	private Resource unwrap(CMLResource resource) {
+		EObject model = resource.getContextMappingModel();
+		return model.eResource();
+	}
+
+}
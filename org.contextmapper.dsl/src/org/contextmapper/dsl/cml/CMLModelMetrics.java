@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Simple structural metrics of a CML model, for example to compare the results
+ * of alternative refactorings.
+ */
+public class CMLModelMetrics {
+
+	private final int boundedContextCount;
+	private final int aggregateCount;
+	private final int relationshipCount;
+	private final int crossBoundedContextReferenceCount;
+
+	public CMLModelMetrics(ContextMappingModel model) {
+		this.boundedContextCount = model.getBoundedContexts().size();
+		this.aggregateCount = model.getBoundedContexts().stream().mapToInt(bc -> bc.getAggregates().size()).sum();
+		this.relationshipCount = model.getMap() != null ? model.getMap().getRelationships().size() : 0;
+		this.crossBoundedContextReferenceCount = countCrossBoundedContextReferences(model);
+	}
+
+	/**
+	 * Counts the references from objects within a Bounded Context to objects
+	 * within another Bounded Context (for example, from an entity to an entity
+	 * of another context).
+	 */
+	private int countCrossBoundedContextReferences(ContextMappingModel model) {
+		Map<EObject, BoundedContext> boundedContextCache = new IdentityHashMap<>();
+		int count = 0;
+		for (BoundedContext bc : model.getBoundedContexts()) {
+			TreeIterator<EObject> contents = bc.eAllContents();
+			while (contents.hasNext()) {
+				for (EObject referencedObject : contents.next().eCrossReferences()) {
+					BoundedContext referencedBC = getBoundedContext(referencedObject, boundedContextCache);
+					if (referencedBC != null && referencedBC != bc)
+						count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private BoundedContext getBoundedContext(EObject object, Map<EObject, BoundedContext> cache) {
+		if (cache.containsKey(object))
+			return cache.get(object);
+		EObject current = object;
+		while (current != null && !(current instanceof BoundedContext))
+			current = current.eContainer();
+		cache.put(object, (BoundedContext) current);
+		return (BoundedContext) current;
+	}
+
+	public int getBoundedContextCount() {
+		return boundedContextCount;
+	}
+
+	public int getAggregateCount() {
+		return aggregateCount;
+	}
+
+	public int getRelationshipCount() {
+		return relationshipCount;
+	}
+
+	public int getCrossBoundedContextReferenceCount() {
+		return crossBoundedContextReferenceCount;
+	}
+
+	@Override
+	public String toString() {
+		return "Bounded Contexts: " + boundedContextCount + ", Aggregates: " + aggregateCount + ", Relationships: " + relationshipCount
+				+ ", Cross-BC references: " + crossBoundedContextReferenceCount;
+	}
+
+}
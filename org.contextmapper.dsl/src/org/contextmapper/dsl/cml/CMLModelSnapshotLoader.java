@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.io.File;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.generator.BinaryModelSnapshotGenerator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+
+/**
+ * Loads CML models from binary snapshots written by the
+ * {@link BinaryModelSnapshotGenerator}. The snapshots contain the already
+ * linked model, so no parsing and linking is needed.
+ */
+public class CMLModelSnapshotLoader {
+
+	public CMLModelSnapshotLoader() {
+		// make sure the CML packages are registered
+		ContextMappingDSLStandaloneSetup.getSharedInjector();
+	}
+
+	public CMLResource loadSnapshot(File snapshotFile) {
+		return loadSnapshot(URI.createFileURI(snapshotFile.getAbsolutePath()));
+	}
+
+	public CMLResource loadSnapshot(URI snapshotURI) {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(BinaryModelSnapshotGenerator.SNAPSHOT_FILE_EXT,
+				(Resource.Factory) uri -> new BinaryResourceImpl(uri));
+		Resource resource = resourceSet.getResource(snapshotURI, true);
+		return new CMLResource(resource);
+	}
+
+}
@@ -23,6 +23,10 @@ public class RefactoringSerializationException extends ContextMapperApplicationE
 		super(getErrorMessage(errorMessages));
 	}
 
+	public RefactoringSerializationException(Set<String> errorMessages, Throwable cause) {
+		super(getErrorMessage(errorMessages), cause);
+	}
+
 	private static String getErrorMessage(Set<String> errorMessages) {
 		String message = "This refactoring cannot be applied given your input model and parameters. It leads to the following errors:" + System.lineSeparator() + System.lineSeparator();
 		for (String errorMessage : errorMessages)
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Writes a binary snapshot (EMF binary resource format) of the resolved CML
+ * model. Tools can load the pre-linked model with the
+ * {@link org.contextmapper.dsl.cml.CMLModelSnapshotLoader} instead of parsing
+ * and linking the CML file again.
+ * 
+ * The snapshot is self-contained: the first root is the model of the input
+ * file, followed by the models it imports (directly or indirectly).
+ */
+public class BinaryModelSnapshotGenerator extends AbstractContextMappingModelGenerator {
+
+	public static final String SNAPSHOT_FILE_EXT = "cmlbin";
+
+	@Override
+	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
+		// make sure the CML packages are registered
+		ContextMappingDSLStandaloneSetup.getSharedInjector();
+
+		Resource snapshotResource = new BinaryResourceImpl(inputFileURI.trimFileExtension().appendFileExtension(SNAPSHOT_FILE_EXT));
+		// work on copies; the models must stay in their CML resources. Copying them
+		// together redirects the references into the copies of the imported models.
+		snapshotResource.getContents().addAll(EcoreUtil.copyAll(collectModelAndImports(model)));
+		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+			snapshotResource.save(outputStream, null);
+			fsa.generateFile(inputFileURI.trimFileExtension().lastSegment() + "." + SNAPSHOT_FILE_EXT, new ByteArrayInputStream(outputStream.toByteArray()));
+		} catch (IOException e) {
+			throw new RuntimeException("An error occured while writing the binary model snapshot.", e);
+		}
+	}
+
+	private List<ContextMappingModel> collectModelAndImports(ContextMappingModel model) {
+		List<ContextMappingModel> models = Lists.newArrayList(model);
+		ResourceSet resourceSet = model.eResource() != null ? model.eResource().getResourceSet() : null;
+		if (resourceSet == null)
+			return models;
+
+		Set<URI> visitedURIs = Sets.newHashSet(model.eResource().getURI());
+		for (int i = 0; i < models.size(); i++) {
+			Resource resource = models.get(i).eResource();
+			for (Import cmlImport : models.get(i).getImports()) {
+				URI importURI = URI.createURI(cmlImport.getImportURI()).resolve(resource.getURI());
+				if (!visitedURIs.add(importURI))
+					continue;
+				Resource importedResource = resourceSet.getResource(importURI, true);
+				if (importedResource.getContents().isEmpty() || !(importedResource.getContents().get(0) instanceof ContextMappingModel))
+					continue;
+				ContextMappingModel importedModel = (ContextMappingModel) importedResource.getContents().get(0);
+				EcoreUtil.resolveAll(importedModel);
+				models.add(importedModel);
+			}
+		}
+		return models;
+	}
+
+}
@@ -15,6 +15,17 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.mdsl.MDSLAPIDescriptionCreator;
 import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
@@ -24,25 +35,75 @@ import org.contextmapper.dsl.generator.mdsl.model.ServiceSpecification;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
+import com.google.common.collect.Lists;
+
 public class MDSLContractsGenerator extends AbstractContextMappingModelGenerator {
 
 	private static final String MDSL_FILE_EXT = "mdsl";
 
+	private int maxThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Sets the maximum number of threads used to render the MDSL files (one file
+	 * per API). Default is the number of available processors.
+	 */
+	public void setMaxThreads(int maxThreads) {
+		if (maxThreads < 1)
+			throw new IllegalArgumentException("Please specify at least one thread!");
+		this.maxThreads = maxThreads;
+	}
+
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
 		MDSLModelCreator mdslModelCreator = new MDSLModelCreator(model);
+		List<String> mdslFileNames = Lists.newArrayList();
+		List<Callable<String>> jobs = Lists.newArrayList();
 		for (ServiceSpecification serviceSpecification : mdslModelCreator.createServiceSpecifications()) {
 			String mdslFileName = inputFileURI.trimFileExtension().lastSegment() + "_" + serviceSpecification.getName() + "." + MDSL_FILE_EXT;
 			ProtectedRegionContext protectedRegionContext = createProtectedRegionContext(mdslFileName, fsa);
 			MDSLAPIDescriptionCreator dslCreator = new MDSLAPIDescriptionCreator(protectedRegionContext, inputFileURI.lastSegment());
-			fsa.generateFile(mdslFileName, dslCreator.createText(serviceSpecification));
+			mdslFileNames.add(mdslFileName);
+			jobs.add(() -> dslCreator.createText(serviceSpecification));
+		}
+
+		// the file system access is not thread-safe; only the templates are processed in parallel
+		List<String> mdslFileContents = createTexts(jobs);
+		for (int i = 0; i < mdslFileNames.size(); i++) {
+			fsa.generateFile(mdslFileNames.get(i), mdslFileContents.get(i));
+		}
+	}
+
+	private List<String> createTexts(List<Callable<String>> jobs) {
+		List<String> texts = Lists.newArrayList();
+		if (jobs.isEmpty())
+			return texts;
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxThreads, jobs.size()));
+		try {
+			for (Future<String> future : executor.invokeAll(jobs)) {
+				texts.add(future.get());
+			}
+			return texts;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Generating the MDSL contracts has been interrupted!", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException("An error occured while generating the MDSL contracts!", e.getCause());
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 
 	private ProtectedRegionContext createProtectedRegionContext(String mdslFileName, IFileSystemAccess2 fsa) {
 		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
 		if (fsa.isFile(mdslFileName)) {
-			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
+			try (Reader reader = new InputStreamReader(fsa.readBinaryFile(mdslFileName), StandardCharsets.UTF_8)) {
+				return factory.createProtectedRegionContextForExistingMDSLFile(reader);
+			} catch (IOException e) {
+				throw new RuntimeException("An error occured while reading the existing MDSL file '" + mdslFileName + "'.", e);
+			}
 		} else {
 			return factory.createProtectedRegionContextForNewMDSLFile();
 		}
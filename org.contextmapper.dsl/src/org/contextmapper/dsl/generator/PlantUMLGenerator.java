@@ -15,8 +15,16 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.contextmapper.dsl.cml.CMLModelDomainAndSubdomainResolver;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
@@ -33,7 +41,11 @@ import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLAggregateClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLComponentDiagramCreator;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLImageFormat;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLModuleClassDiagramCreator;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLRenderCache;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLRenderResult;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLRenderer;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStakeholderMapGenerator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStateDiagramCreator4Aggregate;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStateDiagramCreator4Flow;
@@ -54,11 +66,18 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 	private static final String PLANT_UML_FILE_EXT = "puml";
 
 	private CMLModelDomainAndSubdomainResolver subdomainResolver;
+	private Map<String, String> generatedDiagrams;
+	private Set<PlantUMLImageFormat> imageFormats = new HashSet<>();
+	private PlantUMLRenderCache renderCache = new PlantUMLRenderCache();
+	private int maxRenderThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+	private List<PlantUMLRenderResult> renderResults = Lists.newArrayList();
 
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa,
 			URI inputFileURI) {
 		this.subdomainResolver = new CMLModelDomainAndSubdomainResolver(this.contextMappingModel);
+		this.generatedDiagrams = new LinkedHashMap<>();
+		this.renderResults = Lists.newArrayList();
 		checkPreconditions();
 		String fileName = inputFileURI.trimFileExtension().lastSegment();
 
@@ -69,17 +88,77 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		generateSequenceDiagramsForUseCases(model, fsa, fileName);
 		generateStakeholderDiagrams(model, fsa, fileName);
 		generateValueImpactMapsForValueRegisters(model, fsa, fileName);
+		renderDiagramImages(fsa);
+	}
+
+	/**
+	 * Enables rendering the generated diagrams into images (in-process, without an
+	 * external PlantUML installation). By default, only the *.puml files are
+	 * generated.
+	 * 
+	 * @param formats the image formats which shall be rendered in addition to the
+	 *                *.puml files
+	 */
+	public void setImageFormats(PlantUMLImageFormat... formats) {
+		this.imageFormats.clear();
+		this.imageFormats.addAll(Arrays.asList(formats));
+	}
+
+	/**
+	 * Changes the directory in which rendered images are cached. Diagrams whose
+	 * PlantUML source did not change are taken from this cache instead of being
+	 * rendered again.
+	 * 
+	 * @param cacheDirectory the directory used to cache rendered images
+	 */
+	public void setRenderCacheDirectory(File cacheDirectory) {
+		this.renderCache = new PlantUMLRenderCache(cacheDirectory);
+	}
+
+	/**
+	 * Changes the maximum number of threads used to render images.
+	 * 
+	 * @param maxRenderThreads the maximum number of render threads
+	 */
+	public void setMaxRenderThreads(int maxRenderThreads) {
+		if (maxRenderThreads < 1)
+			throw new IllegalArgumentException("Please specify at least one render thread!");
+		this.maxRenderThreads = maxRenderThreads;
+	}
+
+	/**
+	 * Returns the images rendered by the last generator run, including the time
+	 * it took to render (or load from the cache) each of them.
+	 * 
+	 * @return the render results of the last generator run
+	 */
+	public List<PlantUMLRenderResult> getRenderResults() {
+		return Collections.unmodifiableList(renderResults);
+	}
+
+	private void generateDiagramFile(IFileSystemAccess2 fsa, String diagramName, String plantUMLSource) {
+		fsa.generateFile(diagramName + "." + PLANT_UML_FILE_EXT, plantUMLSource);
+		generatedDiagrams.put(diagramName, plantUMLSource);
+	}
+
+	private void renderDiagramImages(IFileSystemAccess2 fsa) {
+		if (imageFormats.isEmpty())
+			return;
+
+		renderResults = new PlantUMLRenderer(renderCache, maxRenderThreads).render(generatedDiagrams, imageFormats);
+		for (PlantUMLRenderResult result : renderResults) {
+			fsa.generateFile(result.getFileName(), new ByteArrayInputStream(result.getImage()));
+		}
 	}
 
 	private void generateStakeholderDiagrams(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
 		int index = 1;
 		for (Stakeholders stakeholders : model.getStakeholders()) {
 			PlantUMLStakeholderMapGenerator stakeholderDiagramGenerator = new PlantUMLStakeholderMapGenerator();
-			fsa.generateFile(fileName + "_BC_"
+			generateDiagramFile(fsa, fileName + "_BC_"
 					+ stakeholderDiagramGenerator.getStakeholderDiagramContextName(stakeholders.getContexts())
 							.replace(", ", "-").replace(" ", "-")
-					+ "_StakeholderMap-" + index++ + "." + PLANT_UML_FILE_EXT,
-					stakeholderDiagramGenerator.createDiagram(stakeholders));
+					+ "_StakeholderMap-" + index++, stakeholderDiagramGenerator.createDiagram(stakeholders));
 		}
 	}
 
@@ -88,9 +167,8 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		for (ValueRegister valueRegister : model.getValueRegisters()) {
 			if (!(valueRegister.getValueClusters().isEmpty() && valueRegister.getValues().isEmpty())
 					&& !EcoreUtil2.eAllOfType(valueRegister, ValueElicitation.class).isEmpty()) {
-				fsa.generateFile(
-						fileName + "_ValueRegister_" + valueRegister.getName() + "_Value-Impact-Map" + "."
-								+ PLANT_UML_FILE_EXT,
+				generateDiagramFile(fsa,
+						fileName + "_ValueRegister_" + valueRegister.getName() + "_Value-Impact-Map",
 						new PlantUMLValueImpactMapGenerator().createDiagram(valueRegister));
 			}
 		}
@@ -100,8 +178,7 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 			String fileName) {
 		for (UserRequirement userRequirement : model.getUserRequirements()) {
 			if (userRequirement instanceof UseCase && !userRequirement.getFeatures().isEmpty()) {
-				fsa.generateFile(
-						fileName + "_UseCase_" + userRequirement.getName() + "_Interactions." + PLANT_UML_FILE_EXT,
+				generateDiagramFile(fsa, fileName + "_UseCase_" + userRequirement.getName() + "_Interactions",
 						new PlantUMLUseCaseInteractionsSequenceDiagramCreator()
 								.createDiagram((UseCase) userRequirement));
 			}
@@ -110,14 +187,13 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 
 	private void generateUseCaseDiagram(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
 		if (!model.getUserRequirements().isEmpty())
-			fsa.generateFile(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
-					new PlantUMLUseCaseDiagramCreator().createDiagram(model));
+			generateDiagramFile(fsa, fileName + "_UseCases", new PlantUMLUseCaseDiagramCreator().createDiagram(model));
 	}
 
 	private void generateClassDiagramsForSubdomains(IFileSystemAccess2 fsa, String fileName) {
 		subdomainResolver.resolveAllSubdomains().stream().filter(subdomain -> !subdomain.getEntities().isEmpty())
 				.forEach(subdomain -> {
-					fsa.generateFile(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
+					generateDiagramFile(fsa, fileName + "_SD_" + subdomain.getName(),
 							new PlantUMLSubdomainClassDiagramCreator(
 									subdomainResolver.resolveDomain4Subdomain(subdomain.getName()).getName())
 									.createDiagram(subdomain));
@@ -129,36 +205,34 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		for (BoundedContext boundedContext : model.getBoundedContexts()) {
 
 			// class diagram for complete BC
-			fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
+			generateDiagramFile(fsa, fileName + "_BC_" + boundedContext.getName(),
 					new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext));
 
 			// class diagram for aggregates
 			for (Aggregate aggregate : boundedContext.getAggregates()) {
-				fsa.generateFile(
-						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "."
-								+ PLANT_UML_FILE_EXT,
+				generateDiagramFile(fsa, fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName(),
 						new PlantUMLAggregateClassDiagramCreator().createDiagram(aggregate));
 			}
 
 			// class diagram for modules
 			for (SculptorModule module : boundedContext.getModules()) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
-						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator().createDiagram(module));
+				generateDiagramFile(fsa, fileName + "_BC_" + boundedContext.getName() + "_" + module.getName(),
+						new PlantUMLModuleClassDiagramCreator().createDiagram(module));
 			}
 
 			// state diagram for aggregates
 			List<Aggregate> aggregatesWithStates = getAggregatesWithStatesAndTransitions(boundedContext);
 			for (Aggregate aggregate : aggregatesWithStates) {
-				fsa.generateFile(
-						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "_StateDiagram" + "."
-								+ PLANT_UML_FILE_EXT,
+				generateDiagramFile(fsa,
+						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "_StateDiagram",
 						new PlantUMLStateDiagramCreator4Aggregate().createDiagram(aggregate));
 			}
 
 			// state diagram for flows
 			for (Flow flow : getFlowsWithStates(boundedContext)) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
-						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow().createDiagram(flow));
+				generateDiagramFile(fsa,
+						fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram",
+						new PlantUMLStateDiagramCreator4Flow().createDiagram(flow));
 			}
 		}
 	}
@@ -166,7 +240,7 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 	private void generateComponentDiagramIfContextMapAvailable(ContextMappingModel model, IFileSystemAccess2 fsa,
 			String fileName) {
 		if (model.getMap() != null)
-			fsa.generateFile(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
+			generateDiagramFile(fsa, fileName + "_ContextMap",
 					new PlantUMLComponentDiagramCreator().createDiagram(model.getMap()));
 	}
 
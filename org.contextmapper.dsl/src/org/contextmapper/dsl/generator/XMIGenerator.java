@@ -25,14 +25,11 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
-import com.google.inject.Injector;
-
 public class XMIGenerator extends AbstractContextMapGenerator {
 
 	@Override
 	protected void generateFromContextMap(ContextMap contextmap, IFileSystemAccess2 fsa, URI inputFileURI) {
-		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
-		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResourceSet resourceSet = ContextMappingDSLStandaloneSetup.getSharedInjector().getInstance(XtextResourceSet.class);
 
 		EcoreUtil.resolveAll(contextMappingModel);
 		Resource xmiResource = resourceSet.createResource(inputFileURI.trimFileExtension().appendFileExtension("xmi"));
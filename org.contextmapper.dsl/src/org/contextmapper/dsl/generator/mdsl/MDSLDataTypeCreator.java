@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.contextmapper.dsl.generator.mdsl.model.DataType;
 import org.contextmapper.dsl.generator.mdsl.model.DataTypeAttribute;
@@ -38,31 +39,55 @@ import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-
+import com.google.common.collect.Sets;
+
+/**
+ * Creates the MDSL data types for CML types. All created types are registered
+ * by name, so that a type used by multiple operations (or APIs) is only created
+ * once. The registry is thread-safe; types already created for a
+ * {@link ComplexType} are memoized.
+ * 
+ * A type registered without attributes (for example because it was only
+ * referenced by name) is completed in place once a {@link ComplexType} with
+ * the same name provides attributes. The registered instance is never
+ * replaced, so the memoized types stay valid and the result does not depend
+ * on the order in which the types are created.
+ */
 public class MDSLDataTypeCreator {
 
 	private static final String BASE_TYPE = "Object";
 	private static final String PARAMETER_NAME_EXTENSION = "Parameter";
 
 	private Map<String, DataType> dataTypeMapping;
+	private Map<ComplexType, DataType> complexTypeCache;
+	private Set<String> complexTypesInCreation;
 	private MDSLNameEncoder mdslNameEncoder;
 
 	public MDSLDataTypeCreator() {
 		dataTypeMapping = Maps.newTreeMap();
+		complexTypeCache = Maps.newHashMap();
+		complexTypesInCreation = Sets.newHashSet();
 		mdslNameEncoder = new MDSLNameEncoder();
 	}
 
-	public DataType createMDSLDataType(ComplexType type) {
+	public synchronized DataType createMDSLDataType(ComplexType type) {
+		DataType cachedDataType = complexTypeCache.get(type);
+		if (cachedDataType != null)
+			return cachedDataType;
+
 		String dataTypeName = getDataTypeName(type);
 		String mdslTypeName = getMDSLDataTypeName(dataTypeName);
+		DataType dataType;
 		if (isPrimitiveType(mdslTypeName)) {
-			return createPrimitiveDataType(mdslTypeName);
+			dataType = createPrimitiveDataType(mdslTypeName);
 		} else {
-			return createComplexType(mdslNameEncoder.encodeName(dataTypeName), type);
+			dataType = createComplexType(mdslNameEncoder.encodeName(dataTypeName), type);
 		}
+		complexTypeCache.put(type, dataType);
+		return dataType;
 	}
 
-	public DataType createMDSLDataType4ParameterList(String methodName, List<Parameter> parameters) {
+	public synchronized DataType createMDSLDataType4ParameterList(String methodName, List<Parameter> parameters) {
 		String dataTypeName = mdslNameEncoder.encodeName(methodName + PARAMETER_NAME_EXTENSION);
 		if (dataTypeMapping.containsKey(dataTypeName))
 			return dataTypeMapping.get(dataTypeName);
@@ -74,8 +99,8 @@ public class MDSLDataTypeCreator {
 		return dataType;
 	}
 
-	public Collection<DataType> getAllDataTypes() {
-		return this.dataTypeMapping.values();
+	public synchronized Collection<DataType> getAllDataTypes() {
+		return Lists.newArrayList(this.dataTypeMapping.values());
 	}
 
 	private DataType createPrimitiveDataType(String primitiveTypeName) {
@@ -87,21 +112,29 @@ public class MDSLDataTypeCreator {
 
 	private DataType createComplexType(String complexTypeName, ComplexType type) {
 		// do not create new type if a type with the given name already exists
-		if (dataTypeMapping.containsKey(complexTypeName) && !(dataTypeMapping.get(complexTypeName).isAbstractDataType()))
-			return dataTypeMapping.get(complexTypeName);
+		DataType dataType = dataTypeMapping.get(complexTypeName);
+		if (dataType != null && (!dataType.isAbstractDataType() || complexTypesInCreation.contains(complexTypeName)))
+			return dataType;
+
+		if (dataType == null) {
+			dataType = new DataType();
+			dataType.setName(complexTypeName);
+			dataTypeMapping.put(complexTypeName, dataType);
+		}
 
-		DataType dataType = new DataType();
-		dataType.setName(complexTypeName);
-		dataTypeMapping.put(complexTypeName, dataType);
-
-		// add attributes if available
-		if (type.getDomainObjectType() != null && type.getDomainObjectType() instanceof Enum) {
-			dataType.setIsEnumType(true);
-			dataType.addAttributes(createAttributesForEnum((Enum) type.getDomainObjectType()));
-		} else if (type.getDomainObjectType() != null && type.getDomainObjectType() instanceof DomainObject) {
-			DomainObject object = (DomainObject) type.getDomainObjectType();
-			dataType.addAttributes(createAttributes4AttributeList(getDomainObjectAttributes(object)));
-			dataType.addAttributes(createAttributes4ReferencesList(getDomainObjectReferences(object)));
+		// add attributes if available (completes a type registered without attributes)
+		complexTypesInCreation.add(complexTypeName);
+		try {
+			if (type.getDomainObjectType() != null && type.getDomainObjectType() instanceof Enum) {
+				dataType.setIsEnumType(true);
+				dataType.addAttributes(createAttributesForEnum((Enum) type.getDomainObjectType()));
+			} else if (type.getDomainObjectType() != null && type.getDomainObjectType() instanceof DomainObject) {
+				DomainObject object = (DomainObject) type.getDomainObjectType();
+				dataType.addAttributes(createAttributes4AttributeList(getDomainObjectAttributes(object)));
+				dataType.addAttributes(createAttributes4ReferencesList(getDomainObjectReferences(object)));
+			}
+		} finally {
+			complexTypesInCreation.remove(complexTypeName);
 		}
 		return dataType;
 	}
@@ -19,6 +19,7 @@ import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -71,6 +72,7 @@ import org.eclipse.emf.common.util.EList;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 public class MDSLModelCreator {
 
@@ -94,10 +96,10 @@ public class MDSLModelCreator {
 	}
 
 	public List<ServiceSpecification> createServiceSpecifications() {
-		checkPreconditions();
+		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
+		checkPreconditions(upstreamContexts);
 
 		List<ServiceSpecification> specs = Lists.newArrayList();
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
 		for (String apiName : upstreamContexts.keySet()) {
 			UpstreamAPIContext context = upstreamContexts.get(apiName);
 			specs.add(createServiceSpecification(context.getApiName(), context));
@@ -426,6 +428,7 @@ public class MDSLModelCreator {
 
 	private Map<String, UpstreamAPIContext> collectUpstreamContexts() {
 		Map<String, UpstreamAPIContext> upstreamContextMap = Maps.newHashMap();
+		Map<String, Set<String>> exposedAggregateNames = Maps.newHashMap();
 		List<UpstreamDownstreamRelationship> upstreamDownstreamRelationships = Lists.newLinkedList();
 		if (model.getMap() != null)
 			upstreamDownstreamRelationships = model.getMap().getRelationships().stream().filter(rel -> rel instanceof UpstreamDownstreamRelationship)
@@ -445,8 +448,9 @@ public class MDSLModelCreator {
 				upstreamContextMap.put(upstreamAPIName, context);
 			}
 			context.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
+			Set<String> alreadyExposedAggregates = exposedAggregateNames.computeIfAbsent(upstreamAPIName, k -> Sets.newHashSet());
 			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates()) {
-				if (!context.getExposedAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toList()).contains(exposedAggregate.getName()))
+				if (alreadyExposedAggregates.add(exposedAggregate.getName()))
 					context.getExposedAggregates().add(exposedAggregate);
 			}
 			if (relationship.getUpstream().getApplication() != null)
@@ -471,9 +475,7 @@ public class MDSLModelCreator {
 		return upstreamContextMap;
 	}
 
-	private void checkPreconditions() {
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
-
+	private void checkPreconditions(Map<String, UpstreamAPIContext> upstreamContexts) {
 		List<Aggregate> exposedAggregates = Lists.newArrayList();
 		List<Application> applications = Lists.newArrayList();
 		for (UpstreamAPIContext context : upstreamContexts.values()) {
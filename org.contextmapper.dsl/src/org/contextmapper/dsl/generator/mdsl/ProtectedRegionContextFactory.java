@@ -15,6 +15,10 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
 public class ProtectedRegionContextFactory {
 
 	public ProtectedRegionContext createProtectedRegionContextForNewMDSLFile() {
@@ -27,32 +31,19 @@ public class ProtectedRegionContextFactory {
 	}
 
 	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(String fileContent) {
-		ProtectedRegionContext context = new ProtectedRegionContext();
-		ProtectedRegionReader reader = new ProtectedRegionReader();
-
-		String protectedSectionDataTypes = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.DATA_TYPE_REGION);
-		String protectedSectionEndpoints = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.ENDPOINT_REGION);
-		String protectedSectionProviders = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.PROVIDER_REGION);
-		String protectedSectionClient = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.CLIENT_REGION);
-
-		context.setProtectedDataTypeRegion(protectedSectionDataTypes);
-		context.setProtectedEndpointRegion(protectedSectionEndpoints);
-		context.setProtectedProviderRegion(protectedSectionProviders);
-		context.setProtectedClientRegion(protectedSectionClient);
-
-		if (protectedSectionDataTypes != null)
-			context.addDataTypeIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionDataTypes, ProtectedRegionIdentifier.DATA_TYPE_REGION));
-
-		if (protectedSectionEndpoints != null)
-			context.addEndpointIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionEndpoints, ProtectedRegionIdentifier.ENDPOINT_REGION));
-
-		if (protectedSectionProviders != null)
-			context.addProviderIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionProviders, ProtectedRegionIdentifier.PROVIDER_REGION));
-
-		if (protectedSectionClient != null)
-			context.addClientIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionClient, ProtectedRegionIdentifier.CLIENT_REGION));
+		try {
+			return createProtectedRegionContextForExistingMDSLFile(new StringReader(fileContent));
+		} catch (IOException e) {
+			throw new RuntimeException("An error occured while reading the existing MDSL file.", e);
+		}
+	}
 
-		return context;
+	/**
+	 * Reads the protected regions of an existing MDSL file in one single pass,
+	 * without loading the whole file into memory.
+	 */
+	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(Reader fileContent) throws IOException {
+		return new ProtectedRegionScanner().scan(fileContent);
 	}
 
 }
@@ -44,8 +44,8 @@ public class ProtectedRegionReader {
 
 	public Set<String> getIdentifiersInProtectedRegion(String protectedRegion, ProtectedRegionIdentifier regionIdentifier) {
 		Set<String> ids = Sets.newHashSet();
+		Pattern pattern = ProtectedRegionScanner.getIdentifierPattern(regionIdentifier);
 		for (String line : protectedRegion.split("\\r?\\n")) {
-			Pattern pattern = Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$");
 			Matcher matcher = pattern.matcher(line);
 			while (matcher.find()) {
 				ids.add(matcher.group(1));
@@ -62,17 +62,4 @@ public class ProtectedRegionReader {
 		return "// ** END PROTECTED REGION for " + regionIdentifier.toString();
 	}
 
-	private String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
-		switch (regionIdentifier) {
-		case DATA_TYPE_REGION:
-			return "data type";
-		case ENDPOINT_REGION:
-			return "endpoint type";
-		case PROVIDER_REGION:
-			return "API provider";
-		default:
-			return "API client";
-		}
-	}
-
 }
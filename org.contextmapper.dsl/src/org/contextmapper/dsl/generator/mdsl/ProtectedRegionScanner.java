@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.mdsl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Extracts all protected regions (and the identifiers within them) of an
+ * existing MDSL file in one single pass over its lines.
+ */
+public class ProtectedRegionScanner {
+
+	private static final String REGION_START = "// ** BEGIN PROTECTED REGION for ";
+	private static final String REGION_END = "// ** END PROTECTED REGION for ";
+
+	private static final Map<ProtectedRegionIdentifier, Pattern> IDENTIFIER_PATTERNS = new EnumMap<>(ProtectedRegionIdentifier.class);
+
+	static {
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			IDENTIFIER_PATTERNS.put(regionIdentifier,
+					Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$"));
+		}
+	}
+
+	/**
+	 * Scans the given MDSL input. Regions which are not contained in the input
+	 * are null in the returned context.
+	 */
+	public ProtectedRegionContext scan(Reader mdslInput) throws IOException {
+		Map<ProtectedRegionIdentifier, ProtectedRegion> regions = new EnumMap<>(ProtectedRegionIdentifier.class);
+		BufferedReader reader = mdslInput instanceof BufferedReader ? (BufferedReader) mdslInput : new BufferedReader(mdslInput);
+
+		ProtectedRegion currentRegion = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (currentRegion == null) {
+				ProtectedRegionIdentifier startedRegion = getStartedRegion(line);
+				// only the first region of each type is considered
+				if (startedRegion != null && !regions.containsKey(startedRegion)) {
+					currentRegion = new ProtectedRegion(startedRegion);
+					regions.put(startedRegion, currentRegion);
+				}
+			} else if (line.trim().startsWith(REGION_END + currentRegion.identifier.toString())) {
+				currentRegion.closed = true;
+				currentRegion = null;
+			} else {
+				currentRegion.addLine(line);
+			}
+		}
+		return createContext(regions);
+	}
+
+	private ProtectedRegionContext createContext(Map<ProtectedRegionIdentifier, ProtectedRegion> regions) {
+		ProtectedRegionContext context = new ProtectedRegionContext();
+		context.setProtectedDataTypeRegion(getRegionContent(regions, ProtectedRegionIdentifier.DATA_TYPE_REGION));
+		context.setProtectedEndpointRegion(getRegionContent(regions, ProtectedRegionIdentifier.ENDPOINT_REGION));
+		context.setProtectedProviderRegion(getRegionContent(regions, ProtectedRegionIdentifier.PROVIDER_REGION));
+		context.setProtectedClientRegion(getRegionContent(regions, ProtectedRegionIdentifier.CLIENT_REGION));
+		context.addDataTypeIdentifiers(getIdentifiers(regions, ProtectedRegionIdentifier.DATA_TYPE_REGION));
+		context.addEndpointIdentifiers(getIdentifiers(regions, ProtectedRegionIdentifier.ENDPOINT_REGION));
+		context.addProviderIdentifiers(getIdentifiers(regions, ProtectedRegionIdentifier.PROVIDER_REGION));
+		context.addClientIdentifiers(getIdentifiers(regions, ProtectedRegionIdentifier.CLIENT_REGION));
+		return context;
+	}
+
+	private String getRegionContent(Map<ProtectedRegionIdentifier, ProtectedRegion> regions, ProtectedRegionIdentifier regionIdentifier) {
+		ProtectedRegion region = regions.get(regionIdentifier);
+		return region != null && region.closed ? region.content.toString() : null;
+	}
+
+	private Set<String> getIdentifiers(Map<ProtectedRegionIdentifier, ProtectedRegion> regions, ProtectedRegionIdentifier regionIdentifier) {
+		ProtectedRegion region = regions.get(regionIdentifier);
+		return region != null && region.closed ? region.identifiers : Sets.newHashSet();
+	}
+
+	private ProtectedRegionIdentifier getStartedRegion(String line) {
+		String trimmedLine = line.trim();
+		if (!trimmedLine.startsWith(REGION_START))
+			return null;
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			if (trimmedLine.startsWith(REGION_START + regionIdentifier.toString()))
+				return regionIdentifier;
+		}
+		return null;
+	}
+
+	static Pattern getIdentifierPattern(ProtectedRegionIdentifier regionIdentifier) {
+		return IDENTIFIER_PATTERNS.get(regionIdentifier);
+	}
+
+	private static String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
+		switch (regionIdentifier) {
+		case DATA_TYPE_REGION:
+			return "data type";
+		case ENDPOINT_REGION:
+			return "endpoint type";
+		case PROVIDER_REGION:
+			return "API provider";
+		default:
+			return "API client";
+		}
+	}
+
+	private static class ProtectedRegion {
+
+		private ProtectedRegionIdentifier identifier;
+		private StringBuilder content = new StringBuilder();
+		private Set<String> identifiers = Sets.newHashSet();
+		private boolean firstLine = true;
+		private boolean closed = false;
+
+		ProtectedRegion(ProtectedRegionIdentifier identifier) {
+			this.identifier = identifier;
+		}
+
+		void addLine(String line) {
+			if (!firstLine)
+				content.append(System.lineSeparator());
+			content.append(line);
+			firstLine = false;
+			Matcher matcher = IDENTIFIER_PATTERNS.get(identifier).matcher(line);
+			if (matcher.find())
+				identifiers.add(matcher.group(1));
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.plantuml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+/**
+ * Content-addressed file cache for rendered PlantUML images. The images are
+ * stored under the SHA-256 hash of the PlantUML source, so that an unchanged
+ * diagram is never rendered twice, even across generator runs.
+ */
+public class PlantUMLRenderCache {
+
+	private static final String DEFAULT_CACHE_DIR_NAME = "contextmapper-plantuml-cache";
+
+	private File cacheDirectory;
+
+	public PlantUMLRenderCache() {
+		this(new File(System.getProperty("java.io.tmpdir"), DEFAULT_CACHE_DIR_NAME));
+	}
+
+	public PlantUMLRenderCache(File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	public File getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	public String computeKey(String plantUMLSource) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest(plantUMLSource.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder(hash.length * 2);
+			for (byte b : hash)
+				sb.append(String.format("%02x", b));
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	public Optional<byte[]> get(String key, PlantUMLImageFormat format) {
+		Path file = getCacheFile(key, format);
+		if (!Files.isRegularFile(file))
+			return Optional.empty();
+		try {
+			return Optional.of(Files.readAllBytes(file));
+		} catch (IOException e) {
+			// a broken cache entry is simply rendered again
+			return Optional.empty();
+		}
+	}
+
+	public void put(String key, PlantUMLImageFormat format, byte[] image) {
+		Path file = getCacheFile(key, format);
+		try {
+			Files.createDirectories(file.getParent());
+			Path tmpFile = Files.createTempFile(file.getParent(), key, ".tmp");
+			Files.write(tmpFile, image);
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// caching is an optimization only; the rendered image is still returned
+		}
+	}
+
+	private Path getCacheFile(String key, PlantUMLImageFormat format) {
+		return cacheDirectory.toPath().resolve(key.substring(0, 2)).resolve(key + "." + format.getFileExtension());
+	}
+
+}
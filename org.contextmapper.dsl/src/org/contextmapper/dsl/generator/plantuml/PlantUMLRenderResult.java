@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.plantuml;
+
+/**
+ * Result of rendering one PlantUML diagram into one image format.
+ */
+public class PlantUMLRenderResult {
+
+	private String diagramName;
+	private PlantUMLImageFormat format;
+	private byte[] image;
+	private long renderTimeMillis;
+	private boolean fromCache;
+
+	PlantUMLRenderResult(String diagramName, PlantUMLImageFormat format, byte[] image, long renderTimeMillis,
+			boolean fromCache) {
+		this.diagramName = diagramName;
+		this.format = format;
+		this.image = image;
+		this.renderTimeMillis = renderTimeMillis;
+		this.fromCache = fromCache;
+	}
+
+	public String getDiagramName() {
+		return diagramName;
+	}
+
+	public PlantUMLImageFormat getFormat() {
+		return format;
+	}
+
+	public String getFileName() {
+		return diagramName + "." + format.getFileExtension();
+	}
+
+	public byte[] getImage() {
+		return image;
+	}
+
+	/**
+	 * Time it took to produce the image. If the image was taken from the cache,
+	 * this is the time needed for the cache lookup.
+	 */
+	public long getRenderTimeMillis() {
+		return renderTimeMillis;
+	}
+
+	public boolean isFromCache() {
+		return fromCache;
+	}
+
+}
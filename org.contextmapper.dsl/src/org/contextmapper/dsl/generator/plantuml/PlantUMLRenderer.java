@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.plantuml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+
+import net.sourceforge.plantuml.FileFormatOption;
+import net.sourceforge.plantuml.SourceStringReader;
+
+/**
+ * Renders PlantUML diagrams in-process (no external PlantUML process needed) on
+ * a bounded pool of worker threads. Images are looked up in a
+ * {@link PlantUMLRenderCache} before they are rendered.
+ */
+public class PlantUMLRenderer {
+
+	private PlantUMLRenderCache cache;
+	private int maxThreads;
+
+	public PlantUMLRenderer(PlantUMLRenderCache cache, int maxThreads) {
+		if (maxThreads < 1)
+			throw new IllegalArgumentException("Please specify at least one render thread!");
+		this.cache = cache;
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Renders all given diagrams into all given formats.
+	 * 
+	 * @param diagrams the PlantUML sources, keyed by diagram name (file name
+	 *                 without extension)
+	 * @param formats  the image formats to render
+	 * @return one result per diagram and format, in the order of the given map
+	 */
+	public List<PlantUMLRenderResult> render(Map<String, String> diagrams, Set<PlantUMLImageFormat> formats) {
+		List<Callable<PlantUMLRenderResult>> jobs = Lists.newArrayList();
+		for (Entry<String, String> diagram : diagrams.entrySet()) {
+			for (PlantUMLImageFormat format : formats) {
+				jobs.add(() -> render(diagram.getKey(), diagram.getValue(), format));
+			}
+		}
+		if (jobs.isEmpty())
+			return Lists.newArrayList();
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxThreads, jobs.size()));
+		try {
+			List<PlantUMLRenderResult> results = Lists.newArrayList();
+			for (Future<PlantUMLRenderResult> future : executor.invokeAll(jobs)) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Rendering the PlantUML diagrams has been interrupted!", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("An error occured while rendering the PlantUML diagrams!", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private PlantUMLRenderResult render(String diagramName, String plantUMLSource, PlantUMLImageFormat format)
+			throws IOException {
+		long start = System.nanoTime();
+		String key = cache.computeKey(plantUMLSource);
+		Optional<byte[]> cachedImage = cache.get(key, format);
+		if (cachedImage.isPresent())
+			return new PlantUMLRenderResult(diagramName, format, cachedImage.get(), elapsedMillis(start), true);
+
+		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+			new SourceStringReader(plantUMLSource).outputImage(outputStream,
+					new FileFormatOption(format.getPlantUMLFileFormat()));
+			byte[] image = outputStream.toByteArray();
+			cache.put(key, format, image);
+			return new PlantUMLRenderResult(diagramName, format, image, elapsedMillis(start), false);
+		}
+	}
+
+	private long elapsedMillis(long startNanos) {
+		return (System.nanoTime() - startNanos) / 1_000_000;
+	}
+
+}
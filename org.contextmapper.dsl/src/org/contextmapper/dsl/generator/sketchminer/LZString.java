@@ -13,133 +13,70 @@
  */
 package org.contextmapper.dsl.generator.sketchminer;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * This class is copied from https://github.com/rufushuang/lz-string4java.
  *
  * Copyright (c) 2016 rufushuang
+ * 
+ * The compression has been reworked to work on primitives: dictionary entries
+ * are identified by the code of their prefix and their last character (trie),
+ * stored in an open-addressing map. The output is identical to the original
+ * implementation.
  */
 public class LZString {
 
-	private static char[] keyStrUriSafe = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+-$".toCharArray();
+	private static final char[] keyStrUriSafe = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+-$".toCharArray();
 
 	public static String compressToEncodedURIComponent(String input) {
 		if (input == null)
 			return "";
-		return LZString._compress(input, 6, new CompressFunctionWrapper() {
-			@Override
-			public char doFunc(int a) {
-				return keyStrUriSafe[a];
-			}
-		});
-	}
-
-	private static abstract class CompressFunctionWrapper {
-		public abstract char doFunc(int i);
+		return _compress(input, 6, keyStrUriSafe);
 	}
 
-	private static String _compress(String uncompressedStr, int bitsPerChar, CompressFunctionWrapper getCharFromInt) {
+	private static String _compress(String uncompressedStr, int bitsPerChar, char[] alphabet) {
 		if (uncompressedStr == null)
 			return "";
-		int i, value;
-		Map<String, Integer> context_dictionary = new HashMap<String, Integer>();
-		Set<String> context_dictionaryToCreate = new HashSet<String>();
-		String context_c = "";
-		String context_wc = "";
-		String context_w = "";
+		char[] input = uncompressedStr.toCharArray();
+		LongIntMap context_dictionary = new LongIntMap(input.length);
+		BitSet context_dictionaryToCreate = new BitSet(256);
+		BitWriter context_data = new BitWriter(bitsPerChar, alphabet, input.length / 3);
+		int context_w = -1; // code of the current phrase; -1 = empty
+		char context_w_firstChar = 0;
+		boolean context_w_isSingleChar = false;
 		int context_enlargeIn = 2; // Compensate for the first entry which should not count
 		int context_dictSize = 3;
 		int context_numBits = 2;
-		StringBuilder context_data = new StringBuilder(uncompressedStr.length() / 3);
-		int context_data_val = 0;
-		int context_data_position = 0;
-		int ii;
 
-		for (ii = 0; ii < uncompressedStr.length(); ii += 1) {
-			context_c = String.valueOf(uncompressedStr.charAt(ii));
-			if (!context_dictionary.containsKey(context_c)) {
-				context_dictionary.put(context_c, context_dictSize++);
-				context_dictionaryToCreate.add(context_c);
+		for (char context_c : input) {
+			long charKey = key(-1, context_c);
+			int charCode = context_dictionary.get(charKey);
+			if (charCode < 0) {
+				charCode = context_dictSize++;
+				context_dictionary.put(charKey, charCode);
+				context_dictionaryToCreate.set(context_c);
 			}
 
-			context_wc = context_w + context_c;
-			if (context_dictionary.containsKey(context_wc)) {
-				context_w = context_wc;
+			long context_wc = key(context_w, context_c);
+			int wcCode = context_dictionary.get(context_wc);
+			if (wcCode >= 0) {
+				if (context_w < 0)
+					context_w_firstChar = context_c;
+				context_w_isSingleChar = context_w < 0;
+				context_w = wcCode;
 			} else {
-				if (context_dictionaryToCreate.contains(context_w)) {
-					if (context_w.charAt(0) < 256) {
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 8; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					} else {
-						value = 1;
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1) | value;
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = 0;
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 16; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					}
+				if (context_w_isSingleChar && context_dictionaryToCreate.get(context_w_firstChar)) {
+					writeCharacter(context_data, context_w_firstChar, context_numBits);
 					context_enlargeIn--;
 					if (context_enlargeIn == 0) {
 						context_enlargeIn = powerOf2(context_numBits);
 						context_numBits++;
 					}
-					context_dictionaryToCreate.remove(context_w);
+					context_dictionaryToCreate.clear(context_w_firstChar);
 				} else {
-					value = context_dictionary.get(context_w);
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-
+					context_data.write(context_w, context_numBits);
 				}
 				context_enlargeIn--;
 				if (context_enlargeIn == 0) {
@@ -148,82 +85,24 @@ public class LZString {
 				}
 				// Add wc to the dictionary.
 				context_dictionary.put(context_wc, context_dictSize++);
-				context_w = context_c;
+				context_w = charCode;
+				context_w_firstChar = context_c;
+				context_w_isSingleChar = true;
 			}
 		}
 
 		// Output the code for w.
-		if (!context_w.isEmpty()) {
-			if (context_dictionaryToCreate.contains(context_w)) {
-				if (context_w.charAt(0) < 256) {
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 8; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-				} else {
-					value = 1;
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | value;
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = 0;
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 16; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
-				}
+		if (context_w >= 0) {
+			if (context_w_isSingleChar && context_dictionaryToCreate.get(context_w_firstChar)) {
+				writeCharacter(context_data, context_w_firstChar, context_numBits);
 				context_enlargeIn--;
 				if (context_enlargeIn == 0) {
 					context_enlargeIn = powerOf2(context_numBits);
 					context_numBits++;
 				}
-				context_dictionaryToCreate.remove(context_w);
+				context_dictionaryToCreate.clear(context_w_firstChar);
 			} else {
-				value = context_dictionary.get(context_w);
-				for (i = 0; i < context_numBits; i++) {
-					context_data_val = (context_data_val << 1) | (value & 1);
-					if (context_data_position == bitsPerChar - 1) {
-						context_data_position = 0;
-						context_data.append(getCharFromInt.doFunc(context_data_val));
-						context_data_val = 0;
-					} else {
-						context_data_position++;
-					}
-					value = value >> 1;
-				}
-
+				context_data.write(context_w, context_numBits);
 			}
 			context_enlargeIn--;
 			if (context_enlargeIn == 0) {
@@ -233,33 +112,138 @@ public class LZString {
 		}
 
 		// Mark the end of the stream
-		value = 2;
-		for (i = 0; i < context_numBits; i++) {
-			context_data_val = (context_data_val << 1) | (value & 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data_position = 0;
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				context_data_val = 0;
-			} else {
-				context_data_position++;
-			}
-			value = value >> 1;
-		}
+		context_data.write(2, context_numBits);
 
 		// Flush the last char
-		while (true) {
-			context_data_val = (context_data_val << 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				break;
-			} else
-				context_data_position++;
+		return context_data.flush();
+	}
+
+	private static void writeCharacter(BitWriter data, char character, int numBits) {
+		if (character < 256) {
+			data.write(0, numBits);
+			data.write(character, 8);
+		} else {
+			data.write(1, numBits);
+			data.write(character, 16);
 		}
-		return context_data.toString();
+	}
+
+	/**
+	 * Key of the dictionary entry consisting of the entry with the given prefix
+	 * code (-1 for no prefix) followed by the given character.
+	 */
+	private static long key(int prefixCode, char character) {
+		return ((long) (prefixCode + 1) << 16) | character;
 	}
 
 	private static int powerOf2(int power) {
 		return 1 << power;
 	}
 
+	/**
+	 * Writes values bit by bit (least significant bit first) and maps every
+	 * completed group of bits to a character of the alphabet.
+	 */
+	private static class BitWriter {
+
+		private final int bitsPerChar;
+		private final char[] alphabet;
+		private final StringBuilder data;
+		private int val = 0;
+		private int position = 0;
+
+		BitWriter(int bitsPerChar, char[] alphabet, int initialCapacity) {
+			this.bitsPerChar = bitsPerChar;
+			this.alphabet = alphabet;
+			this.data = new StringBuilder(initialCapacity);
+		}
+
+		void write(int value, int numBits) {
+			for (int i = 0; i < numBits; i++) {
+				val = (val << 1) | (value & 1);
+				if (position == bitsPerChar - 1) {
+					position = 0;
+					data.append(alphabet[val]);
+					val = 0;
+				} else {
+					position++;
+				}
+				value = value >> 1;
+			}
+		}
+
+		String flush() {
+			while (true) {
+				val = (val << 1);
+				if (position == bitsPerChar - 1) {
+					data.append(alphabet[val]);
+					break;
+				} else
+					position++;
+			}
+			return data.toString();
+		}
+	}
+
+	/**
+	 * Open-addressing hash map from non-negative long keys to non-negative int
+	 * values (linear probing).
+	 */
+	private static class LongIntMap {
+
+		private static final long EMPTY = -1L;
+
+		private long[] keys;
+		private int[] values;
+		private int size = 0;
+
+		LongIntMap(int expectedSize) {
+			int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1;
+			keys = new long[capacity];
+			values = new int[capacity];
+			Arrays.fill(keys, EMPTY);
+		}
+
+		int get(long key) {
+			int mask = keys.length - 1;
+			for (int index = hash(key) & mask;; index = (index + 1) & mask) {
+				if (keys[index] == key)
+					return values[index];
+				if (keys[index] == EMPTY)
+					return -1;
+			}
+		}
+
+		void put(long key, int value) {
+			if ((size + 1) * 2 > keys.length)
+				grow();
+			int mask = keys.length - 1;
+			int index = hash(key) & mask;
+			while (keys[index] != EMPTY && keys[index] != key)
+				index = (index + 1) & mask;
+			if (keys[index] == EMPTY)
+				size++;
+			keys[index] = key;
+			values[index] = value;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = new long[oldKeys.length * 2];
+			values = new int[oldValues.length * 2];
+			Arrays.fill(keys, EMPTY);
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != EMPTY)
+					put(oldKeys[i], oldValues[i]);
+			}
+		}
+
+		private static int hash(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+
 }
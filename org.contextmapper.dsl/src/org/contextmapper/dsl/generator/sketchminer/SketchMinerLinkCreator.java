@@ -19,25 +19,31 @@ import org.contextmapper.dsl.contextMappingDSL.Coordination;
 import org.contextmapper.dsl.contextMappingDSL.Flow;
 import org.eclipse.emf.ecore.EObject;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * Generate a Sketch Miner (https://www.bpmn-sketch-miner.ai) link for a CML
  * flow definition.
+ * 
+ * Links are cached by the generated Sketch Miner model text, so that the
+ * compression only runs again once the flow or one of the elements it depends
+ * on (actors, referenced operations) has been changed.
  *
  */
 public class SketchMinerLinkCreator {
 
 	private static final String SKETCH_MINER_URL = "https://www.bpmn-sketch-miner.ai/index.html#";
+	private static final int MAX_CACHED_LINKS = 256;
+
+	private static final Cache<String, String> LINK_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_LINKS).build();
 
 	public String createSketchMinerLink(Flow flow) {
-		String sketchMinerInput = new SketchMinerModelCreator().createText(flow);
-		return SKETCH_MINER_URL + LZString.compressToEncodedURIComponent(
-				"bpln:v1\n--\n" + sketchMinerInput);
+		return getCachedLink(new SketchMinerModelCreator().createText(flow));
 	}
-	
+
 	public String createSketchMinerLink(Coordination coordination) {
-		String sketchMinerInput = new SketchMinerCoordinationModelCreator().createText(coordination);
-		return SKETCH_MINER_URL + LZString.compressToEncodedURIComponent(
-				"bpln:v1\n--\n" + sketchMinerInput);
+		return getCachedLink(new SketchMinerCoordinationModelCreator().createText(coordination));
 	}
 
 	public String createSketchMinerLink(EObject object) {
@@ -48,4 +54,13 @@ public class SketchMinerLinkCreator {
 		return "";
 	}
 
+	private String getCachedLink(String sketchMinerInput) {
+		String link = LINK_CACHE.getIfPresent(sketchMinerInput);
+		if (link == null) {
+			link = SKETCH_MINER_URL + LZString.compressToEncodedURIComponent("bpln:v1\n--\n" + sketchMinerInput);
+			LINK_CACHE.put(sketchMinerInput, link);
+		}
+		return link;
+	}
+
 }
@@ -16,10 +16,18 @@
 package org.contextmapper.dsl.refactoring;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.io.IOUtils;
 import org.contextmapper.dsl.cml.CMLImportResolver;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -28,15 +36,21 @@ import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.dsl.contextMappingDSL.Import;
 import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.serializer.ISerializer;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -53,6 +67,9 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	protected ResourceSet consistencyCheckResources;
 	protected Set<CMLResource> additionalResourcesToCheck = Sets.newHashSet();
 
+	private ChangeDescription changes;
+	private Set<Resource> resourcesModifiedBeforeRefactoring = Sets.newHashSet();
+
 	@Override
 	public void refactor(CMLResource resource) {
 		this.rootResource = resource;
@@ -60,7 +77,11 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		this.model = resource.getContextMappingModel();
 		enableModificationTracking(resource);
 		resolveRootElements();
-		doRefactor();
+		try {
+			recordChanges(() -> doRefactor());
+		} finally {
+			disposeRelationshipIndexes();
+		}
 	}
 
 	@Override
@@ -75,26 +96,182 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		refactor(resource);
 	}
 
+	/**
+	 * Applies this refactoring as a step of the given batch: reuses the resources
+	 * and root elements the batch already resolved. Changes are recorded and
+	 * persisted by the batch.
+	 */
+	void refactorWithin(AbstractRefactoring batch) {
+		this.rootResource = batch.rootResource;
+		this.importedResources = batch.importedResources;
+		this.model = batch.model;
+		this.consistencyCheckResources = batch.consistencyCheckResources;
+		this.additionalResourcesToCheck = batch.additionalResourcesToCheck;
+		this.boundedContextsMap = batch.boundedContextsMap;
+		this.contextMapMap = batch.contextMapMap;
+		this.domainMap = batch.domainMap;
+		this.userRequirementMap = batch.userRequirementMap;
+		doRefactor();
+	}
+
+	/**
+	 * Runs the given model change and keeps the resolved root elements up to date
+	 * while it adds or removes Bounded Contexts, Context Maps, Domains or user
+	 * requirements. Used by batches, whose steps share the root elements instead
+	 * of resolving them again.
+	 */
+	void trackRootElements(Runnable modelChange) {
+		RootElementTracker tracker = new RootElementTracker();
+		tracker.track(rootResource);
+		for (CMLResource importedResource : importedResources)
+			tracker.track(importedResource);
+		try {
+			modelChange.run();
+		} finally {
+			tracker.dispose();
+		}
+	}
+
+	/**
+	 * Persists the recorded changes. Only the changed top-level elements
+	 * (Bounded Contexts, Context Map, Domains, etc.) are serialized and written
+	 * into the text they have been parsed from (see
+	 * {@link CMLTextEditCalculator}); the rest of the files stays untouched.
+	 * Resources for which no minimal edits can be calculated are serialized
+	 * completely.
+	 */
 	@Override
 	public void persistChanges(ISerializer serializer) {
-		CMLResource rootResource = this.rootResource;
+		CMLTextEditCalculator editCalculator = new CMLTextEditCalculator(serializer);
+
+		// calculate the new texts of all resources before we write the first one
+		Map<CMLResource, String> newTexts = Maps.newLinkedHashMap();
+		try {
+			Map<Resource, List<CMLTextEdit>> textEdits = this.changes != null ? editCalculator.calculateTextEdits(this.changes) : Collections.emptyMap();
+			Set<CMLResource> resourcesToWrite = getModifiedResources();
+			for (Resource resource : textEdits.keySet())
+				resourcesToWrite.add(new CMLResource(resource));
+			for (CMLResource resource : resourcesToWrite) {
+				String newText = calculateNewText(resource, textEdits.get(resource.getContextMappingModel().eResource()));
+				newTexts.put(resource, newText != null ? newText : editCalculator.serializeCompletely(resource));
+			}
+		} catch (RuntimeException e) {
+			Set<String> serializationErrors = Sets.newHashSet();
+			serializationErrors.add(e.getMessage());
+			rollback();
+			throw new RefactoringSerializationException(serializationErrors, e);
+		}
+
+		for (Entry<CMLResource, String> newText : newTexts.entrySet())
+			writeResource(newText.getKey(), newText.getValue());
+		this.changes = null;
+	}
+
+	private Set<CMLResource> getModifiedResources() {
+		Set<CMLResource> modifiedResources = Sets.newLinkedHashSet();
 		if (rootResource.isModified())
-			persistResource(rootResource, serializer);
+			modifiedResources.add(rootResource);
 		if (rootResource.getResourceSet() != null)
-			persistChanges(rootResource.getResourceSet(), serializer);
+			collectModifiedResources(rootResource.getResourceSet(), modifiedResources);
 		if (this.consistencyCheckResources != null)
-			persistChanges(consistencyCheckResources, serializer);
+			collectModifiedResources(consistencyCheckResources, modifiedResources);
+		return modifiedResources;
+	}
+
+	/**
+	 * Applies the edits to the text the resource has been parsed from. Returns
+	 * null if the resource has to be serialized completely: there are no minimal
+	 * edits, the resource has already been modified before the refactoring, or
+	 * the file has changed since it has been loaded.
+	 */
+	private String calculateNewText(CMLResource resource, List<CMLTextEdit> edits) {
+		if (edits == null || this.resourcesModifiedBeforeRefactoring.contains(resource))
+			return null;
+		String originalText = CMLTextEditCalculator.getParsedText(resource.getContextMappingModel().eResource());
+		if (originalText == null || !originalText.equals(readResource(resource)))
+			return null;
+		return CMLTextEditCalculator.applyEdits(originalText, edits);
 	}
 
-	private void persistChanges(ResourceSet rs, ISerializer serializer) {
+	private void collectModifiedResources(ResourceSet rs, Set<CMLResource> modifiedResources) {
 		for (Resource resource : rs.getResources()) {
 			if (resource.isModified())
-				persistResource(new CMLResource(resource), serializer);
+				modifiedResources.add(new CMLResource(resource));
 		}
 	}
 
 	protected abstract void doRefactor();
 
+	/**
+	 * Executes the given model change as a transaction: if it fails, all changes
+	 * made so far are reverted. Otherwise, the recorded changes are kept so that
+	 * they can still be reverted if persisting fails. Only the resources the
+	 * refactoring works on are recorded, not the whole resource set.
+	 */
+	private void recordChanges(Runnable modelChange) {
+		Set<Resource> resourcesModifiedBefore = Sets.newHashSet();
+		for (Resource resource : getRecordedResources()) {
+			if (resource.isModified())
+				resourcesModifiedBefore.add(resource);
+		}
+		this.resourcesModifiedBeforeRefactoring = resourcesModifiedBefore;
+
+		// references have to be resolved before the change, so that the elements
+		// referencing renamed or removed objects can be serialized again
+		if (rootResource.getResourceSet() != null)
+			EcoreUtil.resolveAll(rootResource.getResourceSet());
+		else
+			EcoreUtil.resolveAll(rootResource);
+
+		ChangeRecorder recorder = new ChangeRecorder();
+		recorder.setResolveProxies(false);
+		recorder.beginRecording(getRecordedResources());
+		try {
+			modelChange.run();
+			this.changes = recorder.endRecording();
+		} catch (RuntimeException e) {
+			this.changes = recorder.endRecording();
+			rollback();
+			throw e;
+		} finally {
+			recorder.dispose();
+		}
+	}
+
+	/**
+	 * Reverts all model changes made by this refactoring which have not been
+	 * persisted yet.
+	 */
+	private void rollback() {
+		if (this.changes == null)
+			return;
+		this.changes.apply();
+		this.changes = null;
+		for (Resource resource : getRecordedResources()) {
+			if (!this.resourcesModifiedBeforeRefactoring.contains(resource))
+				resource.setModified(false);
+		}
+	}
+
+	private Set<Resource> getRecordedResources() {
+		Set<Resource> resources = Sets.newLinkedHashSet();
+		resources.add(rootResource);
+		resources.addAll(importedResources);
+		resources.addAll(contextMapMap.values());
+		return resources;
+	}
+
+	/**
+	 * Removes the relationship indexes the refactoring attached to the Context
+	 * Maps (see {@link ContextMappingModelHelper}).
+	 */
+	private void disposeRelationshipIndexes() {
+		for (ContextMap contextMap : contextMapMap.keySet())
+			ContextMapRelationshipIndex.disposeIndex(contextMap);
+		if (model.getMap() != null)
+			ContextMapRelationshipIndex.disposeIndex(model.getMap());
+	}
+
 	private void enableModificationTracking(CMLResource cmlResource) {
 		cmlResource.setTrackingModification(true);
 		if (cmlResource.getResourceSet() != null)
@@ -107,50 +284,64 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		}
 	}
 
+	/*
+	 * The following getters return read-only views; the root elements are only
+	 * resolved once before the refactoring is executed.
+	 */
 	protected Set<BoundedContext> getAllBoundedContexts() {
-		return Sets.newHashSet(this.boundedContextsMap.keySet());
+		return Collections.unmodifiableSet(this.boundedContextsMap.keySet());
 	}
 
 	protected Set<ContextMap> getAllContextMaps() {
-		return Sets.newHashSet(this.contextMapMap.keySet());
+		return Collections.unmodifiableSet(this.contextMapMap.keySet());
 	}
 
 	protected Set<Domain> getAllDomains() {
-		return Sets.newHashSet(this.domainMap.keySet());
+		return Collections.unmodifiableSet(this.domainMap.keySet());
 	}
 
 	protected Set<UserRequirement> getAllUserRequirements() {
-		return Sets.newHashSet(this.userRequirementMap.keySet());
+		return Collections.unmodifiableSet(this.userRequirementMap.keySet());
 	}
 
-	private void persistResource(CMLResource resource, ISerializer serializer) {
-		Set<String> serializationErrors = serializationDryRun(resource, serializer);
-		if (!serializationErrors.isEmpty())
-			throw new RefactoringSerializationException(serializationErrors);
-
+	private void writeResource(CMLResource resource, String content) {
+		URIConverter uriConverter = resource.getResourceSet() != null ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
 		try {
-			resource.save(SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+			byte[] bytes = content.getBytes(getEncoding(resource));
+			// unchanged files are not rewritten
+			if (!hasContent(uriConverter, resource.getURI(), bytes)) {
+				try (OutputStream outputStream = uriConverter.createOutputStream(resource.getURI())) {
+					outputStream.write(bytes);
+				}
+			}
+			resource.setModified(false);
 		} catch (IOException e) {
-			throw new RuntimeException("Document cannot be formatted.");
+			throw new ContextMapperApplicationException("The file '" + resource.getURI().toString() + "' cannot be written.", e);
 		}
 	}
 
-	/**
-	 * Tries to serialize a CML resource and returns a set of error messages if it
-	 * does not work.
-	 * 
-	 * @param resource the resource that shall be persisted
-	 * @return an empty set, if there was no error, a non-empty set (with error
-	 *         messages) otherwise
-	 */
-	private Set<String> serializationDryRun(CMLResource resource, ISerializer serializer) {
-		Set<String> errors = Sets.newHashSet();
-		try {
-			serializer.serialize(resource.getContextMappingModel());
-		} catch (Exception e) {
-			errors.add(e.getMessage());
+	private String readResource(CMLResource resource) {
+		URIConverter uriConverter = resource.getResourceSet() != null ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
+		try (InputStream inputStream = uriConverter.createInputStream(resource.getURI())) {
+			return IOUtils.toString(inputStream, getEncoding(resource));
+		} catch (IOException e) {
+			return null;
 		}
-		return errors;
+	}
+
+	private boolean hasContent(URIConverter uriConverter, URI uri, byte[] content) throws IOException {
+		if (!uriConverter.exists(uri, null))
+			return false;
+		try (InputStream inputStream = uriConverter.createInputStream(uri)) {
+			return Arrays.equals(content, IOUtils.toByteArray(inputStream));
+		}
+	}
+
+	private String getEncoding(CMLResource resource) {
+		Resource wrappedResource = resource.getContextMappingModel().eResource();
+		if (wrappedResource instanceof XtextResource && ((XtextResource) wrappedResource).getEncoding() != null)
+			return ((XtextResource) wrappedResource).getEncoding();
+		return StandardCharsets.UTF_8.name();
 	}
 
 	protected CMLResource getResource(BoundedContext bc) {
@@ -199,6 +390,79 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		}
 	}
 
+	private void addRootElement(Object element, CMLResource resource) {
+		if (element instanceof BoundedContext)
+			this.boundedContextsMap.put((BoundedContext) element, resource);
+		else if (element instanceof ContextMap)
+			this.contextMapMap.put((ContextMap) element, resource);
+		else if (element instanceof Domain)
+			this.domainMap.put((Domain) element, resource);
+		else if (element instanceof UserRequirement)
+			this.userRequirementMap.put((UserRequirement) element, resource);
+	}
+
+	private void removeRootElement(Object element) {
+		this.boundedContextsMap.remove(element);
+		this.contextMapMap.remove(element);
+		this.domainMap.remove(element);
+		this.userRequirementMap.remove(element);
+	}
+
+	/**
+	 * Updates the resolved root elements on changes of the top-level lists of the
+	 * tracked models.
+	 */
+	private class RootElementTracker extends AdapterImpl {
+
+		private Map<ContextMappingModel, CMLResource> trackedModels = Maps.newHashMap();
+
+		void track(CMLResource resource) {
+			ContextMappingModel trackedModel = resource.getContextMappingModel();
+			if (trackedModels.putIfAbsent(trackedModel, resource) == null)
+				trackedModel.eAdapters().add(this);
+		}
+
+		void dispose() {
+			for (ContextMappingModel trackedModel : trackedModels.keySet())
+				trackedModel.eAdapters().remove(this);
+			trackedModels.clear();
+		}
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			CMLResource resource = trackedModels.get(notification.getNotifier());
+			if (resource == null || notification.isTouch())
+				return;
+			switch (notification.getEventType()) {
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+			case Notification.SET:
+			case Notification.UNSET:
+				for (Object element : getValues(notification.getOldValue()))
+					removeRootElement(element);
+				break;
+			default:
+				break;
+			}
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+			case Notification.SET:
+				for (Object element : getValues(notification.getNewValue()))
+					addRootElement(element, resource);
+				break;
+			default:
+				break;
+			}
+		}
+
+		private Collection<?> getValues(Object value) {
+			if (value instanceof Collection)
+				return (Collection<?>) value;
+			return value != null ? Collections.singleton(value) : Collections.emptySet();
+		}
+	}
+
 	/**
 	 * Checks whether source contains an import statement to target.
 	 */
@@ -210,30 +474,24 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		return false;
 	}
 
+	/*
+	 * The following helpers used to rebuild the whole list (copy, clear and add
+	 * all again) on every call, to work around a serialization problem of older
+	 * Xtext versions. This is no longer needed; the model is serialized
+	 * correctly with plain EList operations. Note that adding an element to a
+	 * containment list moves it out of its old container, so moving a set of
+	 * elements only needs one addElementsToEList call.
+	 */
+
 	protected <T> void addElementsToEList(EList<T> list, List<T> elementsToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.addAll(elementsToAdd);
 	}
 
 	protected <T> void addElementToEList(EList<T> list, T elementToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.add(elementToAdd);
 	}
 
 	protected <T> void removeElementFromEList(EList<T> list, T object) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
 		list.remove(object);
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 	}
 }
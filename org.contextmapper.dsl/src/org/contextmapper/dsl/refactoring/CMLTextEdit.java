@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+/**
+ * Replaces the text between offset and offset + length of a CML file with a new
+ * text. Insertions have a length of 0, deletions an empty text.
+ */
+public class CMLTextEdit {
+
+	private final int offset;
+	private final int length;
+	private final String text;
+
+	public CMLTextEdit(int offset, int length, String text) {
+		this.offset = offset;
+		this.length = length;
+		this.text = text;
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + offset + ", " + length + "] '" + text + "'";
+	}
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil.UsageCrossReferencer;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Calculates minimal text edits for the changes recorded in a
+ * {@link ChangeDescription}: only changed top-level elements (Bounded Contexts,
+ * Context Map, Domains, etc.) are serialized again; added and removed top-level
+ * elements are inserted and deleted. The edits refer to the text the resources
+ * have been parsed from.
+ * 
+ * The Xtext serializer and its grammar access helpers (rule names, formatter)
+ * are not thread-safe, not even with separate serializer instances; all
+ * calculators serialize one element at a time.
+ */
+public class CMLTextEditCalculator {
+
+	private static final Object SERIALIZATION_LOCK = new Object();
+
+	private final ISerializer serializer;
+
+	public CMLTextEditCalculator(ISerializer serializer) {
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Calculates the edits for every resource changed by the given changes, and
+	 * for the resources (of the same resource sets) which reference renamed,
+	 * moved or removed elements. The recorded changes must not have been applied
+	 * (reverted) yet and the references must have been resolved before the
+	 * changes were made. Resources for which no minimal edits can be calculated
+	 * (no node model, resource-level changes, etc.) are mapped to null.
+	 */
+	public Map<Resource, List<CMLTextEdit>> calculateTextEdits(ChangeDescription changes) {
+		Map<Resource, Set<EObject>> changedObjectsByResource = getChangedObjectsByResource(changes);
+		Map<Resource, Set<EObject>> referringElementsByResource = getReferringElementsByResource(getChangedReferenceTargets(changes),
+				changedObjectsByResource.keySet());
+		for (Resource referringResource : referringElementsByResource.keySet()) {
+			if (!changedObjectsByResource.containsKey(referringResource))
+				changedObjectsByResource.put(referringResource, Collections.emptySet());
+		}
+
+		Map<Resource, List<CMLTextEdit>> editsByResource = Maps.newLinkedHashMap();
+		for (Entry<Resource, Set<EObject>> entry : changedObjectsByResource.entrySet()) {
+			Set<EObject> referringElements = referringElementsByResource.getOrDefault(entry.getKey(), Collections.emptySet());
+			editsByResource.put(entry.getKey(), calculateTextEdits(entry.getKey(), entry.getValue(), referringElements, changes));
+		}
+		return editsByResource;
+	}
+
+	/**
+	 * Serializes the model of the given resource completely (formatted).
+	 */
+	public String serializeCompletely(Resource resource) {
+		return serialize(resource.getContents().get(0), SaveOptions.newBuilder().format().getOptions());
+	}
+
+	/**
+	 * Returns the text the given resource has been parsed from, or null if it
+	 * has no node model.
+	 */
+	public static String getParsedText(Resource resource) {
+		if (!(resource instanceof XtextResource))
+			return null;
+		IParseResult parseResult = ((XtextResource) resource).getParseResult();
+		if (parseResult == null || parseResult.getRootNode() == null)
+			return null;
+		return parseResult.getRootNode().getText();
+	}
+
+	private Map<Resource, Set<EObject>> getChangedObjectsByResource(ChangeDescription changes) {
+		Map<Resource, Set<EObject>> changedObjectsByResource = Maps.newLinkedHashMap();
+		for (EObject changedObject : changes.getObjectChanges().keySet()) {
+			Resource resource = changedObject.eResource();
+			if (resource == null)
+				continue;
+			changedObjectsByResource.computeIfAbsent(resource, r -> Sets.newLinkedHashSet()).add(changedObject);
+		}
+		// resource-level changes (e.g. replaced root) cannot be handled minimally;
+		// null marks them for a complete save
+		for (Resource resource : Lists.transform(changes.getResourceChanges(), rc -> rc.getResource())) {
+			if (resource != null)
+				changedObjectsByResource.put(resource, null);
+		}
+		return changedObjectsByResource;
+	}
+
+	/**
+	 * Finds the top-level elements which reference one of the given targets, in
+	 * all resources of the resource sets the changed resources belong to.
+	 */
+	private Map<Resource, Set<EObject>> getReferringElementsByResource(Set<EObject> changedTargets, Set<Resource> changedResources) {
+		Map<Resource, Set<EObject>> referringElementsByResource = Maps.newLinkedHashMap();
+		if (changedTargets.isEmpty())
+			return referringElementsByResource;
+		Set<Notifier> scope = Sets.newLinkedHashSet();
+		for (Resource changedResource : changedResources)
+			scope.add(changedResource.getResourceSet() != null ? changedResource.getResourceSet() : changedResource);
+
+		for (Collection<Setting> usages : UsageCrossReferencer.findAll(changedTargets, scope).values()) {
+			for (Setting usage : usages) {
+				Resource resource = usage.getEObject().eResource();
+				if (resource == null || resource.getContents().isEmpty() || !(resource.getContents().get(0) instanceof ContextMappingModel))
+					continue;
+				EObject topLevelElement = getTopLevelElement(usage.getEObject(), (ContextMappingModel) resource.getContents().get(0));
+				if (topLevelElement != null)
+					referringElementsByResource.computeIfAbsent(resource, r -> Sets.newLinkedHashSet()).add(topLevelElement);
+			}
+		}
+		return referringElementsByResource;
+	}
+
+	/**
+	 * Calculates the edits for the given resource, which replace the changed
+	 * top-level elements only. Returns null if that is not possible.
+	 */
+	private List<CMLTextEdit> calculateTextEdits(Resource resource, Set<EObject> changedObjects, Set<EObject> referringElements, ChangeDescription changes) {
+		if (changedObjects == null || resource.getContents().isEmpty() || !(resource.getContents().get(0) instanceof ContextMappingModel))
+			return null;
+		String originalText = getParsedText(resource);
+		if (originalText == null)
+			return null;
+
+		ContextMappingModel model = (ContextMappingModel) resource.getContents().get(0);
+		String lineSeparator = originalText.contains("\r\n") ? "\r\n" : "\n";
+		List<CMLTextEdit> edits = Lists.newArrayList();
+		Set<EObject> addedElements = Sets.newIdentityHashSet();
+		Set<EObject> elementsToReplace = Sets.newLinkedHashSet();
+		for (EObject changedObject : changedObjects) {
+			if (changedObject == model) {
+				for (FeatureChange featureChange : changes.getObjectChanges().get(model)) {
+					if (!addTopLevelEdits(model, featureChange, originalText, lineSeparator, edits, addedElements))
+						return null;
+				}
+			} else {
+				EObject topLevelElement = getTopLevelElement(changedObject, model);
+				if (topLevelElement != null)
+					elementsToReplace.add(topLevelElement);
+			}
+		}
+
+		// elements that reference renamed, moved or removed objects have to be
+		// serialized again, since the references may be written differently
+		elementsToReplace.addAll(referringElements);
+
+		for (EObject element : elementsToReplace) {
+			if (addedElements.contains(element))
+				continue;
+			ICompositeNode node = NodeModelUtils.getNode(element);
+			if (node == null)
+				return null;
+			edits.add(new CMLTextEdit(node.getOffset(), node.getLength(), serialize(element)));
+		}
+		if (applyEdits(originalText, edits) == null)
+			return null; // overlapping edits
+		return edits;
+	}
+
+	/**
+	 * Adds the edits for top-level elements which have been added to or removed
+	 * from the model. Returns false if the change cannot be expressed by such
+	 * edits.
+	 */
+	private boolean addTopLevelEdits(ContextMappingModel model, FeatureChange featureChange, String text, String lineSeparator, List<CMLTextEdit> edits,
+			Set<EObject> addedElements) {
+		EStructuralFeature feature = featureChange.getFeature();
+		if (!(feature instanceof EReference) || !((EReference) feature).isContainment())
+			return false;
+		List<EObject> oldValues = toList(featureChange.getValue());
+		List<EObject> newValues = toList(model.eGet(feature));
+		Set<EObject> oldValueSet = Sets.newIdentityHashSet();
+		oldValueSet.addAll(oldValues);
+		Set<EObject> newValueSet = Sets.newIdentityHashSet();
+		newValueSet.addAll(newValues);
+
+		// we do not move existing elements around
+		List<EObject> retainedInOldOrder = Lists.newArrayList(oldValues);
+		retainedInOldOrder.retainAll(newValueSet);
+		List<EObject> retainedInNewOrder = Lists.newArrayList(newValues);
+		retainedInNewOrder.retainAll(oldValueSet);
+		if (!retainedInOldOrder.equals(retainedInNewOrder))
+			return false;
+
+		for (EObject oldValue : oldValues) {
+			if (newValueSet.contains(oldValue))
+				continue;
+			ICompositeNode node = NodeModelUtils.getNode(oldValue);
+			if (node == null)
+				return false;
+			edits.add(createDeletion(node, text));
+		}
+
+		for (int i = 0; i < newValues.size(); i++) {
+			EObject newValue = newValues.get(i);
+			if (oldValueSet.contains(newValue))
+				continue;
+			addedElements.add(newValue);
+			EObject previous = findRetainedNeighbour(newValues, i, -1, oldValueSet);
+			EObject next = findRetainedNeighbour(newValues, i, 1, oldValueSet);
+			String newText = serialize(newValue);
+			if (previous != null) {
+				edits.add(new CMLTextEdit(skipTrailingComment(text, NodeModelUtils.getNode(previous).getEndOffset()), 0, lineSeparator + lineSeparator + newText));
+			} else if (next != null) {
+				edits.add(new CMLTextEdit(NodeModelUtils.getNode(next).getOffset(), 0, newText + lineSeparator + lineSeparator));
+			} else {
+				int endOfContent = text.length();
+				while (endOfContent > 0 && Character.isWhitespace(text.charAt(endOfContent - 1)))
+					endOfContent--;
+				edits.add(new CMLTextEdit(endOfContent, 0, (endOfContent > 0 ? lineSeparator + lineSeparator : "") + newText));
+			}
+		}
+		return true;
+	}
+
+	private EObject findRetainedNeighbour(List<EObject> values, int index, int direction, Set<EObject> retainedValues) {
+		for (int i = index + direction; i >= 0 && i < values.size(); i += direction) {
+			if (retainedValues.contains(values.get(i)) && NodeModelUtils.getNode(values.get(i)) != null)
+				return values.get(i);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the end of a single-line comment following the given offset on the
+	 * same line (such as "BoundedContext A // comment"), so that new elements are
+	 * not inserted between an element and its comment. Returns the offset itself
+	 * if there is no such comment.
+	 */
+	private int skipTrailingComment(String text, int offset) {
+		int position = offset;
+		while (position < text.length() && (text.charAt(position) == ' ' || text.charAt(position) == '\t'))
+			position++;
+		if (!text.startsWith("//", position))
+			return offset;
+		while (position < text.length() && text.charAt(position) != '\r' && text.charAt(position) != '\n')
+			position++;
+		return position;
+	}
+
+	/**
+	 * Deletes the text of an element, together with the whitespace separating it
+	 * from the following element (or from the preceding one, if it is the last
+	 * element).
+	 */
+	private CMLTextEdit createDeletion(ICompositeNode node, String text) {
+		int start = node.getOffset();
+		int end = node.getEndOffset();
+		int afterWhitespace = end;
+		while (afterWhitespace < text.length() && Character.isWhitespace(text.charAt(afterWhitespace)))
+			afterWhitespace++;
+		if (afterWhitespace < text.length()) {
+			end = afterWhitespace;
+		} else {
+			while (start > 0 && Character.isWhitespace(text.charAt(start - 1)))
+				start--;
+		}
+		return new CMLTextEdit(start, end - start, "");
+	}
+
+	private Set<EObject> getChangedReferenceTargets(ChangeDescription changes) {
+		Set<EObject> targets = Sets.newIdentityHashSet();
+		for (Entry<EObject, EList<FeatureChange>> objectChange : changes.getObjectChanges()) {
+			for (FeatureChange featureChange : objectChange.getValue()) {
+				EStructuralFeature feature = featureChange.getFeature();
+				if (feature instanceof EAttribute) {
+					addWithContents(targets, objectChange.getKey());
+				} else if (((EReference) feature).isContainment()) {
+					// moved or removed elements
+					Set<EObject> newValues = Sets.newIdentityHashSet();
+					newValues.addAll(toList(objectChange.getKey().eGet(feature)));
+					for (EObject oldValue : toList(featureChange.getValue())) {
+						if (!newValues.contains(oldValue))
+							addWithContents(targets, oldValue);
+					}
+				}
+			}
+		}
+		return targets;
+	}
+
+	private void addWithContents(Set<EObject> objects, EObject object) {
+		objects.add(object);
+		TreeIterator<EObject> contents = object.eAllContents();
+		while (contents.hasNext())
+			objects.add(contents.next());
+	}
+
+	private EObject getTopLevelElement(EObject object, ContextMappingModel model) {
+		EObject current = object;
+		while (current != null && current.eContainer() != model)
+			current = current.eContainer();
+		return current;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<EObject> toList(Object value) {
+		if (value == null)
+			return Collections.emptyList();
+		if (value instanceof List)
+			return (List<EObject>) value;
+		return Collections.singletonList((EObject) value);
+	}
+
+	private String serialize(EObject element) {
+		return serialize(element, SaveOptions.newBuilder().format().getOptions()).trim();
+	}
+
+	private String serialize(EObject element, SaveOptions options) {
+		// previews of different models only run the model changes in parallel
+		synchronized (SERIALIZATION_LOCK) {
+			return serializer.serialize(element, options);
+		}
+	}
+
+	/**
+	 * Applies the given edits to the text. Returns null if edits overlap.
+	 */
+	public static String applyEdits(String originalText, List<CMLTextEdit> edits) {
+		// apply from the end of the document, so that the offsets stay valid;
+		// replacements before insertions at the same offset, insertions at the
+		// same offset in reverse order (the sort is stable)
+		List<CMLTextEdit> sortedEdits = Lists.newArrayList(Lists.reverse(edits));
+		sortedEdits.sort(Comparator.comparingInt((CMLTextEdit edit) -> edit.getOffset()).thenComparingInt(edit -> edit.getLength()).reversed());
+		StringBuilder newText = new StringBuilder(originalText);
+		int lastOffset = Integer.MAX_VALUE;
+		for (CMLTextEdit edit : sortedEdits) {
+			if (edit.getOffset() + edit.getLength() > lastOffset)
+				return null; // overlapping edits
+			newText.replace(edit.getOffset(), edit.getOffset() + edit.getLength(), edit.getText());
+			lastOffset = edit.getOffset();
+		}
+		return newText.toString();
+	}
+
+}
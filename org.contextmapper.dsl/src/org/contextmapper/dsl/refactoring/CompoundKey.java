@@ -15,7 +15,6 @@
  */
 package org.contextmapper.dsl.refactoring;
 
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -41,6 +40,7 @@ public class CompoundKey {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.keyElements.toArray());
+		// must not depend on the iteration order of the key elements
+		return this.keyElements.hashCode();
 	}
 }
\ No newline at end of file
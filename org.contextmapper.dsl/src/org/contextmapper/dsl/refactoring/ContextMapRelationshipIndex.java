@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Indexes the relationships of a Context Map by the names of the Bounded
+ * Contexts they involve. The index is attached to the Context Map (and its
+ * relationships) as an adapter and updated while the map is changed, so that
+ * finding the relationships of a context does not require scanning all
+ * relationships. The involved Bounded Contexts are observed as long as they
+ * take part in an indexed relationship. Call {@link #disposeIndex(ContextMap)}
+ * once the index is not needed anymore, so that no adapters stay attached to
+ * the model.
+ */
+class ContextMapRelationshipIndex extends AdapterImpl {
+
+	private final ContextMap contextMap;
+	private final SetMultimap<String, Relationship> relationshipsByContextName = LinkedHashMultimap.create();
+	private final Map<Relationship, List<String>> contextNamesByRelationship = Maps.newIdentityHashMap();
+	private final Map<Relationship, List<BoundedContext>> contextsByRelationship = Maps.newIdentityHashMap();
+	private final Map<BoundedContext, Integer> relationshipCountByContext = Maps.newIdentityHashMap();
+	private boolean valid = false;
+
+	private ContextMapRelationshipIndex(ContextMap contextMap) {
+		this.contextMap = contextMap;
+	}
+
+	/**
+	 * Returns the index of the given Context Map (creates it if the map has none
+	 * yet).
+	 */
+	static ContextMapRelationshipIndex getIndex(ContextMap contextMap) {
+		ContextMapRelationshipIndex index = (ContextMapRelationshipIndex) EcoreUtil.getExistingAdapter(contextMap, ContextMapRelationshipIndex.class);
+		if (index == null) {
+			index = new ContextMapRelationshipIndex(contextMap);
+			contextMap.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Removes the index of the given Context Map (if it has one) and all the
+	 * adapters it attached to the model.
+	 */
+	static void disposeIndex(ContextMap contextMap) {
+		ContextMapRelationshipIndex index = (ContextMapRelationshipIndex) EcoreUtil.getExistingAdapter(contextMap, ContextMapRelationshipIndex.class);
+		if (index != null)
+			index.dispose();
+	}
+
+	/**
+	 * Returns all relationships which involve a Bounded Context with the given
+	 * name.
+	 */
+	Collection<Relationship> getRelationships(String contextName) {
+		if (!valid)
+			rebuild();
+		return Collections.unmodifiableSet(relationshipsByContextName.get(contextName));
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ContextMapRelationshipIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch() || !valid)
+			return;
+		Object feature = notification.getFeature();
+		if (feature == ContextMappingDSLPackage.Literals.CONTEXT_MAP__RELATIONSHIPS) {
+			relationshipsChanged(notification);
+		} else if (notification.getNotifier() instanceof Relationship && isBoundedContextReference(feature)) {
+			Relationship relationship = (Relationship) notification.getNotifier();
+			remove(relationship);
+			add(relationship);
+		} else if (feature == ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT__NAME) {
+			// a context has been renamed; rebuild the index with the next query
+			valid = false;
+		}
+	}
+
+	private void relationshipsChanged(Notification notification) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			add((Relationship) notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			for (Object relationship : (Collection<?>) notification.getNewValue())
+				add((Relationship) relationship);
+			break;
+		case Notification.REMOVE:
+			remove((Relationship) notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object relationship : (Collection<?>) notification.getOldValue())
+				remove((Relationship) relationship);
+			break;
+		case Notification.SET:
+			if (notification.getOldValue() != null)
+				remove((Relationship) notification.getOldValue());
+			if (notification.getNewValue() != null)
+				add((Relationship) notification.getNewValue());
+			break;
+		case Notification.MOVE:
+			break;
+		default:
+			valid = false;
+		}
+	}
+
+	private boolean isBoundedContextReference(Object feature) {
+		return feature instanceof EReference && ((EReference) feature).getEReferenceType() == ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT;
+	}
+
+	private void rebuild() {
+		clear();
+		for (Relationship relationship : contextMap.getRelationships())
+			add(relationship);
+		valid = true;
+	}
+
+	private void dispose() {
+		clear();
+		valid = false;
+		contextMap.eAdapters().remove(this);
+	}
+
+	private void clear() {
+		for (Relationship relationship : Lists.newArrayList(contextNamesByRelationship.keySet()))
+			remove(relationship);
+		relationshipsByContextName.clear();
+	}
+
+	private void add(Relationship relationship) {
+		List<String> contextNames = Lists.newArrayList();
+		List<BoundedContext> contexts = Lists.newArrayList();
+		for (BoundedContext context : getInvolvedContexts(relationship)) {
+			if (context == null)
+				continue;
+			// get informed about renamed contexts
+			observe(context);
+			contexts.add(context);
+			if (context.getName() == null)
+				continue;
+			relationshipsByContextName.put(context.getName(), relationship);
+			contextNames.add(context.getName());
+		}
+		contextNamesByRelationship.put(relationship, contextNames);
+		contextsByRelationship.put(relationship, contexts);
+		if (!relationship.eAdapters().contains(this))
+			relationship.eAdapters().add(this);
+	}
+
+	private void remove(Relationship relationship) {
+		List<String> contextNames = contextNamesByRelationship.remove(relationship);
+		if (contextNames != null) {
+			for (String contextName : contextNames)
+				relationshipsByContextName.remove(contextName, relationship);
+		}
+		// the references may already point to other contexts; release the ones
+		// we observed when the relationship was added
+		List<BoundedContext> contexts = contextsByRelationship.remove(relationship);
+		if (contexts != null) {
+			for (BoundedContext context : contexts)
+				release(context);
+		}
+		relationship.eAdapters().remove(this);
+	}
+
+	private void observe(BoundedContext context) {
+		Integer count = relationshipCountByContext.get(context);
+		if (count == null && !context.eAdapters().contains(this))
+			context.eAdapters().add(this);
+		relationshipCountByContext.put(context, count == null ? 1 : count + 1);
+	}
+
+	private void release(BoundedContext context) {
+		Integer count = relationshipCountByContext.get(context);
+		if (count == null)
+			return;
+		if (count > 1) {
+			relationshipCountByContext.put(context, count - 1);
+		} else {
+			relationshipCountByContext.remove(context);
+			context.eAdapters().remove(this);
+		}
+	}
+
+	private List<BoundedContext> getInvolvedContexts(Relationship relationship) {
+		if (relationship instanceof SymmetricRelationship) {
+			SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
+			return Lists.newArrayList(symRelationship.getParticipant1(), symRelationship.getParticipant2());
+		} else if (relationship instanceof UpstreamDownstreamRelationship) {
+			UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
+			return Lists.newArrayList(upDownRelationship.getUpstream(), upDownRelationship.getDownstream());
+		}
+		return Collections.emptyList();
+	}
+
+}
@@ -17,7 +17,7 @@ package org.contextmapper.dsl.refactoring;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -28,13 +28,16 @@ import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public class ContextMappingModelHelper {
 
 	private ContextMap contextMap;
+	private ContextMapRelationshipIndex relationshipIndex;
 
 	public ContextMappingModelHelper(ContextMap contextMap) {
 		this.contextMap = contextMap;
+		this.relationshipIndex = ContextMapRelationshipIndex.getIndex(contextMap);
 	}
 
 	/**
@@ -42,7 +45,7 @@ public class ContextMappingModelHelper {
 	 */
 	public List<Relationship> findAnyRelationshipsBetweenTwoContexts(BoundedContext bc1, BoundedContext bc2) {
 		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
+		for (Relationship relationship : relationshipIndex.getRelationships(bc1.getName())) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if ((symRelationship.getParticipant1().getName().equals(bc1.getName()) && symRelationship.getParticipant2().getName().equals(bc2.getName()))
@@ -62,19 +65,7 @@ public class ContextMappingModelHelper {
 	 * Finds all relationships that involve a specific Bounded Context.
 	 */
 	public List<Relationship> findAnyRelationshipsInvolvingContext(BoundedContext bc) {
-		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
-			if (relationship instanceof SymmetricRelationship) {
-				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
-				if (symRelationship.getParticipant1().getName().endsWith(bc.getName()) || symRelationship.getParticipant2().getName().equals(bc.getName()))
-					relationships.add(symRelationship);
-			} else if (relationship instanceof UpstreamDownstreamRelationship) {
-				UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
-				if (upDownRelationship.getUpstream().getName().equals(bc.getName()) || upDownRelationship.getDownstream().getName().equals(bc.getName()))
-					relationships.add(upDownRelationship);
-			}
-		}
-		return relationships;
+		return Lists.newArrayList(relationshipIndex.getRelationships(bc.getName()));
 	}
 
 	/**
@@ -84,7 +75,8 @@ public class ContextMappingModelHelper {
 	 */
 	public boolean replaceBCInAllRelationships(BoundedContext originalBC, BoundedContext replacementBC) {
 		boolean replacedAtLeastInOneRelationship = false;
-		for (Relationship relationship : contextMap.getRelationships()) {
+		// copy, since the index is updated while we replace the contexts
+		for (Relationship relationship : Lists.newArrayList(relationshipIndex.getRelationships(originalBC.getName()))) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if (symRelationship.getParticipant1().getName().equals(originalBC.getName())) {
@@ -107,7 +99,7 @@ public class ContextMappingModelHelper {
 				}
 			}
 		}
-		if (replacedAtLeastInOneRelationship && !contextMap.getBoundedContexts().stream().map(bc -> bc.getName()).collect(Collectors.toSet()).contains(replacementBC.getName()))
+		if (replacedAtLeastInOneRelationship && contextMap.getBoundedContexts().stream().noneMatch(bc -> replacementBC.getName().equals(bc.getName())))
 			contextMap.getBoundedContexts().add(replacementBC);
 		return replacedAtLeastInOneRelationship;
 	}
@@ -117,37 +109,58 @@ public class ContextMappingModelHelper {
 	 * some aggregates have been moved to a new bounded context.
 	 */
 	public void moveExposedAggregatesToNewRelationshipsIfNeeded(List<String> movedAggregates, BoundedContext newBoundedContext) {
+		Map<String, BoundedContext> newBoundedContextsByAggregateName = Maps.newHashMap();
+		for (String aggregateName : movedAggregates)
+			newBoundedContextsByAggregateName.put(aggregateName, newBoundedContext);
+		moveExposedAggregatesToNewRelationshipsIfNeeded(newBoundedContextsByAggregateName);
+	}
+
+	/**
+	 * Post-AR-Method: Fixes 'exposedAggregates' in context map relationships after
+	 * aggregates have been moved to (possibly different) new bounded contexts. The
+	 * relationships are processed in one sweep; the new relationships are added in
+	 * the order of the new bounded contexts in the given map.
+	 */
+	public void moveExposedAggregatesToNewRelationshipsIfNeeded(Map<String, BoundedContext> newBoundedContextsByAggregateName) {
+		Map<BoundedContext, List<Relationship>> newRelationships = Maps.newLinkedHashMap();
+		for (BoundedContext newBoundedContext : newBoundedContextsByAggregateName.values())
+			newRelationships.putIfAbsent(newBoundedContext, Lists.newArrayList());
+
 		for (Relationship relationship : new LinkedList<>(contextMap.getRelationships())) {
 			if (!(relationship instanceof UpstreamDownstreamRelationship))
 				continue;
-			moveExposedAggregates4RelationshipIfNeeded((UpstreamDownstreamRelationship) relationship, movedAggregates, newBoundedContext);
+			UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
+			Map<BoundedContext, List<Aggregate>> aggregatesToMove = Maps.newLinkedHashMap();
+			for (Aggregate aggregate : upDownRelationship.getUpstreamExposedAggregates()) {
+				BoundedContext newBoundedContext = newBoundedContextsByAggregateName.get(aggregate.getName());
+				if (newBoundedContext != null)
+					aggregatesToMove.computeIfAbsent(newBoundedContext, bc -> Lists.newArrayList()).add(aggregate);
+			}
+			for (Map.Entry<BoundedContext, List<Aggregate>> entry : aggregatesToMove.entrySet()) {
+				upDownRelationship.getUpstreamExposedAggregates().removeAll(entry.getValue());
+				newRelationships.get(entry.getKey()).add(createRelationshipForMovedAggregates(upDownRelationship, entry.getKey(), entry.getValue()));
+			}
 		}
-	}
-
-	private void moveExposedAggregates4RelationshipIfNeeded(UpstreamDownstreamRelationship relationship, List<String> movedAggregates, BoundedContext newBoundedContext) {
-		List<String> exposedAggregates = relationship.getUpstreamExposedAggregates().stream().map(a -> a.getName()).collect(Collectors.toList());
-		List<String> aggregatesToMove = exposedAggregates.stream().distinct().filter(movedAggregates::contains).collect(Collectors.toList());
 
-		if (aggregatesToMove.isEmpty())
-			return;
+		for (Map.Entry<BoundedContext, List<Relationship>> entry : newRelationships.entrySet()) {
+			if (entry.getValue().isEmpty())
+				continue;
+			if (!contextMap.getBoundedContexts().contains(entry.getKey()))
+				contextMap.getBoundedContexts().add(entry.getKey());
+			contextMap.getRelationships().addAll(entry.getValue());
+		}
+	}
 
+	private UpstreamDownstreamRelationship createRelationshipForMovedAggregates(UpstreamDownstreamRelationship relationship, BoundedContext newBoundedContext,
+			List<Aggregate> movedAggregates) {
 		UpstreamDownstreamRelationship newRelationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
 		newRelationship.setUpstream(newBoundedContext);
 		newRelationship.setDownstream(relationship.getDownstream());
 		newRelationship.setImplementationTechnology(relationship.getImplementationTechnology());
 		newRelationship.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
 		newRelationship.getDownstreamRoles().addAll(relationship.getDownstreamRoles());
-
-		for (Aggregate aggregate : new LinkedList<>(relationship.getUpstreamExposedAggregates())) {
-			if (!aggregatesToMove.contains(aggregate.getName()))
-				continue;
-
-			relationship.getUpstreamExposedAggregates().remove(aggregate);
-			newRelationship.getUpstreamExposedAggregates().add(aggregate);
-		}
-		if (!contextMap.getBoundedContexts().contains(newBoundedContext))
-			contextMap.getBoundedContexts().add(newBoundedContext);
-		contextMap.getRelationships().add(newRelationship);
+		newRelationship.getUpstreamExposedAggregates().addAll(movedAggregates);
+		return newRelationship;
 	}
 
 }
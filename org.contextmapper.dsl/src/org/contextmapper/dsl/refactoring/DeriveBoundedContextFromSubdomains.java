@@ -15,7 +15,7 @@
  */
 package org.contextmapper.dsl.refactoring;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,6 +46,7 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring implements SemanticCMLRefactoring {
@@ -55,6 +56,15 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	private Set<String> subdomainIds = Sets.newHashSet();
 	private String boundedContextName;
 
+	// name indexes; built once per run so that the derivation stays linear in the
+	// size of the subdomains
+	private Set<String> otherAggregateNames;
+	private Set<String> currentBCAggregateNames;
+	private Map<String, Aggregate> aggregatesByName;
+	private Map<Aggregate, AggregateIndex> aggregateIndexes;
+	private Set<String> entityNamesInOtherContexts;
+	private Set<Feature> currentFeatures;
+
 	public DeriveBoundedContextFromSubdomains(String boundedContextName, Set<String> subdomainIds) {
 		this.boundedContextName = boundedContextName;
 		this.subdomainIds = subdomainIds;
@@ -69,6 +79,7 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 					"Please provide at least one subdomain name that can be found in the given CML model.");
 
 		BoundedContext bc = createOrGetBoundedContext(boundedContextName);
+		initIndexes(bc);
 		bc.setDomainVisionStatement("This Bounded Context realizes the following subdomains: "
 				+ String.join(", ", selectedSubdomains.stream().map(sd -> sd.getName()).collect(Collectors.toList())));
 		bc.setType(BoundedContextType.FEATURE);
@@ -78,7 +89,29 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 		}
 	}
 
+	private void initIndexes(BoundedContext bc) {
+		this.currentBCAggregateNames = bc.getAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toSet());
+		this.otherAggregateNames = Sets.newHashSet();
+		this.entityNamesInOtherContexts = Sets.newHashSet();
+		for (BoundedContext otherBC : getAllBoundedContexts()) {
+			otherAggregateNames.addAll(otherBC.getAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toSet()));
+			if (!otherBC.getName().equals(boundedContextName))
+				IteratorExtensions.filter(EcoreUtil2.eAll(otherBC), Entity.class).forEachRemaining(e -> entityNamesInOtherContexts.add(e.getName()));
+		}
+		otherAggregateNames.removeAll(currentBCAggregateNames);
+
+		this.aggregatesByName = Maps.newHashMap();
+		for (Aggregate aggregate : bc.getAggregates())
+			aggregatesByName.putIfAbsent(aggregate.getName(), aggregate);
+		for (SculptorModule module : bc.getModules()) {
+			for (Aggregate aggregate : module.getAggregates())
+				aggregatesByName.putIfAbsent(aggregate.getName(), aggregate);
+		}
+		this.aggregateIndexes = Maps.newHashMap();
+	}
+
 	private void createAggregate4Subdomain(Subdomain subdomain, BoundedContext bc) {
+		this.currentFeatures = objectResolver.resolveFeatures(bc);
 		Aggregate aggregate = createOrGetAggregate(bc, getAggregateName(subdomain.getName() + "Aggregate", bc));
 		aggregate.setComment("/* This Aggregate contains the entities and services of the '" + subdomain.getName()
 				+ "' subdomain." + System.lineSeparator()
@@ -92,33 +125,21 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	}
 
 	private String getAggregateName(String initialName, BoundedContext bc) {
-		Set<String> currentBCAggregates = bc.getAggregates().stream().map(agg -> agg.getName())
-				.collect(Collectors.toSet());
-		if (currentBCAggregates.contains(initialName))
+		if (currentBCAggregateNames.contains(initialName))
 			return initialName;
 
 		String contextName = initialName;
-		Set<String> allAggregateNames = collectAllAggregateNames();
-		allAggregateNames.removeAll(currentBCAggregates);
 		int counter = 2;
-		while (allAggregateNames.contains(contextName)) {
+		while (otherAggregateNames.contains(contextName)) {
 			contextName = initialName + "_" + counter;
 			counter++;
 		}
 		return contextName;
 	}
 
-	private Set<String> collectAllAggregateNames() {
-		Set<String> aggregateNames = Sets.newHashSet();
-		for (BoundedContext bc : getAllBoundedContexts()) {
-			aggregateNames.addAll(bc.getAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toSet()));
-		}
-		return aggregateNames;
-	}
-
 	private void createEntities(Subdomain subdomain, Aggregate aggregate) {
 		for (Entity sdEntity : subdomain.getEntities()) {
-			if (entityAlreadyExistsInOtherContext(sdEntity.getName()))
+			if (entityNamesInOtherContexts.contains(sdEntity.getName()))
 				throw new ContextMapperApplicationException(
 						"Cannot derive Bounded Context. Another context with an Entity of the name \""
 								+ sdEntity.getName() + "\" already exists.");
@@ -126,11 +147,10 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 			Entity bcEntity = createOrGetEntity(aggregate, sdEntity.getName());
 			bcEntity.setAggregateRoot(false);
 
-			copyAttributes(sdEntity, bcEntity);
+			Set<String> attributeNames = copyAttributes(sdEntity, bcEntity);
 
 			String idAttributeName = sdEntity.getName().toLowerCase() + "Id";
-			if (!bcEntity.getAttributes().stream().filter(a -> idAttributeName.equals(a.getName())).findFirst()
-					.isPresent()) {
+			if (!attributeNames.contains(idAttributeName)) {
 				Attribute idAttribute = TacticdslFactory.eINSTANCE.createAttribute();
 				idAttribute.setName(idAttributeName);
 				idAttribute.setType("String");
@@ -140,34 +160,26 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 		}
 		for (Entity sdEntity : subdomain.getEntities()) {
 			Entity bcEntity = createOrGetEntity(aggregate, sdEntity.getName());
-			copyReferences(sdEntity, bcEntity, aggregate.getDomainObjects());
+			copyReferences(sdEntity, bcEntity, getIndex(aggregate).domainObjects);
 		}
 	}
 
-	private boolean entityAlreadyExistsInOtherContext(String entityName) {
-		Set<String> existingEntities = Sets.newHashSet();
-		Set<BoundedContext> boundedContexts = getAllBoundedContexts().stream()
-				.filter(bc -> !bc.getName().equals(boundedContextName)).collect(Collectors.toSet());
-		for (BoundedContext bc : boundedContexts) {
-			existingEntities.addAll(Sets.newHashSet(IteratorExtensions.filter(EcoreUtil2.eAll(bc), Entity.class))
-					.stream().map(e -> e.getName()).collect(Collectors.toSet()));
-		}
-		if (existingEntities.contains(entityName))
-			return true;
-		return false;
-	}
-
-	private void copyAttributes(Entity source, Entity target) {
+	/**
+	 * Copies the attributes which do not exist yet and returns the names of all
+	 * attributes of the target.
+	 */
+	private Set<String> copyAttributes(Entity source, Entity target) {
 		Set<String> existingAttrs = target.getAttributes().stream().map(attr -> attr.getName())
 				.collect(Collectors.toSet());
 		for (Attribute sourceAttr : source.getAttributes()) {
-			if (existingAttrs.contains(sourceAttr.getName()))
+			if (!existingAttrs.add(sourceAttr.getName()))
 				continue;
 			addElementToEList(target.getAttributes(), EcoreUtil.copy(sourceAttr));
 		}
+		return existingAttrs;
 	}
 
-	private void copyReferences(Entity source, Entity target, List<SimpleDomainObject> referenceableObjects) {
+	private void copyReferences(Entity source, Entity target, Map<String, SimpleDomainObject> referenceableObjects) {
 		Set<String> existingRefs = target.getReferences().stream().map(ref -> ref.getName())
 				.collect(Collectors.toSet());
 		for (Reference sourceRef : source.getReferences()) {
@@ -176,8 +188,11 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 			Reference newReference = TacticdslFactory.eINSTANCE.createReference();
 			newReference.setName(sourceRef.getName());
 			newReference.setCollectionType(sourceRef.getCollectionType());
-			newReference.setDomainObjectType(referenceableObjects.stream()
-					.filter(o -> o.getName().equals(sourceRef.getDomainObjectType().getName())).findFirst().get());
+			SimpleDomainObject referencedObject = referenceableObjects.get(sourceRef.getDomainObjectType().getName());
+			if (referencedObject == null)
+				throw new ContextMapperApplicationException("Cannot derive Bounded Context. The reference \"" + sourceRef.getName() + "\" of the Entity \""
+						+ source.getName() + "\" points to \"" + sourceRef.getDomainObjectType().getName() + "\", which is not part of the Subdomain.");
+			newReference.setDomainObjectType(referencedObject);
 			addElementToEList(target.getReferences(), newReference);
 		}
 	}
@@ -232,50 +247,50 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	}
 
 	private Aggregate createOrGetAggregate(BoundedContext bc, String aggregateName) {
-		// try to find existing Aggregate
-		Optional<Aggregate> optAggregate = bc.getAggregates().stream()
-				.filter(agg -> aggregateName.equals(agg.getName())).findFirst();
-		if (optAggregate.isPresent())
-			return optAggregate.get();
-
-		// try to find existing Aggregate in modules
-		for (SculptorModule module : bc.getModules()) {
-			optAggregate = module.getAggregates().stream().filter(agg -> aggregateName.equals(agg.getName()))
-					.findFirst();
-			if (optAggregate.isPresent())
-				return optAggregate.get();
-		}
+		// try to find existing Aggregate (also in modules)
+		Aggregate aggregate = aggregatesByName.get(aggregateName);
+		if (aggregate != null)
+			return aggregate;
 
 		Aggregate newAggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
 		newAggregate.setName(aggregateName);
 		addElementToEList(bc.getAggregates(), newAggregate);
+		aggregatesByName.put(aggregateName, newAggregate);
+		currentBCAggregateNames.add(aggregateName);
 		return newAggregate;
 	}
 
 	private Entity createOrGetEntity(Aggregate aggregate, String entityName) {
-		Optional<Entity> optEntity = aggregate.getDomainObjects().stream()
-				.filter(o -> o instanceof Entity && entityName.equals(o.getName())).map(o -> (Entity) o).findFirst();
-		if (optEntity.isPresent())
-			return optEntity.get();
+		AggregateIndex index = getIndex(aggregate);
+		Entity entity = index.entities.get(entityName);
+		if (entity != null)
+			return entity;
 
 		Entity newEntity = TacticdslFactory.eINSTANCE.createEntity();
 		newEntity.setName(entityName);
 		addElementToEList(aggregate.getDomainObjects(), newEntity);
+		index.entities.put(entityName, newEntity);
+		index.domainObjects.putIfAbsent(entityName, newEntity);
 		return newEntity;
 	}
 
 	private Service createOrGetService(Aggregate aggregate, String serviceName) {
-		Optional<Service> optService = aggregate.getServices().stream().filter(s -> serviceName.equals(s.getName()))
-				.findFirst();
-		if (optService.isPresent())
-			return optService.get();
+		AggregateIndex index = getIndex(aggregate);
+		Service service = index.services.get(serviceName);
+		if (service != null)
+			return service;
 
 		Service newService = TacticdslFactory.eINSTANCE.createService();
 		newService.setName(serviceName);
 		addElementToEList(aggregate.getServices(), newService);
+		index.services.put(serviceName, newService);
 		return newService;
 	}
 
+	private AggregateIndex getIndex(Aggregate aggregate) {
+		return aggregateIndexes.computeIfAbsent(aggregate, AggregateIndex::new);
+	}
+
 	private ComplexType getReturnType4Operation(Aggregate aggregate, String operationName) {
 		Entity correspondingEntity = resolveEntity4OperationByFeatures(aggregate, operationName);
 		if (correspondingEntity != null && operationName.startsWith("create")) {
@@ -345,31 +360,48 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	}
 
 	private Set<Subdomain> collectSubdomains() {
-		Set<Subdomain> allSubdomains = Sets.newHashSet();
+		Map<String, Subdomain> allSubdomains = Maps.newHashMap();
 		for (Domain domain : getAllDomains()) {
-			allSubdomains.addAll(domain.getSubdomains());
+			for (Subdomain subdomain : domain.getSubdomains())
+				allSubdomains.putIfAbsent(subdomain.getName(), subdomain);
 		}
 		Set<Subdomain> subdomains = Sets.newHashSet();
 		for (String subdomainId : subdomainIds) {
-			Optional<Subdomain> optSubdomain = allSubdomains.stream().filter(sd -> subdomainId.equals(sd.getName()))
-					.findFirst();
-			if (optSubdomain.isPresent())
-				subdomains.add(optSubdomain.get());
+			if (allSubdomains.containsKey(subdomainId))
+				subdomains.add(allSubdomains.get(subdomainId));
 		}
 		return subdomains;
 	}
 
 	private Entity resolveEntity4OperationByFeatures(Aggregate aggregate2Search, String operationName) {
-		BoundedContext bc = objectResolver.resolveBoundedContext(aggregate2Search);
-		Set<Feature> features = objectResolver.resolveFeatures(bc);
-		for (Feature feature : features) {
+		for (Feature feature : currentFeatures) {
 			if (operationName.equals(feature.getVerb() + feature.getEntity())
 					|| operationName.endsWith(feature.getEntity())) {
-				return aggregate2Search.getDomainObjects().stream().filter(o -> o instanceof Entity)
-						.map(o -> (Entity) o).filter(o -> o.getName().equals(feature.getEntity())).findFirst().get();
+				// null if the Aggregate has no such Entity; the operation gets generic types then
+				return getIndex(aggregate2Search).entities.get(feature.getEntity());
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Domain objects and services of an Aggregate by name.
+	 */
+	private static class AggregateIndex {
+
+		private Map<String, Entity> entities = Maps.newHashMap();
+		private Map<String, SimpleDomainObject> domainObjects = Maps.newHashMap();
+		private Map<String, Service> services = Maps.newHashMap();
+
+		AggregateIndex(Aggregate aggregate) {
+			for (SimpleDomainObject domainObject : aggregate.getDomainObjects()) {
+				domainObjects.putIfAbsent(domainObject.getName(), domainObject);
+				if (domainObject instanceof Entity)
+					entities.putIfAbsent(domainObject.getName(), (Entity) domainObject);
+			}
+			for (Service service : aggregate.getServices())
+				services.putIfAbsent(service.getName(), service);
+		}
+	}
+
 }
@@ -84,7 +84,7 @@ public class DeriveFrontendAndBackendSystemsFromFeature extends AbstractRefactor
 		relationship.getUpstreamRoles().add(UpstreamRole.PUBLISHED_LANGUAGE);
 		relationship.getDownstreamRoles().add(getDownstreamRole());
 		relationship.setImplementationTechnology(relationshipImplTechnology);
-		addElementsToEList(relationship.getUpstreamExposedAggregates(), helper.collectAggregates(backend));
+		addElementsToEList(relationship.getUpstreamExposedAggregates(), RefactoringHelper.collectAggregates(backend));
 		addElementToEList(map.getBoundedContexts(), frontend);
 		addElementToEList(map.getBoundedContexts(), backend);
 		addElementToEList(map.getRelationships(), relationship);
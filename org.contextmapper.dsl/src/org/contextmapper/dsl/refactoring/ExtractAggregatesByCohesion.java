@@ -16,7 +16,8 @@
 package org.contextmapper.dsl.refactoring;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
@@ -24,6 +25,10 @@ import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
 public class ExtractAggregatesByCohesion extends AbstractRefactoring implements SemanticCMLRefactoring {
 
 	private String boundedContextName;
@@ -46,16 +51,18 @@ public class ExtractAggregatesByCohesion extends AbstractRefactoring implements
 			return;
 
 		BoundedContext newBC = createNewBoundedContext();
+		Map<String, Aggregate> aggregatesByName = Maps.newHashMap();
+		for (Aggregate aggregate : RefactoringHelper.collectAggregates(originalBC)) {
+			aggregatesByName.putIfAbsent(aggregate.getName(), aggregate);
+		}
+		Set<Aggregate> aggregatesToMove = Sets.newLinkedHashSet();
 		for (String aggregateName : aggregatesToExtract) {
-			Optional<Aggregate> aggregate = originalBC.getAggregates().stream().filter(agg -> agg.getName().equals(aggregateName)).findFirst();
-
 			// we ignore aggregates given which do not exist
-			if (!aggregate.isPresent())
-				continue;
-
-			removeElementFromEList(originalBC.getAggregates(), aggregate.get());
-			addElementToEList(newBC.getAggregates(), aggregate.get());
+			if (aggregatesByName.containsKey(aggregateName))
+				aggregatesToMove.add(aggregatesByName.get(aggregateName));
 		}
+		// moves the aggregates (removes them from the original BC)
+		addElementsToEList(newBC.getAggregates(), Lists.newArrayList(aggregatesToMove));
 
 		getResource(originalBC).getContextMappingModel().getBoundedContexts().add(newBC);
 		for (ContextMap contextMap : getAllContextMaps()) {
@@ -30,6 +30,7 @@ import org.contextmapper.dsl.contextMappingDSL.Import;
 import org.contextmapper.dsl.contextMappingDSL.Relationship;
 import org.eclipse.emf.common.util.URI;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 public class MergeBoundedContextsRefactoring extends AbstractRefactoring implements SemanticCMLRefactoring {
@@ -71,8 +72,8 @@ public class MergeBoundedContextsRefactoring extends AbstractRefactoring impleme
 		}
 
 		// move content from BC2 to BC1
-		addElementsToEList(bc1.getAggregates(), bc2.getAggregates());
-		addElementsToEList(bc1.getModules(), bc2.getModules());
+		addElementsToEList(bc1.getAggregates(), Lists.newArrayList(bc2.getAggregates()));
+		addElementsToEList(bc1.getModules(), Lists.newArrayList(bc2.getModules()));
 		bc1.getImplementedDomainParts().addAll(bc2.getImplementedDomainParts());
 		if (bc1.getType().equals(BoundedContextType.TEAM))
 			bc1.getRealizedBoundedContexts().addAll(bc2.getRealizedBoundedContexts());
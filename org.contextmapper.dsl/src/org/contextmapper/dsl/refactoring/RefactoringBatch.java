@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Applies a sequence of refactorings as one: the imports and root elements of
+ * the model are resolved once for all refactorings (and kept up to date while
+ * the refactorings add or remove root elements), the changes are recorded in
+ * one transaction (if one refactoring fails, all changes are reverted) and
+ * checked and persisted once at the end.
+ */
+public class RefactoringBatch extends AbstractRefactoring {
+
+	private List<AbstractRefactoring> refactorings;
+
+	public RefactoringBatch(List<AbstractRefactoring> refactorings) {
+		this.refactorings = Lists.newArrayList(refactorings);
+	}
+
+	public RefactoringBatch(AbstractRefactoring... refactorings) {
+		this(Arrays.asList(refactorings));
+	}
+
+	public List<AbstractRefactoring> getRefactorings() {
+		return Collections.unmodifiableList(refactorings);
+	}
+
+	@Override
+	protected void doRefactor() {
+		trackRootElements(() -> {
+			for (AbstractRefactoring refactoring : refactorings)
+				refactoring.refactorWithin(this);
+		});
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import org.contextmapper.dsl.cml.CMLModelMetrics;
+import org.contextmapper.dsl.cml.CMLResource;
+
+/**
+ * The result of applying a refactoring candidate to a fork of a CML model (see
+ * {@link RefactoringCandidateEvaluator}).
+ */
+public class RefactoringCandidateEvaluation {
+
+	private final SemanticCMLRefactoring candidate;
+	private final CMLResource fork;
+	private final CMLModelMetrics metrics;
+	private final String errorMessage;
+
+	RefactoringCandidateEvaluation(SemanticCMLRefactoring candidate, CMLResource fork, CMLModelMetrics metrics, String errorMessage) {
+		this.candidate = candidate;
+		this.fork = fork;
+		this.metrics = metrics;
+		this.errorMessage = errorMessage;
+	}
+
+	public SemanticCMLRefactoring getCandidate() {
+		return candidate;
+	}
+
+	/**
+	 * The refactored fork of the model.
+	 */
+	public CMLResource getFork() {
+		return fork;
+	}
+
+	/**
+	 * The metrics of the refactored fork; null if the refactoring failed.
+	 */
+	public CMLModelMetrics getMetrics() {
+		return metrics;
+	}
+
+	public boolean isSuccessful() {
+		return errorMessage == null;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+}
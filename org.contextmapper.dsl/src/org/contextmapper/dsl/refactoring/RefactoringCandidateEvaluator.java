@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.contextmapper.dsl.cml.CMLModelForker;
+import org.contextmapper.dsl.cml.CMLModelMetrics;
+import org.contextmapper.dsl.cml.CMLResource;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Evaluates alternative refactorings ("what if we split by owner, by feature or
+ * by cohesion?"): every candidate is applied to its own in-memory fork of the
+ * model and the metrics of the results are collected. The candidates are
+ * applied concurrently; the original model is not changed.
+ */
+public class RefactoringCandidateEvaluator {
+
+	/**
+	 * Applies every candidate to a fork of the given model.
+	 * 
+	 * @param resource   the model
+	 * @param candidates the refactorings to evaluate (every candidate instance is
+	 *                   applied once)
+	 * @return the evaluations, in the order of the candidates
+	 */
+	public List<RefactoringCandidateEvaluation> evaluate(CMLResource resource, List<? extends SemanticCMLRefactoring> candidates) {
+		// forking reads the original model; we do that sequentially
+		CMLModelForker forker = new CMLModelForker(resource);
+		List<CMLResource> forks = Lists.newArrayList();
+		for (int i = 0; i < candidates.size(); i++)
+			forks.add(forker.fork());
+
+		return IntStream.range(0, candidates.size()).parallel().mapToObj(i -> evaluate(candidates.get(i), forks.get(i))).collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the metrics of the given model, to compare the candidates with.
+	 */
+	public CMLModelMetrics getMetrics(CMLResource resource) {
+		return new CMLModelMetrics(resource.getContextMappingModel());
+	}
+
+	private RefactoringCandidateEvaluation evaluate(SemanticCMLRefactoring candidate, CMLResource fork) {
+		try {
+			candidate.refactor(fork);
+			return new RefactoringCandidateEvaluation(candidate, fork, new CMLModelMetrics(fork.getContextMappingModel()), null);
+		} catch (RuntimeException e) {
+			return new RefactoringCandidateEvaluation(candidate, fork, null, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+		}
+	}
+
+}
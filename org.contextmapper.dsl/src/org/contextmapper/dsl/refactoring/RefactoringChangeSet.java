@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * The changes a refactoring would apply to a CML model, as calculated by
+ * {@link SemanticCMLRefactoring#preview(org.contextmapper.dsl.cml.CMLResource, com.google.inject.Provider)}.
+ * 
+ * Since the model is left unchanged by the preview, added elements are not
+ * contained in the model and removed and moved elements are still at their
+ * original location.
+ */
+public class RefactoringChangeSet {
+
+	private final List<EObject> addedElements;
+	private final List<EObject> removedElements;
+	private final List<MovedElement> movedElements;
+	private final List<EObject> changedElements;
+	private final Map<URI, List<CMLTextEdit>> textEdits;
+	private final Map<URI, String> newTexts;
+
+	RefactoringChangeSet(List<EObject> addedElements, List<EObject> removedElements, List<MovedElement> movedElements, List<EObject> changedElements,
+			Map<URI, List<CMLTextEdit>> textEdits, Map<URI, String> newTexts) {
+		this.addedElements = Collections.unmodifiableList(addedElements);
+		this.removedElements = Collections.unmodifiableList(removedElements);
+		this.movedElements = Collections.unmodifiableList(movedElements);
+		this.changedElements = Collections.unmodifiableList(changedElements);
+		this.textEdits = Collections.unmodifiableMap(textEdits);
+		this.newTexts = Collections.unmodifiableMap(newTexts);
+	}
+
+	/**
+	 * The elements the refactoring would create (only the root of every added
+	 * subtree).
+	 */
+	public List<EObject> getAddedElements() {
+		return addedElements;
+	}
+
+	/**
+	 * The elements the refactoring would delete (only the root of every removed
+	 * subtree).
+	 */
+	public List<EObject> getRemovedElements() {
+		return removedElements;
+	}
+
+	/**
+	 * The elements the refactoring would move to another container.
+	 */
+	public List<MovedElement> getMovedElements() {
+		return movedElements;
+	}
+
+	/**
+	 * Existing elements of which the refactoring would change attributes or
+	 * references (without moving or removing them).
+	 */
+	public List<EObject> getChangedElements() {
+		return changedElements;
+	}
+
+	/**
+	 * The text edits per changed CML file. The offsets refer to the text the
+	 * resource has been parsed from.
+	 */
+	public Map<URI, List<CMLTextEdit>> getTextEdits() {
+		return textEdits;
+	}
+
+	/**
+	 * The new content of every changed CML file.
+	 */
+	public Map<URI, String> getNewTexts() {
+		return newTexts;
+	}
+
+	public boolean isEmpty() {
+		return textEdits.isEmpty();
+	}
+
+	public static class MovedElement {
+
+		private final EObject element;
+		private final EObject oldContainer;
+		private final EObject newContainer;
+
+		MovedElement(EObject element, EObject oldContainer, EObject newContainer) {
+			this.element = element;
+			this.oldContainer = oldContainer;
+			this.newContainer = newContainer;
+		}
+
+		public EObject getElement() {
+			return element;
+		}
+
+		public EObject getOldContainer() {
+			return oldContainer;
+		}
+
+		/**
+		 * The container the element would be moved to. Can be an added element.
+		 */
+		public EObject getNewContainer() {
+			return newContainer;
+		}
+	}
+
+}
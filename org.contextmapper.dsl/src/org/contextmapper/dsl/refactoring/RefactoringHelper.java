@@ -85,9 +85,10 @@ public class RefactoringHelper {
 	}
 
 	/**
-	 * Collects all Aggregates in the current CML model.
+	 * Collects all Aggregates of the given Bounded Context, including the
+	 * Aggregates within its Modules.
 	 */
-	public List<Aggregate> collectAggregates(BoundedContext bc) {
+	public static List<Aggregate> collectAggregates(BoundedContext bc) {
 		List<Aggregate> aggregates = Lists.newLinkedList();
 		aggregates.addAll(bc.getAggregates());
 		for (SculptorModule module : bc.getModules()) {
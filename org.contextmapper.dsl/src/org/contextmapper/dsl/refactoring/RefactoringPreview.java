@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.serializer.ISerializer;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.inject.Provider;
+
+/**
+ * Applies a modification (such as a refactoring) to a CML model, calculates the
+ * resulting {@link RefactoringChangeSet} from the recorded EMF change
+ * description and reverts the modification again. No files are written and
+ * only the changed top-level elements are serialized.
+ * 
+ * Previews of different models (resources in different resource sets) can be
+ * calculated in parallel; the serialization of the changed elements is done
+ * one preview at a time (see {@link CMLTextEditCalculator}).
+ */
+public class RefactoringPreview {
+
+	private final Provider<ISerializer> serializerProvider;
+
+	public RefactoringPreview(Provider<ISerializer> serializerProvider) {
+		this.serializerProvider = serializerProvider;
+	}
+
+	/**
+	 * Applies the given modification to the model, calculates the changes and
+	 * reverts the model to its original state.
+	 * 
+	 * @param resource     the resource containing the model that is modified
+	 * @param modification the modification
+	 * @return the changes the modification applies
+	 */
+	public RefactoringChangeSet preview(CMLResource resource, Runnable modification) {
+		Notifier target = resource.getResourceSet() != null ? resource.getResourceSet() : resource;
+		// references have to be resolved before the change, so that the files
+		// referencing renamed or removed elements can be updated
+		if (resource.getResourceSet() != null)
+			EcoreUtil.resolveAll(resource.getResourceSet());
+		else
+			EcoreUtil.resolveAll(resource);
+		Set<Resource> resourcesModifiedBefore = Sets.newHashSet();
+		for (Resource res : getResources(target)) {
+			if (res.isModified())
+				resourcesModifiedBefore.add(res);
+		}
+
+		ChangeRecorder recorder = new ChangeRecorder();
+		recorder.setResolveProxies(false);
+		recorder.beginRecording(Collections.singleton(target));
+		ChangeDescription changes = null;
+		try {
+			modification.run();
+			changes = recorder.endRecording();
+			return createChangeSet(changes);
+		} finally {
+			if (changes == null)
+				changes = recorder.endRecording();
+			recorder.dispose();
+			changes.apply();
+			for (Resource res : getResources(target)) {
+				if (!resourcesModifiedBefore.contains(res))
+					res.setModified(false);
+			}
+		}
+	}
+
+	private RefactoringChangeSet createChangeSet(ChangeDescription changes) {
+		CMLTextEditCalculator editCalculator = new CMLTextEditCalculator(serializerProvider.get());
+		Map<URI, List<CMLTextEdit>> textEdits = Maps.newLinkedHashMap();
+		Map<URI, String> newTexts = Maps.newLinkedHashMap();
+		try {
+			for (Entry<Resource, List<CMLTextEdit>> entry : editCalculator.calculateTextEdits(changes).entrySet()) {
+				String originalText = CMLTextEditCalculator.getParsedText(entry.getKey());
+				List<CMLTextEdit> edits = entry.getValue();
+				if (edits == null) {
+					// no minimal edits; replace the whole content
+					edits = Lists.newArrayList(new CMLTextEdit(0, originalText != null ? originalText.length() : 0, editCalculator.serializeCompletely(entry.getKey())));
+				}
+				if (edits.isEmpty())
+					continue;
+				textEdits.put(entry.getKey().getURI(), edits);
+				newTexts.put(entry.getKey().getURI(), CMLTextEditCalculator.applyEdits(originalText != null ? originalText : "", edits));
+			}
+		} catch (RuntimeException e) {
+			Set<String> errorMessages = Sets.newHashSet();
+			errorMessages.add(e.getMessage());
+			throw new RefactoringSerializationException(errorMessages, e);
+		}
+
+		Set<EObject> added = Sets.newIdentityHashSet();
+		added.addAll(changes.getObjectsToDetach());
+		List<EObject> removedElements = getRemovedElements(changes);
+		Set<EObject> removed = Sets.newIdentityHashSet();
+		removed.addAll(removedElements);
+		List<RefactoringChangeSet.MovedElement> movedElements = Lists.newArrayList();
+		Set<EObject> moved = Sets.newIdentityHashSet();
+		List<EObject> changedElements = Lists.newArrayList();
+		for (Entry<EObject, EList<FeatureChange>> objectChange : changes.getObjectChanges()) {
+			EObject object = objectChange.getKey();
+			if (isWithin(object, added) || isWithin(object, removed))
+				continue;
+			boolean changed = false;
+			for (FeatureChange featureChange : objectChange.getValue()) {
+				if (!(featureChange.getFeature() instanceof EReference) || !((EReference) featureChange.getFeature()).isContainment()) {
+					changed = true;
+					continue;
+				}
+				Set<EObject> newValues = Sets.newIdentityHashSet();
+				newValues.addAll(toList(object.eGet(featureChange.getFeature())));
+				for (EObject oldValue : toList(featureChange.getValue())) {
+					if (!newValues.contains(oldValue) && !removed.contains(oldValue) && moved.add(oldValue))
+						movedElements.add(new RefactoringChangeSet.MovedElement(oldValue, object, oldValue.eContainer()));
+				}
+			}
+			if (changed)
+				changedElements.add(object);
+		}
+		// elements moved into existing containers from containers which are not
+		// observed (e.g. another resource set)
+		for (Entry<EObject, EList<FeatureChange>> objectChange : changes.getObjectChanges()) {
+			for (FeatureChange featureChange : objectChange.getValue()) {
+				if (!(featureChange.getFeature() instanceof EReference) || !((EReference) featureChange.getFeature()).isContainment())
+					continue;
+				Set<EObject> oldValues = Sets.newIdentityHashSet();
+				oldValues.addAll(toList(featureChange.getValue()));
+				for (EObject newValue : toList(objectChange.getKey().eGet(featureChange.getFeature()))) {
+					if (!oldValues.contains(newValue) && !added.contains(newValue) && moved.add(newValue))
+						movedElements.add(new RefactoringChangeSet.MovedElement(newValue, null, objectChange.getKey()));
+				}
+			}
+		}
+		return new RefactoringChangeSet(Lists.newArrayList(changes.getObjectsToDetach()), removedElements, movedElements, changedElements, textEdits,
+				newTexts);
+	}
+
+	/**
+	 * Elements which have been removed from a containment reference and are not
+	 * contained anywhere else now.
+	 */
+	private List<EObject> getRemovedElements(ChangeDescription changes) {
+		List<EObject> removedElements = Lists.newArrayList();
+		for (Entry<EObject, EList<FeatureChange>> objectChange : changes.getObjectChanges()) {
+			for (FeatureChange featureChange : objectChange.getValue()) {
+				if (!(featureChange.getFeature() instanceof EReference) || !((EReference) featureChange.getFeature()).isContainment())
+					continue;
+				for (EObject oldValue : toList(featureChange.getValue())) {
+					if (oldValue.eContainer() == null || oldValue.eContainer() instanceof ChangeDescription)
+						removedElements.add(oldValue);
+				}
+			}
+		}
+		return removedElements;
+	}
+
+	private boolean isWithin(EObject object, Set<EObject> roots) {
+		for (EObject current = object; current != null; current = current.eContainer()) {
+			if (roots.contains(current))
+				return true;
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<EObject> toList(Object value) {
+		if (value == null)
+			return Collections.emptyList();
+		if (value instanceof List)
+			return (List<EObject>) value;
+		return Collections.singletonList((EObject) value);
+	}
+
+	private List<Resource> getResources(Notifier target) {
+		if (target instanceof ResourceSet)
+			return Lists.newArrayList(((ResourceSet) target).getResources());
+		return Collections.singletonList((Resource) target);
+	}
+
+}
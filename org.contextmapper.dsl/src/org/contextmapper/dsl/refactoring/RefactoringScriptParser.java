@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.contextMappingDSL.Volatility;
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Parses simple refactoring scripts into a {@link RefactoringBatch}. A script
+ * contains one refactoring per line: the name of the refactoring followed by
+ * its parameters, separated by whitespace. Lists are given as comma-separated
+ * values. Empty lines and lines starting with '#' are ignored. Example:
+ * 
+ * <pre>
+ * # split and merge some contexts
+ * SplitBoundedContextByOwner PolicyManagementContext
+ * ExtractAggregatesByCohesion CustomerManagement CustomerAddresses Addresses,Contacts
+ * MergeBoundedContexts DebtCollection PrintingContext true
+ * </pre>
+ */
+public class RefactoringScriptParser {
+
+	private static final Map<String, ScriptCommand> COMMANDS = Maps.newLinkedHashMap();
+
+	static {
+		register("SplitBoundedContextByOwner", 1, 1, args -> new SplitBoundedContextByOwner(args[0]));
+		register("SplitBoundedContextByFeatures", 1, 1, args -> new SplitBoundedContextByFeatures(args[0]));
+		register("SplitAggregateByEntities", 1, 1, args -> new SplitAggregateByEntitiesRefactoring(args[0]));
+		register("SplitSystemIntoSubsystems", 3, 3, args -> new SplitSystemIntoSubsystems(args[0], args[1], args[2]));
+		register("MergeAggregates", 2, 3, args -> new MergeAggregatesRefactoring(args[0], args[1], getOptionalBoolean(args, 2)));
+		register("MergeBoundedContexts", 2, 3, args -> new MergeBoundedContextsRefactoring(args[0], args[1], getOptionalBoolean(args, 2)));
+		register("ExtractAggregatesByCohesion", 3, 3, args -> new ExtractAggregatesByCohesion(args[0], args[1], toList(args[2])));
+		register("ExtractAggregatesByVolatility", 2, 2, args -> new ExtractAggregatesByVolatility(args[0], toVolatility(args[1])));
+		register("ExtractSharedKernel", 2, 2, args -> new ExtractSharedKernelRefactoring(args[0], args[1]));
+		register("ExtractPartnership", 2, 2, args -> new ExtractPartnershipRefactoring(args[0], args[1]));
+		register("SwitchFromPartnershipToSharedKernel", 2, 2, args -> new SwitchFromPartnershipToSharedKernelRefactoring(args[0], args[1]));
+		register("SwitchFromSharedKernelToPartnership", 2, 2, args -> new SwitchFromSharedKernelToPartnershipRefactoring(args[0], args[1]));
+		register("ChangePartnershipToUpstreamDownstream", 2, 2, args -> new ChangePartnershipToUpstreamDownstreamRefactoring(args[0], args[1]));
+		register("DeriveBoundedContextFromSubdomains", 2, 2, args -> new DeriveBoundedContextFromSubdomains(args[0], toSet(args[1])));
+		register("DeriveSubdomainFromUserRequirements", 3, 3, args -> new DeriveSubdomainFromUserRequirements(args[0], args[1], toSet(args[2])));
+		register("DeriveFrontendAndBackendSystemsFromFeature", 2, 2,
+				args -> new DeriveFrontendAndBackendSystemsFromFeature(args[0], toEnum(ContextSplittingIntegrationType.class, args[1])));
+	}
+
+	/**
+	 * Parses the given script file.
+	 * 
+	 * @param scriptFile the file containing the refactoring script
+	 * @return the batch containing all refactorings of the script (in the given
+	 *         order)
+	 */
+	public RefactoringBatch parse(File scriptFile) {
+		try {
+			return parse(FileUtils.readFileToString(scriptFile, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new RuntimeException("An error occured while reading the refactoring script '" + scriptFile.getAbsolutePath() + "'.", e);
+		}
+	}
+
+	/**
+	 * Parses the given script.
+	 * 
+	 * @param script the refactoring script
+	 * @return the batch containing all refactorings of the script (in the given
+	 *         order)
+	 */
+	public RefactoringBatch parse(String script) {
+		List<AbstractRefactoring> refactorings = Lists.newArrayList();
+		String[] lines = script.split("\\r?\\n");
+		for (int i = 0; i < lines.length; i++) {
+			String line = lines[i].trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+			refactorings.add(parseLine(line, i + 1));
+		}
+		return new RefactoringBatch(refactorings);
+	}
+
+	private AbstractRefactoring parseLine(String line, int lineNumber) {
+		String[] tokens = line.split("\\s+");
+		ScriptCommand command = COMMANDS.get(tokens[0]);
+		if (command == null)
+			throw new RefactoringInputException("Unknown refactoring '" + tokens[0] + "' in line " + lineNumber + ". Supported refactorings are: " + String.join(", ", COMMANDS.keySet()));
+
+		String[] args = Arrays.copyOfRange(tokens, 1, tokens.length);
+		if (args.length < command.minArgs || args.length > command.maxArgs)
+			throw new RefactoringInputException("The refactoring '" + tokens[0] + "' in line " + lineNumber + " expects "
+					+ (command.minArgs == command.maxArgs ? command.minArgs : command.minArgs + " to " + command.maxArgs) + " parameters, but " + args.length + " were given.");
+		try {
+			return command.factory.apply(args);
+		} catch (IllegalArgumentException e) {
+			throw new RefactoringInputException("Invalid parameter for the refactoring '" + tokens[0] + "' in line " + lineNumber + ": " + e.getMessage());
+		}
+	}
+
+	private static void register(String name, int minArgs, int maxArgs, Function<String[], AbstractRefactoring> factory) {
+		COMMANDS.put(name, new ScriptCommand(minArgs, maxArgs, factory));
+	}
+
+	private static boolean getOptionalBoolean(String[] args, int index) {
+		if (args.length <= index)
+			return false;
+		if (!"true".equals(args[index]) && !"false".equals(args[index]))
+			throw new IllegalArgumentException("'" + args[index] + "' is not a boolean value (true/false).");
+		return Boolean.parseBoolean(args[index]);
+	}
+
+	private static List<String> toList(String commaSeparatedValues) {
+		return Lists.newArrayList(commaSeparatedValues.split(","));
+	}
+
+	private static Set<String> toSet(String commaSeparatedValues) {
+		return Sets.newLinkedHashSet(toList(commaSeparatedValues));
+	}
+
+	private static Volatility toVolatility(String value) {
+		Volatility volatility = Volatility.getByName(value);
+		if (volatility == null)
+			throw new IllegalArgumentException("'" + value + "' is not a volatility value.");
+		return volatility;
+	}
+
+	private static <T extends Enum<T>> T toEnum(Class<T> enumType, String value) {
+		return Enum.valueOf(enumType, value);
+	}
+
+	private static class ScriptCommand {
+		private final int minArgs;
+		private final int maxArgs;
+		private final Function<String[], AbstractRefactoring> factory;
+
+		ScriptCommand(int minArgs, int maxArgs, Function<String[], AbstractRefactoring> factory) {
+			this.minArgs = minArgs;
+			this.maxArgs = maxArgs;
+			this.factory = factory;
+		}
+	}
+
+}
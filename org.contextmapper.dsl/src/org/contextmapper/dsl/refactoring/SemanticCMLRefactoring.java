@@ -19,6 +19,8 @@ import org.contextmapper.dsl.cml.CMLResource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.serializer.ISerializer;
 
+import com.google.inject.Provider;
+
 public interface SemanticCMLRefactoring {
 
 	/**
@@ -57,4 +59,25 @@ public interface SemanticCMLRefactoring {
 	 */
 	void persistChanges(ISerializer serializer);
 
+	/**
+	 * Calculates the changes this refactoring would apply to the CML model in the
+	 * given resource, without changing the model or any file. The text edits are
+	 * calculated for the changed elements only (no full serialization of the
+	 * model).
+	 * 
+	 * Use a new refactoring instance per preview (and for applying the
+	 * refactoring afterwards). To evaluate many candidate refactorings in
+	 * parallel, preview them on copies of the model loaded into separate
+	 * resource sets.
+	 * 
+	 * @param resource           the resource with the CML model that shall be
+	 *                           refactored
+	 * @param serializerProvider provides the serializer used to calculate the
+	 *                           text edits (one per preview)
+	 * @return the changes the refactoring would apply
+	 */
+	default RefactoringChangeSet preview(CMLResource resource, Provider<ISerializer> serializerProvider) {
+		return new RefactoringPreview(serializerProvider).preview(resource, () -> refactor(resource));
+	}
+
 }
@@ -34,6 +34,7 @@ public class SplitAggregateByEntitiesRefactoring extends AbstractRefactoring imp
 
 	private String aggregateName;
 	private List<Aggregate> newAggregates;
+	private Set<String> allAggregateNames;
 
 	public SplitAggregateByEntitiesRefactoring(String aggregateName) {
 		this.aggregateName = aggregateName;
@@ -50,28 +51,32 @@ public class SplitAggregateByEntitiesRefactoring extends AbstractRefactoring imp
 		if(entities.size() == 1)
 			return;
 		
+		this.allAggregateNames = EcoreUtil2.eAllOfType(model, Aggregate.class).stream()
+				.map(a -> a.getName())
+				.collect(Collectors.toSet());
 		for(int i = 1; i < entities.size(); i++)
-			moveEntityToNewAggregate(inputAggregate, entities.get(i));
+			moveEntityToNewAggregate(entities.get(i));
+		
+		// add all new aggregates at once
+		if(inputAggregate.eContainer() instanceof SculptorModule) {
+			SculptorModule container = (SculptorModule) inputAggregate.eContainer();
+			addElementsToEList(container.getAggregates(), newAggregates);
+		} else {
+			BoundedContext container = (BoundedContext) inputAggregate.eContainer();
+			addElementsToEList(container.getAggregates(), newAggregates);
+		}
 		
 		entities.get(0).setAggregateRoot(true);
 		
 		postProcessing();
 	}
 	
-	private void moveEntityToNewAggregate(Aggregate inputAggregate, Entity movingEntity) {
+	private void moveEntityToNewAggregate(Entity movingEntity) {
 		Aggregate newAggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
 		newAggregate.setName(getUniqueAggregateName(movingEntity.getName()));
-		removeElementFromEList(inputAggregate.getDomainObjects(), movingEntity);
+		// moves the entity (removes it from the input aggregate)
 		addElementToEList(newAggregate.getDomainObjects(), movingEntity);
 		movingEntity.setAggregateRoot(true);
-		
-		if(inputAggregate.eContainer() instanceof SculptorModule) {
-			SculptorModule container = (SculptorModule) inputAggregate.eContainer();
-			addElementToEList(container.getAggregates(), newAggregate);
-		} else {
-			BoundedContext container = (BoundedContext) inputAggregate.eContainer();
-			addElementToEList(container.getAggregates(), newAggregate);
-		}
 		this.newAggregates.add(newAggregate);
 	}
 	
@@ -104,14 +109,12 @@ public class SplitAggregateByEntitiesRefactoring extends AbstractRefactoring imp
 	
 	private String getUniqueAggregateName(final String entityName) {
 		String name = entityName;
-		Set<String> allAggregateNames = EcoreUtil2.eAllOfType(model, Aggregate.class).stream()
-				.map(a -> a.getName())
-				.collect(Collectors.toSet());
 		int i = 2;
 		while(allAggregateNames.contains(name)) {
 			name = entityName + "_" + i;
 			i++;
 		}
+		allAggregateNames.add(name);
 		return name;
 	}
 
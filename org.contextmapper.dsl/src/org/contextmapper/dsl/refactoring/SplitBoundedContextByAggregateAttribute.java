@@ -15,22 +15,19 @@
  */
 package org.contextmapper.dsl.refactoring;
 
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
-import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 public class SplitBoundedContextByAggregateAttribute extends AbstractRefactoring implements SemanticCMLRefactoring {
 
@@ -53,14 +50,11 @@ public class SplitBoundedContextByAggregateAttribute extends AbstractRefactoring
 	}
 
 	private void createAggregateMapping() {
-		splittingKeyToAggregatesMapping = new HashMap<>();
+		// linked, so that the aggregates of the first key stay in the original BC
+		splittingKeyToAggregatesMapping = Maps.newLinkedHashMap();
 		for (Aggregate aggregate : originalBC.getAggregates()) {
 			CompoundKey splittingGroupKey = this.aggregateToSetKeyMappingFunction.apply(aggregate);
-			if (this.splittingKeyToAggregatesMapping.containsKey(splittingGroupKey)) {
-				this.splittingKeyToAggregatesMapping.get(splittingGroupKey).add(aggregate);
-			} else {
-				this.splittingKeyToAggregatesMapping.put(splittingGroupKey, Lists.newArrayList(aggregate));
-			}
+			this.splittingKeyToAggregatesMapping.computeIfAbsent(splittingGroupKey, k -> Lists.newArrayList()).add(aggregate);
 		}
 	}
 
@@ -69,38 +63,37 @@ public class SplitBoundedContextByAggregateAttribute extends AbstractRefactoring
 		if (this.splittingKeyToAggregatesMapping.size() <= 1)
 			return;
 
-		Iterator<Entry<CompoundKey, List<Aggregate>>> it = this.splittingKeyToAggregatesMapping.entrySet().iterator();
+		// first set stays in current BC; extract other sets to new BCs
+		List<List<Aggregate>> aggregateSetsToExtract = Lists.newArrayList(this.splittingKeyToAggregatesMapping.values());
+		aggregateSetsToExtract.remove(0);
 
-		// first set stays in current BC
-		it.next();
+		Set<Aggregate> aggregatesToMove = Sets.newHashSet();
+		aggregateSetsToExtract.forEach(aggregatesToMove::addAll);
+		this.originalBC.getAggregates().removeAll(aggregatesToMove);
 
-		// extract other sets to new BCs
+		List<BoundedContext> newBCs = Lists.newArrayList();
+		Map<String, BoundedContext> newBCsByAggregateName = Maps.newLinkedHashMap();
 		int i = 1;
-		while (it.hasNext()) {
-			List<Aggregate> aggregates = it.next().getValue();
-			this.originalBC.getAggregates().removeAll(aggregates);
-			ContextMappingModel bcModel = getResource(originalBC).getContextMappingModel();
-
+		for (List<Aggregate> aggregates : aggregateSetsToExtract) {
 			BoundedContext newBC = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
 			newBC.setName("NewBoundedContext" + i++);
 			addElementsToEList(newBC.getAggregates(), aggregates);
-			addElementToEList(bcModel.getBoundedContexts(), newBC);
-			adjustContextMaps(newBC, aggregates);
+			newBCs.add(newBC);
+			for (Aggregate aggregate : aggregates)
+				newBCsByAggregateName.put(aggregate.getName(), newBC);
 		}
+		addElementsToEList(getResource(originalBC).getContextMappingModel().getBoundedContexts(), newBCs);
+		adjustContextMaps(newBCsByAggregateName);
 	}
 
 	private void initOriginalBC() {
-		Set<BoundedContext> allBCs = getAllBoundedContexts();
-		Set<BoundedContext> bcsWithGivenInputName = allBCs.stream().filter(bc -> bc.getName().equals(boundedContextName)).collect(Collectors.toSet());
-
 		// xtext validators must ensure that we get only one BC here:
-		this.originalBC = bcsWithGivenInputName.iterator().next();
+		this.originalBC = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(boundedContextName)).findFirst().get();
 	}
 
-	private void adjustContextMaps(BoundedContext newBC, List<Aggregate> extractedAggregates) {
+	private void adjustContextMaps(Map<String, BoundedContext> newBCsByAggregateName) {
 		for (ContextMap contextMap : getAllContextMaps()) {
-			new ContextMappingModelHelper(contextMap)
-					.moveExposedAggregatesToNewRelationshipsIfNeeded(extractedAggregates.stream().map(agg -> agg.getName()).collect(Collectors.toList()), newBC);
+			new ContextMappingModelHelper(contextMap).moveExposedAggregatesToNewRelationshipsIfNeeded(newBCsByAggregateName);
 		}
 	}
 
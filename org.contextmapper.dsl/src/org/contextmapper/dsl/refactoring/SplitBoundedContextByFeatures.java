@@ -17,32 +17,10 @@ package org.contextmapper.dsl.refactoring;
 
 import java.util.stream.Collectors;
 
-import org.contextmapper.dsl.cml.CMLResource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.xtext.serializer.ISerializer;
-
-public class SplitBoundedContextByFeatures implements SemanticCMLRefactoring {
-
-	private SplitBoundedContextByAggregateAttribute coreAR;
+public class SplitBoundedContextByFeatures extends SplitBoundedContextByAggregateAttribute {
 
 	public SplitBoundedContextByFeatures(String boundedContextName) {
-		this.coreAR = new SplitBoundedContextByAggregateAttribute(aggregate -> new CompoundKey(aggregate.getUserRequirements().stream().map(uc -> uc.getName()).collect(Collectors.toSet())),
-				boundedContextName);
-	}
-
-	@Override
-	public void refactor(CMLResource resource) {
-		this.coreAR.refactor(resource);
-	}
-
-	@Override
-	public void refactor(CMLResource resource, ResourceSet consistencyCheckResources) {
-		this.coreAR.refactor(resource, consistencyCheckResources);
-	}
-
-	@Override
-	public void persistChanges(ISerializer serializer) {
-		this.coreAR.persistChanges(serializer);
+		super(aggregate -> new CompoundKey(aggregate.getUserRequirements().stream().map(uc -> uc.getName()).collect(Collectors.toSet())), boundedContextName);
 	}
 
 }
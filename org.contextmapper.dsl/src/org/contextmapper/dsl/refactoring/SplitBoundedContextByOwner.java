@@ -15,18 +15,12 @@
  */
 package org.contextmapper.dsl.refactoring;
 
-import org.contextmapper.dsl.cml.CMLResource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.xtext.serializer.ISerializer;
-
 import com.google.common.collect.Sets;
 
-public class SplitBoundedContextByOwner implements SemanticCMLRefactoring {
-
-	private SplitBoundedContextByAggregateAttribute coreAR;
+public class SplitBoundedContextByOwner extends SplitBoundedContextByAggregateAttribute {
 
 	public SplitBoundedContextByOwner(String boundedContextName) {
-		this.coreAR = new SplitBoundedContextByAggregateAttribute(aggregate -> {
+		super(aggregate -> {
 			if (aggregate.getOwner() != null)
 				return new CompoundKey(Sets.newHashSet(aggregate.getOwner().getName()));
 			else
@@ -34,19 +28,4 @@ public class SplitBoundedContextByOwner implements SemanticCMLRefactoring {
 		}, boundedContextName);
 	}
 
-	@Override
-	public void refactor(CMLResource resource) {
-		this.coreAR.refactor(resource);
-	}
-
-	@Override
-	public void refactor(CMLResource resource, ResourceSet consistencyCheckResources) {
-		this.coreAR.refactor(resource, consistencyCheckResources);
-	}
-
-	@Override
-	public void persistChanges(ISerializer serializer) {
-		this.coreAR.persistChanges(serializer);
-	}
-
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring.cohesion;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.DomainEventProductionStep;
+import org.contextmapper.dsl.contextMappingDSL.Flow;
+import org.contextmapper.dsl.contextMappingDSL.FlowStep;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.contextmapper.dsl.contextMappingDSL.Volatility;
+import org.contextmapper.dsl.refactoring.AbstractRefactoring;
+import org.contextmapper.dsl.refactoring.ExtractAggregatesByCohesion;
+import org.contextmapper.dsl.refactoring.RefactoringBatch;
+import org.contextmapper.dsl.refactoring.RefactoringHelper;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Proposes cohesive groups of Aggregates within a Bounded Context.
+ * 
+ * The analyzer builds a weighted coupling graph between the Aggregates of the
+ * Bounded Context and clusters it with the Louvain community detection
+ * algorithm. Edges are derived from:
+ * <ul>
+ * <li>references from objects of one Aggregate to domain objects of another
+ * Aggregate,</li>
+ * <li>use cases, user stories and features shared by Aggregates,</li>
+ * <li>Aggregates delegated to in consecutive steps of the same flow,</li>
+ * <li>Aggregates exposed together in a relationship.</li>
+ * </ul>
+ * The likelihood for change strengthens existing edges between Aggregates with
+ * the same volatility and weakens edges between Aggregates with different
+ * volatility.
+ */
+public class AggregateCohesionAnalyzer {
+
+	static final int REFERENCE_WEIGHT = 4;
+	static final int SHARED_REQUIREMENT_WEIGHT = 3;
+	static final int FLOW_WEIGHT = 2;
+	static final int EXPOSED_TOGETHER_WEIGHT = 1;
+
+	/*
+	 * Requirements or relationships which are shared by more Aggregates than this
+	 * do not say much about cohesion, but would create a quadratic number of
+	 * edges; we only connect consecutive Aggregates in that case.
+	 */
+	private static final int MAX_CLIQUE_SIZE = 64;
+
+	/**
+	 * Proposes groups of cohesive Aggregates for the given Bounded Context. The
+	 * groups are sorted by size (largest first); Aggregates which are not coupled
+	 * to any other Aggregate are part of the largest group.
+	 */
+	public List<List<Aggregate>> proposeAggregateGroups(BoundedContext boundedContext) {
+		List<Aggregate> aggregates = Lists.newArrayList(RefactoringHelper.collectAggregates(boundedContext));
+		return proposeAggregateGroups(aggregates, buildCouplingGraph(boundedContext, aggregates));
+	}
+
+	private List<List<Aggregate>> proposeAggregateGroups(List<Aggregate> aggregates, WeightedGraph graph) {
+		if (aggregates.isEmpty())
+			return Lists.newArrayList();
+
+		int[] communities = LouvainCommunityDetection.detectCommunities(graph);
+
+		Map<Integer, List<Aggregate>> groups = Maps.newLinkedHashMap();
+		List<Aggregate> uncoupledAggregates = Lists.newArrayList();
+		for (int i = 0; i < aggregates.size(); i++) {
+			if (graph.offsets[i] == graph.offsets[i + 1])
+				uncoupledAggregates.add(aggregates.get(i));
+			else
+				groups.computeIfAbsent(communities[i], c -> Lists.newArrayList()).add(aggregates.get(i));
+		}
+		List<List<Aggregate>> result = Lists.newArrayList(groups.values());
+		result.sort(Comparator.comparingInt((List<Aggregate> group) -> group.size()).reversed());
+		if (result.isEmpty())
+			result.add(uncoupledAggregates);
+		else
+			result.get(0).addAll(uncoupledAggregates);
+		return result;
+	}
+
+	/**
+	 * Creates a refactoring which extracts every proposed group except the
+	 * largest one into a new Bounded Context (see
+	 * {@link ExtractAggregatesByCohesion}). The new Bounded Contexts are named
+	 * after the original Bounded Context and the most coupled Aggregate of the
+	 * group.
+	 */
+	public RefactoringBatch createRefactoring(BoundedContext boundedContext) {
+		List<Aggregate> aggregates = Lists.newArrayList(RefactoringHelper.collectAggregates(boundedContext));
+		WeightedGraph graph = buildCouplingGraph(boundedContext, aggregates);
+		List<List<Aggregate>> groups = proposeAggregateGroups(aggregates, graph);
+		Map<Aggregate, Long> couplings = new IdentityHashMap<>();
+		for (int i = 0; i < aggregates.size(); i++)
+			couplings.put(aggregates.get(i), graph.getWeightedDegree(i));
+		Set<String> usedNames = getBoundedContextNames(boundedContext);
+		List<AbstractRefactoring> refactorings = Lists.newArrayList();
+		for (List<Aggregate> group : groups.subList(Math.min(1, groups.size()), groups.size())) {
+			Aggregate centralAggregate = group.stream().max(Comparator.comparingLong((Aggregate a) -> couplings.getOrDefault(a, 0L))).get();
+			String newBoundedContextName = getUniqueName(boundedContext.getName() + "_" + centralAggregate.getName(), usedNames);
+			refactorings.add(new ExtractAggregatesByCohesion(boundedContext.getName(), newBoundedContextName,
+					group.stream().map(Aggregate::getName).collect(Collectors.toList())));
+		}
+		return new RefactoringBatch(refactorings);
+	}
+
+	WeightedGraph buildCouplingGraph(BoundedContext boundedContext, List<Aggregate> aggregates) {
+		Map<EObject, Integer> aggregateIndexes = new IdentityHashMap<>();
+		Map<SimpleDomainObject, Integer> domainObjectIndexes = new IdentityHashMap<>();
+		Volatility[] volatilities = new Volatility[aggregates.size()];
+		for (int i = 0; i < aggregates.size(); i++) {
+			Aggregate aggregate = aggregates.get(i);
+			aggregateIndexes.put(aggregate, i);
+			volatilities[i] = aggregate.getLikelihoodForChange();
+			for (SimpleDomainObject domainObject : aggregate.getDomainObjects())
+				domainObjectIndexes.put(domainObject, i);
+		}
+
+		WeightedGraph.Builder builder = new WeightedGraph.Builder(aggregates.size());
+		EdgeCollector edges = (a, b, weight) -> {
+			if (a != b)
+				builder.addEdge(a, b, adjustToVolatility(weight, volatilities[a], volatilities[b]));
+		};
+		addReferenceEdges(aggregates, domainObjectIndexes, edges);
+		addSharedRequirementEdges(aggregates, edges);
+		addFlowEdges(boundedContext, aggregateIndexes, edges);
+		addExposedAggregateEdges(boundedContext, aggregateIndexes, edges);
+		return builder.build();
+	}
+
+	private void addReferenceEdges(List<Aggregate> aggregates, Map<SimpleDomainObject, Integer> domainObjectIndexes, EdgeCollector edges) {
+		for (int i = 0; i < aggregates.size(); i++) {
+			TreeIterator<EObject> iterator = aggregates.get(i).eAllContents();
+			while (iterator.hasNext()) {
+				for (EObject referencedObject : iterator.next().eCrossReferences()) {
+					Integer target = domainObjectIndexes.get(referencedObject);
+					if (target != null)
+						edges.add(i, target, REFERENCE_WEIGHT);
+				}
+			}
+		}
+	}
+
+	private void addSharedRequirementEdges(List<Aggregate> aggregates, EdgeCollector edges) {
+		Map<UserRequirement, List<Integer>> aggregatesByRequirement = Maps.newLinkedHashMap();
+		for (int i = 0; i < aggregates.size(); i++) {
+			for (UserRequirement requirement : aggregates.get(i).getUserRequirements())
+				aggregatesByRequirement.computeIfAbsent(requirement, r -> Lists.newArrayList()).add(i);
+		}
+		for (List<Integer> group : aggregatesByRequirement.values())
+			addGroupEdges(group, SHARED_REQUIREMENT_WEIGHT, edges);
+	}
+
+	private void addFlowEdges(BoundedContext boundedContext, Map<EObject, Integer> aggregateIndexes, EdgeCollector edges) {
+		if (boundedContext.getApplication() == null)
+			return;
+		for (Flow flow : boundedContext.getApplication().getFlows()) {
+			Integer previous = null;
+			for (FlowStep step : flow.getSteps()) {
+				if (!(step instanceof DomainEventProductionStep))
+					continue;
+				Integer current = aggregateIndexes.get(((DomainEventProductionStep) step).getAggregate());
+				if (current == null)
+					continue;
+				if (previous != null)
+					edges.add(previous, current, FLOW_WEIGHT);
+				previous = current;
+			}
+		}
+	}
+
+	private void addExposedAggregateEdges(BoundedContext boundedContext, Map<EObject, Integer> aggregateIndexes, EdgeCollector edges) {
+		EObject root = EcoreUtil.getRootContainer(boundedContext);
+		if (!(root instanceof ContextMappingModel) || ((ContextMappingModel) root).getMap() == null)
+			return;
+		for (Relationship relationship : ((ContextMappingModel) root).getMap().getRelationships()) {
+			if (!(relationship instanceof UpstreamDownstreamRelationship))
+				continue;
+			List<Integer> group = Lists.newArrayList();
+			for (Aggregate aggregate : ((UpstreamDownstreamRelationship) relationship).getUpstreamExposedAggregates()) {
+				Integer index = aggregateIndexes.get(aggregate);
+				if (index != null)
+					group.add(index);
+			}
+			addGroupEdges(group, EXPOSED_TOGETHER_WEIGHT, edges);
+		}
+	}
+
+	private void addGroupEdges(List<Integer> group, int weight, EdgeCollector edges) {
+		if (group.size() <= MAX_CLIQUE_SIZE) {
+			for (int i = 0; i < group.size(); i++) {
+				for (int j = i + 1; j < group.size(); j++)
+					edges.add(group.get(i), group.get(j), weight);
+			}
+		} else {
+			for (int i = 1; i < group.size(); i++)
+				edges.add(group.get(i - 1), group.get(i), weight);
+		}
+	}
+
+	private long adjustToVolatility(int weight, Volatility volatility1, Volatility volatility2) {
+		if (!isDefined(volatility1) || !isDefined(volatility2))
+			return weight;
+		if (volatility1 == volatility2)
+			return weight + 1;
+		return Math.max(1, weight / 2);
+	}
+
+	private boolean isDefined(Volatility volatility) {
+		return volatility != null && volatility != Volatility.UNDEFINED;
+	}
+
+	private Set<String> getBoundedContextNames(BoundedContext boundedContext) {
+		Set<String> names = Sets.newHashSet();
+		EObject root = EcoreUtil.getRootContainer(boundedContext);
+		if (root instanceof ContextMappingModel) {
+			for (BoundedContext bc : ((ContextMappingModel) root).getBoundedContexts())
+				names.add(bc.getName());
+		}
+		names.add(boundedContext.getName());
+		return names;
+	}
+
+	private String getUniqueName(String name, Collection<String> usedNames) {
+		String uniqueName = name;
+		int counter = 2;
+		while (usedNames.contains(uniqueName))
+			uniqueName = name + "_" + counter++;
+		usedNames.add(uniqueName);
+		return uniqueName;
+	}
+
+	private interface EdgeCollector {
+		void add(int aggregate1, int aggregate2, int weight);
+	}
+
+}
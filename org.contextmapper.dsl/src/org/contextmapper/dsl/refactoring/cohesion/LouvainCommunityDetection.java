@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring.cohesion;
+
+import java.util.Arrays;
+
+/**
+ * Louvain community detection (Blondel et al., "Fast unfolding of communities in
+ * large networks") on a {@link WeightedGraph}. Nodes are visited in index order
+ * so that the result is deterministic for a given graph.
+ */
+final class LouvainCommunityDetection {
+
+	private static final double MIN_MODULARITY_GAIN = 0.000001;
+	private static final int MAX_PASSES_PER_LEVEL = 100;
+
+	private long visitedArcs = 0;
+
+	/**
+	 * Returns the community of every node of the given graph. Communities are
+	 * numbered from 0 to (number of communities - 1).
+	 */
+	static int[] detectCommunities(WeightedGraph graph) {
+		return new LouvainCommunityDetection().detect(graph);
+	}
+
+	int[] detect(WeightedGraph graph) {
+		int[] communityOfOriginalNode = new int[graph.nodeCount];
+		for (int i = 0; i < graph.nodeCount; i++)
+			communityOfOriginalNode[i] = i;
+
+		WeightedGraph current = graph;
+		while (true) {
+			int[] communities = optimizeModularity(current);
+			int communityCount = renumber(communities);
+			for (int i = 0; i < communityOfOriginalNode.length; i++)
+				communityOfOriginalNode[i] = communities[communityOfOriginalNode[i]];
+			if (communityCount == current.nodeCount)
+				return communityOfOriginalNode;
+			current = aggregate(current, communities, communityCount);
+		}
+	}
+
+	private int[] optimizeModularity(WeightedGraph graph) {
+		int n = graph.nodeCount;
+		int[] communities = new int[n];
+		long[] degrees = new long[n];
+		long[] selfLoops = new long[n];
+		long[] totalWeights = new long[n];
+		long[] innerWeights = new long[n];
+		long totalWeight = 0;
+		for (int i = 0; i < n; i++) {
+			communities[i] = i;
+			degrees[i] = graph.getWeightedDegree(i);
+			selfLoops[i] = graph.getSelfLoopWeight(i);
+			totalWeights[i] = degrees[i];
+			innerWeights[i] = selfLoops[i];
+			totalWeight += degrees[i];
+		}
+		if (totalWeight == 0)
+			return communities;
+
+		double m2 = totalWeight;
+		long[] neighbourWeights = new long[n];
+		Arrays.fill(neighbourWeights, -1);
+		int[] neighbourCommunities = new int[n];
+
+		double modularity = modularity(totalWeights, innerWeights, m2);
+		for (int pass = 0; pass < MAX_PASSES_PER_LEVEL; pass++) {
+			int moves = 0;
+			for (int node = 0; node < n; node++) {
+				int ownCommunity = communities[node];
+				visitedArcs += graph.offsets[node + 1] - graph.offsets[node];
+
+				// weights from the node to its neighbouring communities
+				int neighbourCommunityCount = 0;
+				neighbourWeights[ownCommunity] = 0;
+				neighbourCommunities[neighbourCommunityCount++] = ownCommunity;
+				for (int i = graph.offsets[node]; i < graph.offsets[node + 1]; i++) {
+					int neighbour = graph.neighbours[i];
+					if (neighbour == node)
+						continue;
+					int community = communities[neighbour];
+					if (neighbourWeights[community] == -1) {
+						neighbourWeights[community] = 0;
+						neighbourCommunities[neighbourCommunityCount++] = community;
+					}
+					neighbourWeights[community] += graph.weights[i];
+				}
+
+				// remove node from its community
+				totalWeights[ownCommunity] -= degrees[node];
+				innerWeights[ownCommunity] -= 2 * neighbourWeights[ownCommunity] + selfLoops[node];
+
+				// insert it into the community with the best gain
+				int bestCommunity = ownCommunity;
+				double bestGain = 0;
+				for (int i = 0; i < neighbourCommunityCount; i++) {
+					int community = neighbourCommunities[i];
+					double gain = neighbourWeights[community] - totalWeights[community] * degrees[node] / m2;
+					if (gain > bestGain) {
+						bestGain = gain;
+						bestCommunity = community;
+					}
+				}
+				totalWeights[bestCommunity] += degrees[node];
+				innerWeights[bestCommunity] += 2 * neighbourWeights[bestCommunity] + selfLoops[node];
+				communities[node] = bestCommunity;
+				if (bestCommunity != ownCommunity)
+					moves++;
+
+				for (int i = 0; i < neighbourCommunityCount; i++)
+					neighbourWeights[neighbourCommunities[i]] = -1;
+			}
+			double newModularity = modularity(totalWeights, innerWeights, m2);
+			if (moves == 0 || newModularity - modularity < MIN_MODULARITY_GAIN)
+				break;
+			modularity = newModularity;
+		}
+		return communities;
+	}
+
+	/**
+	 * Number of arcs visited while moving nodes between communities, on all
+	 * levels; a measure of the work done by {@link #detect(WeightedGraph)}.
+	 */
+	long getVisitedArcs() {
+		return visitedArcs;
+	}
+
+	private static double modularity(long[] totalWeights, long[] innerWeights, double m2) {
+		double modularity = 0;
+		for (int i = 0; i < totalWeights.length; i++) {
+			if (totalWeights[i] > 0)
+				modularity += innerWeights[i] / m2 - (totalWeights[i] / m2) * (totalWeights[i] / m2);
+		}
+		return modularity;
+	}
+
+	/**
+	 * Renumbers the communities in order of their first occurrence and returns
+	 * the number of communities.
+	 */
+	private static int renumber(int[] communities) {
+		int[] newNumbers = new int[communities.length];
+		Arrays.fill(newNumbers, -1);
+		int count = 0;
+		for (int i = 0; i < communities.length; i++) {
+			if (newNumbers[communities[i]] == -1)
+				newNumbers[communities[i]] = count++;
+			communities[i] = newNumbers[communities[i]];
+		}
+		return count;
+	}
+
+	private static WeightedGraph aggregate(WeightedGraph graph, int[] communities, int communityCount) {
+		WeightedGraph.Builder builder = new WeightedGraph.Builder(communityCount);
+		for (int node = 0; node < graph.nodeCount; node++) {
+			for (int i = graph.offsets[node]; i < graph.offsets[node + 1]; i++)
+				builder.addArc(communities[node], communities[graph.neighbours[i]], graph.weights[i]);
+		}
+		return builder.build();
+	}
+
+}
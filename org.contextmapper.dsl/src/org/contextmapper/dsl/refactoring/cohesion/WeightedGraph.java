@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring.cohesion;
+
+import java.util.Arrays;
+
+/**
+ * Undirected, weighted graph in compressed sparse row format: the neighbours of
+ * node i are stored in neighbours[offsets[i]] to neighbours[offsets[i + 1] - 1]
+ * (with the corresponding weights). Every edge is stored in both directions; a
+ * self-loop is stored once.
+ */
+final class WeightedGraph {
+
+	final int nodeCount;
+	final int[] offsets;
+	final int[] neighbours;
+	final long[] weights;
+
+	private WeightedGraph(int nodeCount, int[] offsets, int[] neighbours, long[] weights) {
+		this.nodeCount = nodeCount;
+		this.offsets = offsets;
+		this.neighbours = neighbours;
+		this.weights = weights;
+	}
+
+	/**
+	 * Sum of the weights of all edges of the given node (a self-loop counts once).
+	 */
+	long getWeightedDegree(int node) {
+		long degree = 0;
+		for (int i = offsets[node]; i < offsets[node + 1]; i++)
+			degree += weights[i];
+		return degree;
+	}
+
+	long getSelfLoopWeight(int node) {
+		for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+			if (neighbours[i] == node)
+				return weights[i];
+		}
+		return 0;
+	}
+
+	/**
+	 * Collects edges (duplicates are summed up) and creates the graph.
+	 */
+	static final class Builder {
+
+		private final int nodeCount;
+		private int[] sources = new int[16];
+		private int[] targets = new int[16];
+		private long[] edgeWeights = new long[16];
+		private int size = 0;
+
+		Builder(int nodeCount) {
+			this.nodeCount = nodeCount;
+		}
+
+		/**
+		 * Adds an undirected edge. Edges with a weight of zero or less are ignored.
+		 */
+		void addEdge(int node1, int node2, long weight) {
+			if (weight <= 0)
+				return;
+			append(node1, node2, weight);
+			if (node1 != node2)
+				append(node2, node1, weight);
+		}
+
+		/**
+		 * Adds a single directed arc; used to build aggregated graphs in which
+		 * every arc of the original graph is mapped individually.
+		 */
+		void addArc(int source, int target, long weight) {
+			if (weight > 0)
+				append(source, target, weight);
+		}
+
+		private void append(int source, int target, long weight) {
+			if (size == sources.length) {
+				sources = Arrays.copyOf(sources, size * 2);
+				targets = Arrays.copyOf(targets, size * 2);
+				edgeWeights = Arrays.copyOf(edgeWeights, size * 2);
+			}
+			sources[size] = source;
+			targets[size] = target;
+			edgeWeights[size] = weight;
+			size++;
+		}
+
+		WeightedGraph build() {
+			// counting sort by source node
+			int[] offsets = new int[nodeCount + 1];
+			for (int i = 0; i < size; i++)
+				offsets[sources[i] + 1]++;
+			for (int i = 0; i < nodeCount; i++)
+				offsets[i + 1] += offsets[i];
+			int[] sortedTargets = new int[size];
+			long[] sortedWeights = new long[size];
+			int[] insertPosition = Arrays.copyOf(offsets, nodeCount);
+			for (int i = 0; i < size; i++) {
+				int position = insertPosition[sources[i]]++;
+				sortedTargets[position] = targets[i];
+				sortedWeights[position] = edgeWeights[i];
+			}
+
+			// merge duplicate edges
+			int[] lastPosition = new int[nodeCount];
+			Arrays.fill(lastPosition, -1);
+			int[] mergedOffsets = new int[nodeCount + 1];
+			int[] mergedTargets = new int[size];
+			long[] mergedWeights = new long[size];
+			int mergedSize = 0;
+			for (int node = 0; node < nodeCount; node++) {
+				int start = mergedSize;
+				for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+					int target = sortedTargets[i];
+					if (lastPosition[target] >= start) {
+						mergedWeights[lastPosition[target]] += sortedWeights[i];
+					} else {
+						lastPosition[target] = mergedSize;
+						mergedTargets[mergedSize] = target;
+						mergedWeights[mergedSize] = sortedWeights[i];
+						mergedSize++;
+					}
+				}
+				mergedOffsets[node + 1] = mergedSize;
+			}
+			return new WeightedGraph(nodeCount, mergedOffsets, Arrays.copyOf(mergedTargets, mergedSize), Arrays.copyOf(mergedWeights, mergedSize));
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.commons.io.IOUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.contextmapper.dsl.refactoring.CMLTextEdit;
+import org.contextmapper.dsl.refactoring.CMLTextEditCalculator;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Records the changes a modification (such as a refactoring) applies to a CML
+ * model and persists them by rewriting only the changed regions of the CML
+ * files. Formatting and comments outside of the changed top-level elements
+ * (Bounded Contexts, Context Map, Domains, etc.) are preserved.
+ * 
+ * This works similar to Xtext's IChangeSerializer used by our language server,
+ * but only requires the Xtext runtime. Resources for which no minimal change
+ * can be calculated (no node model, file changed on disk since loading, etc.)
+ * are serialized and formatted completely, as before.
+ */
+public class CMLChangeSerializer {
+
+	private final CMLTextEditCalculator editCalculator;
+
+	public CMLChangeSerializer(ISerializer serializer) {
+		this.editCalculator = new CMLTextEditCalculator(serializer);
+	}
+
+	/**
+	 * Applies the given modification to the model and persists the resulting
+	 * changes. If the changes cannot be serialized, they are reverted.
+	 * 
+	 * @param resource     the resource containing the model that is modified
+	 * @param modification the modification
+	 */
+	public void applyModification(CMLResource resource, Runnable modification) {
+		Notifier target = resource.getResourceSet() != null ? resource.getResourceSet() : resource;
+		// references have to be resolved before the change, so that the files
+		// referencing renamed or removed elements can be updated
+		if (resource.getResourceSet() != null)
+			EcoreUtil.resolveAll(resource.getResourceSet());
+		else
+			EcoreUtil.resolveAll(resource);
+		ChangeRecorder recorder = new ChangeRecorder();
+		recorder.setResolveProxies(false);
+		recorder.beginRecording(Collections.singleton(target));
+		ChangeDescription changes;
+		try {
+			modification.run();
+		} finally {
+			changes = recorder.endRecording();
+			recorder.dispose();
+		}
+		persist(changes);
+	}
+
+	private void persist(ChangeDescription changes) {
+		// calculate the new texts of all resources before the first file is written
+		Map<Resource, String> newTexts = Maps.newLinkedHashMap();
+		try {
+			for (Entry<Resource, List<CMLTextEdit>> entry : editCalculator.calculateTextEdits(changes).entrySet()) {
+				String newText = calculateNewText(entry.getKey(), entry.getValue());
+				newTexts.put(entry.getKey(), newText != null ? newText : editCalculator.serializeCompletely(entry.getKey()));
+			}
+		} catch (RuntimeException e) {
+			changes.apply();
+			throw createSerializationException(e);
+		}
+
+		for (Entry<Resource, String> entry : newTexts.entrySet())
+			writeText(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Applies the edits to the original text. Returns null if there are no
+	 * minimal edits or the node model does not match the file anymore.
+	 */
+	private String calculateNewText(Resource resource, List<CMLTextEdit> edits) {
+		if (edits == null)
+			return null;
+		String originalText = CMLTextEditCalculator.getParsedText(resource);
+		if (!originalText.equals(readFile((XtextResource) resource)))
+			return null;
+		return CMLTextEditCalculator.applyEdits(originalText, edits);
+	}
+
+	private String readFile(XtextResource resource) {
+		try (InputStream inputStream = getURIConverter(resource).createInputStream(resource.getURI())) {
+			return IOUtils.toString(inputStream, resource.getEncoding());
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void writeText(Resource resource, String text) {
+		if (text.equals(readFile((XtextResource) resource))) {
+			resource.setModified(false);
+			return;
+		}
+		try (OutputStream outputStream = getURIConverter(resource).createOutputStream(resource.getURI())) {
+			outputStream.write(text.getBytes(((XtextResource) resource).getEncoding()));
+		} catch (IOException e) {
+			throw new RuntimeException("An error occured while writing the file '" + resource.getURI() + "'.", e);
+		}
+		resource.setModified(false);
+	}
+
+	private URIConverter getURIConverter(Resource resource) {
+		return resource.getResourceSet() != null ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
+	}
+
+	private RefactoringSerializationException createSerializationException(RuntimeException e) {
+		Set<String> errorMessages = Sets.newHashSet();
+		errorMessages.add(e.getMessage());
+		return new RefactoringSerializationException(errorMessages, e);
+	}
+
+}
@@ -18,8 +18,11 @@ package org.contextmapper.dsl.standalone;
 import java.io.File;
 
 import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLModelSnapshotLoader;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.refactoring.RefactoringChangeSet;
+import org.contextmapper.dsl.refactoring.RefactoringScriptParser;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -29,16 +32,18 @@ import org.eclipse.xtext.generator.IGenerator2;
 import org.eclipse.xtext.serializer.ISerializer;
 
 import com.google.inject.Inject;
-import com.google.inject.Injector;
+import com.google.inject.Provider;
 
 public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 
 	@Inject
 	private ISerializer serializer;
 
+	@Inject
+	private Provider<ISerializer> serializerProvider;
+
 	public StandaloneContextMapper() {
-		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
-		injector.injectMembers(this);
+		ContextMappingDSLStandaloneSetup.getSharedInjector().injectMembers(this);
 	}
 
 	@Override
@@ -51,6 +56,11 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 		return new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
 	}
 
+	@Override
+	public CMLResource loadModelSnapshot(File snapshotFile) {
+		return new CMLModelSnapshotLoader().loadSnapshot(snapshotFile);
+	}
+
 	@Override
 	public void callGenerator(CMLResource cml, IGenerator2 generator) {
 		generator.doGenerate(cml, FileSystemHelper.getFileSystemAccess(), new GeneratorContext());
@@ -79,8 +89,18 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 
 	@Override
 	public void applyRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring) {
-		refactoring.refactor(cml);
-		refactoring.persistChanges(serializer);
+		// only rewrites the changed parts of the CML files
+		new CMLChangeSerializer(serializer).applyModification(cml, () -> refactoring.refactor(cml));
+	}
+
+	@Override
+	public RefactoringChangeSet previewRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring) {
+		return refactoring.preview(cml, serializerProvider);
+	}
+
+	@Override
+	public void applyRefactoringScript(CMLResource cml, File scriptFile) {
+		applyRefactoring(cml, new RefactoringScriptParser().parse(scriptFile));
 	}
 
 }
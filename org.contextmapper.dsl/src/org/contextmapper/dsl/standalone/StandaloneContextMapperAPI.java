@@ -18,6 +18,7 @@ package org.contextmapper.dsl.standalone;
 import java.io.File;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.RefactoringChangeSet;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.eclipse.xtext.generator.IGenerator2;
 
@@ -45,6 +46,16 @@ public interface StandaloneContextMapperAPI {
 	 */
 	CMLResource loadCML(File cmlFile);
 
+	/**
+	 * Loads a CML model from a binary snapshot (*.cmlbin file written by the
+	 * BinaryModelSnapshotGenerator). The snapshot contains the already linked
+	 * model, which is much faster than parsing the *.cml file.
+	 * 
+	 * @param snapshotFile the *.cmlbin file
+	 * @return the CMLResource loaded from the snapshot
+	 */
+	CMLResource loadModelSnapshot(File snapshotFile);
+
 	/**
 	 * Creates a new CML model.
 	 * 
@@ -90,10 +101,32 @@ public interface StandaloneContextMapperAPI {
 
 	/**
 	 * Applies a refactoring (must be of type SemanticCMLRefactoring) on a CML
-	 * model.
+	 * model. The changes are persisted; only the changed parts of the CML files
+	 * are rewritten.
 	 * 
 	 * @param cml         the model on which the refactoring shall be applied
 	 * @param refactoring the refactoring that shall be applied
 	 */
 	void applyRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring);
+
+	/**
+	 * Calculates the changes a refactoring would apply on a CML model, without
+	 * changing the model or the CML files (dry run).
+	 * 
+	 * @param cml         the model on which the refactoring would be applied
+	 * @param refactoring the refactoring
+	 * @return the added, removed and moved elements and the text edits per file
+	 */
+	RefactoringChangeSet previewRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring);
+
+	/**
+	 * Applies all refactorings of a refactoring script (see
+	 * {@link org.contextmapper.dsl.refactoring.RefactoringScriptParser}) on a CML
+	 * model. The refactorings are applied as one batch; the changes are
+	 * persisted once at the end, or not at all if one of the refactorings fails.
+	 * 
+	 * @param cml        the model on which the refactorings shall be applied
+	 * @param scriptFile the file containing the refactoring script
+	 */
+	void applyRefactoringScript(CMLResource cml, File scriptFile);
 }